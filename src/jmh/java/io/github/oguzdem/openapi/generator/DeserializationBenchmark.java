@@ -0,0 +1,73 @@
+package io.github.oguzdem.openapi.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks reading an order into the models generated as records and as builder classes, which
+ * Jackson creates through their canonical constructor and through their Lombok builder. The Guava
+ * module reads the collections of the records, as the README describes. Run it with the gc profiler
+ * to compare the allocations per read:
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=DeserializationBenchmark -PjmhProfilers=gc
+ * </pre>
+ *
+ * @author Oguz Demirbasci
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeserializationBenchmark {
+
+  @Param({"1", "50"})
+  private int itemCount;
+
+  private byte[] json;
+  private ObjectReader recordReader;
+  private ObjectReader builderReader;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    String items =
+        IntStream.range(0, itemCount)
+            .mapToObj(
+                i -> "{\"sku\":\"SKU-%d\",\"quantity\":%d,\"price\":%d.99}".formatted(i, i + 1, i))
+            .collect(Collectors.joining(","));
+    json =
+        ("{\"id\":42,\"customer\":\"Ann\",\"status\":\"shipped\","
+                + "\"orderedOn\":\"2024-01-02\",\"tags\":[\"gift\",\"express\"],"
+                + "\"items\":[%s],"
+                + "\"address\":{\"street\":\"Main Street 1\",\"city\":\"Leeds\","
+                + "\"postalCode\":\"LS1\"}}")
+            .formatted(items)
+            .getBytes(StandardCharsets.UTF_8);
+    ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    recordReader = mapper.readerFor(io.github.oguzdem.openapi.benchmark.records.Order.class);
+    builderReader = mapper.readerFor(io.github.oguzdem.openapi.benchmark.builders.Order.class);
+  }
+
+  @Benchmark
+  public Object readRecord() throws IOException {
+    return recordReader.readValue(json);
+  }
+
+  @Benchmark
+  public Object readBuilder() throws IOException {
+    return builderReader.readValue(json);
+  }
+}
@@ -0,0 +1,156 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.RoasterRenderer;
+import io.github.oguzdem.openapi.generator.model.TemplateRenderer;
+import io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils;
+import io.github.oguzdem.openapi.generator.utils.NameUtils;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the stages of the generation pipeline, from parsing a specification to writing the
+ * generated sources, on the bundled petstore specification and on synthetic specifications of 100
+ * to 10,000 schemas.
+ *
+ * @author Oguz Demirbasci
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenerationBenchmark {
+
+  @Param({"petstore-expanded", "synthetic-100", "synthetic-1000", "synthetic-10000"})
+  private String spec;
+
+  private Path workDirectory;
+  private Path specFile;
+  private Config config;
+  private Components components;
+  private GenerationContext generatedContext;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    workDirectory = Files.createTempDirectory("generation-benchmark");
+    specFile = SyntheticSpecs.write(spec, workDirectory);
+    Properties properties = new Properties();
+    properties.setProperty(Config.PACKAGE_NAME, "io.github.oguzdem.openapi.benchmark");
+    properties.setProperty(Config.OUTPUT_PATH, workDirectory.resolve("generated").toString());
+    config = Config.load(properties);
+    OpenAPI openapi =
+        new OpenAPIParser().readLocation(specFile.toString(), null, null).getOpenAPI();
+    components = openapi.getComponents();
+    generatedContext = generateComponentTypes();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(workDirectory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public void generate() {
+    ModelGenerator.generate(specFile.toString(), config);
+  }
+
+  @Benchmark
+  public GenerationContext getOrGenerateType() {
+    return generateComponentTypes();
+  }
+
+  @Benchmark
+  public void fillJavaClassSourceBySchema(Blackhole blackhole) {
+    GenerationContext context = new GenerationContext(config);
+    for (Map.Entry<String, Schema> entry : components.getSchemas().entrySet()) {
+      if (JavaClassSourceUtils.isObject(entry.getValue())) {
+        ClassModel classModel = new ClassModel(NameUtils.toJavaTypeNameFormat(entry.getKey()));
+        JavaClassSourceUtils.fillJavaClassSourceBySchema(
+            context, classModel, entry.getValue(), components);
+        blackhole.consume(classModel);
+      }
+    }
+  }
+
+  @Benchmark
+  public void fillAndRenderClassModels(Blackhole blackhole) {
+    GenerationContext context = new GenerationContext(config);
+    for (Map.Entry<String, Schema> entry : components.getSchemas().entrySet()) {
+      if (JavaClassSourceUtils.isObject(entry.getValue())) {
+        ClassModel classModel = new ClassModel(NameUtils.toJavaTypeNameFormat(entry.getKey()));
+        JavaClassSourceUtils.fillJavaClassSourceBySchema(
+            context, classModel, entry.getValue(), components);
+        JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+        javaClass.setName(classModel.getName());
+        blackhole.consume(RoasterRenderer.render(classModel, javaClass).toString());
+      }
+    }
+  }
+
+  @Benchmark
+  public void fillAndRenderClassModelsWithTemplate(Blackhole blackhole) {
+    GenerationContext context = new GenerationContext(config);
+    for (Map.Entry<String, Schema> entry : components.getSchemas().entrySet()) {
+      if (JavaClassSourceUtils.isObject(entry.getValue())) {
+        ClassModel classModel = new ClassModel(NameUtils.toJavaTypeNameFormat(entry.getKey()));
+        JavaClassSourceUtils.fillJavaClassSourceBySchema(
+            context, classModel, entry.getValue(), components);
+        blackhole.consume(TemplateRenderer.render(classModel, config.getPackageName(), List.of()));
+      }
+    }
+  }
+
+  @Benchmark
+  public void toNameFormats(Blackhole blackhole) {
+    for (Map.Entry<String, Schema> entry : components.getSchemas().entrySet()) {
+      blackhole.consume(NameUtils.toJavaTypeNameFormat(entry.getKey()));
+      Map<String, Schema> properties = entry.getValue().getProperties();
+      if (properties != null) {
+        properties
+            .keySet()
+            .forEach(property -> blackhole.consume(NameUtils.toJavaFieldNameFormat(property)));
+      }
+    }
+  }
+
+  @Benchmark
+  public void writeJavaSources() {
+    PojoGenerator.writeJavaSources(generatedContext);
+  }
+
+  private GenerationContext generateComponentTypes() {
+    GenerationContext context = new GenerationContext(config);
+    components
+        .getSchemas()
+        .forEach(
+            (name, schema) -> TypeGenerator.getOrGenerateType(context, name, schema, components));
+    return context;
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.spec.SyntheticSpecGenerator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Specifications the benchmarks generate from. The synthetic specifications are generated by {@link
+ * SyntheticSpecGenerator} with its default shape.
+ *
+ * @author Oguz Demirbasci
+ */
+final class SyntheticSpecs {
+
+  private static final String SYNTHETIC_PREFIX = "synthetic-";
+
+  private SyntheticSpecs() {}
+
+  /**
+   * Writes the specification with the given name into the given directory. The name is either the
+   * name of a bundled specification, such as <b>petstore-expanded</b>, or <b>synthetic-[count]</b>
+   * for a synthetic specification with the given number of schemas.
+   *
+   * @param name the name of the specification
+   * @param directory the directory to write the specification into
+   * @return the path of the written specification
+   */
+  static Path write(String name, Path directory) {
+    Path specFile = directory.resolve(name + ".yaml");
+    try {
+      if (name.startsWith(SYNTHETIC_PREFIX)) {
+        int schemaCount = Integer.parseInt(name.substring(SYNTHETIC_PREFIX.length()));
+        SyntheticSpecGenerator.builder().schemaCount(schemaCount).build().write(specFile);
+      } else {
+        try (InputStream resource =
+            SyntheticSpecs.class.getClassLoader().getResourceAsStream(name + ".yaml")) {
+          if (resource == null) {
+            throw new IllegalArgumentException("Specification is not found: " + name);
+          }
+          Files.copy(resource, specFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Specification cannot be written: " + specFile, e);
+    }
+    return specFile;
+  }
+}
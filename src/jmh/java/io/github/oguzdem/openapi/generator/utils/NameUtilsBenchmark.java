@@ -0,0 +1,99 @@
+package io.github.oguzdem.openapi.generator.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the name conversions of {@link NameUtils} with the regular expression based {@link
+ * LegacyNameUtils}. The corpus consists of property, schema and enum names in the styles commonly
+ * found in OpenAPI specifications, and every name is converted several times, as during the
+ * generation of a specification whose schemas share their property names.
+ *
+ * @author Oguz Demirbasci
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameUtilsBenchmark {
+
+  private static final List<String> NAMES =
+      List.of(
+          "id",
+          "name",
+          "createdAt",
+          "updated_at",
+          "userID",
+          "firstName",
+          "last-name",
+          "emailAddress",
+          "phone_number",
+          "XMLHttpRequest",
+          "httpStatusCode",
+          "ISOCountryCode",
+          "postal code",
+          "$ref",
+          "_links",
+          "__internalId",
+          "123 test",
+          "x-rate-limit-remaining",
+          "Content-Type",
+          "IN_PROGRESS",
+          "not-started",
+          "orderLineItems",
+          "PaymentMethodDetails",
+          "billing_address_line_1",
+          "shippingAddress",
+          "[deprecated] status",
+          "totalAmountInCents",
+          "currencyISO4217",
+          "customerAccountNumber",
+          "api_version");
+
+  private static final int REPETITIONS = 8;
+
+  private List<String> corpus;
+
+  @Setup
+  public void setUp() {
+    corpus = new ArrayList<>(NAMES.size() * REPETITIONS);
+    for (int i = 0; i < REPETITIONS; i++) {
+      corpus.addAll(NAMES);
+    }
+  }
+
+  @Benchmark
+  public void legacy(Blackhole blackhole) {
+    for (String name : corpus) {
+      blackhole.consume(LegacyNameUtils.toEnumValueFormat(name));
+      blackhole.consume(LegacyNameUtils.toJavaFieldNameFormat(name));
+      blackhole.consume(LegacyNameUtils.toJavaTypeNameFormat(name));
+    }
+  }
+
+  @Benchmark
+  public void singlePass(Blackhole blackhole) {
+    for (String name : corpus) {
+      blackhole.consume(NameConverter.toEnumValue(name));
+      blackhole.consume(NameConverter.toJavaFieldName(name));
+      blackhole.consume(NameConverter.toJavaTypeName(NameConverter.toJavaFieldName(name)));
+    }
+  }
+
+  @Benchmark
+  public void cached(Blackhole blackhole) {
+    for (String name : corpus) {
+      blackhole.consume(NameUtils.toEnumValueFormat(name));
+      blackhole.consume(NameUtils.toJavaFieldNameFormat(name));
+      blackhole.consume(NameUtils.toJavaTypeNameFormat(name));
+    }
+  }
+}
@@ -0,0 +1,386 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils;
+import io.github.oguzdem.openapi.generator.utils.NameUtils;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Generates the models of several specifications in one run. Component schemas that have the same
+ * name and the same structure in more than one specification are interned with {@link
+ * InternedSchema} and generated once into the shared package of the configuration. Every
+ * specification is generated into its own sub-package of the configured package, named after its
+ * file and numbered if it is the shared package, and refers to the shared types by their qualified
+ * names.
+ *
+ * <p>A schema is only shared by a specification if every component schema it references is shared
+ * by that specification too, so a shared type never refers to a type of a single specification. A
+ * schema that is a oneOf subtype of a schema that is not shared, or of a response body, is not
+ * shared either, since the generated interface of the oneOf schema has to be added to its class.
+ * When the specifications declare different structures under the same name, the structure that most
+ * specifications declare is shared.
+ *
+ * <p>Schemas are only deduplicated by name and structure together. The same structure declared
+ * under different names is generated once per name, as the name is part of the API of every
+ * specification that refers to it.
+ *
+ * <p>The specifications are parsed and generated on a fork-join pool. The schemas of a single
+ * specification are generated one by one; the incremental generation and the streaming ingestion do
+ * not apply to the batch mode.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+public class BatchModelGenerator {
+
+  private static final GenerationContext.StateKey<SharedTypes> SHARED_TYPES =
+      new GenerationContext.StateKey<>(SharedTypes.class, SharedTypes::new);
+
+  private record Spec(String packageName, Components components, Map<String, PathItem> paths) {}
+
+  /**
+   * Generates the models of the given specifications.
+   *
+   * @param inputFilePaths the specifications
+   * @param config the configuration of the run
+   */
+  public static void generate(@NonNull List<String> inputFilePaths, @NonNull Config config) {
+    Map<String, String> packageNames =
+        packageNames(inputFilePaths, config.getPackageName(), config.getSharedPackageName());
+    List<Spec> specs =
+        invokeAll(
+            inputFilePaths,
+            inputFilePath -> {
+              OpenAPI openapi =
+                  new OpenAPIParser().readLocation(inputFilePath, null, null).getOpenAPI();
+              Components components =
+                  Objects.nonNull(openapi.getComponents())
+                      ? openapi.getComponents()
+                      : new Components();
+              return new Spec(packageNames.get(inputFilePath), components, openapi.getPaths());
+            });
+
+    List<Set<String>> sharedNames = sharedNames(specs);
+    Map<String, Schema> sharedSchemas = new LinkedHashMap<>();
+    for (int i = 0; i < specs.size(); i++) {
+      Set<String> names = sharedNames.get(i);
+      Map<String, Schema> schemas = specs.get(i).components().getSchemas();
+      if (ObjectUtils.isNotEmpty(schemas)) {
+        schemas.forEach(
+            (name, schema) -> {
+              if (names.contains(name)) {
+                sharedSchemas.putIfAbsent(name, schema);
+              }
+            });
+      }
+    }
+    log.info("{} schemas are shared by {} specifications", sharedSchemas.size(), specs.size());
+
+    Config sharedConfig = config.withPackageName(config.getSharedPackageName());
+    if (!sharedSchemas.isEmpty()) {
+      Components sharedComponents = new Components().schemas(sharedSchemas);
+      GenerationContext sharedContext = new GenerationContext(sharedConfig);
+      ModelGenerator.generateComponentTypes(sharedContext, sharedComponents);
+      PojoGenerator.writeJavaSources(sharedContext);
+    }
+
+    List<Integer> indexes = new ArrayList<>();
+    for (int i = 0; i < specs.size(); i++) {
+      indexes.add(i);
+    }
+    invokeAll(
+        indexes,
+        i -> {
+          generate(config, sharedConfig.getPackageName(), specs.get(i), sharedNames.get(i));
+          return i;
+        });
+  }
+
+  private static void generate(
+      Config config, String sharedPackageName, Spec spec, Set<String> sharedNames) {
+    GenerationContext context = new GenerationContext(config.withPackageName(spec.packageName()));
+    Map<String, Schema> schemas = spec.components().getSchemas();
+    sharedNames.forEach(
+        name ->
+            putSharedType(
+                context,
+                name,
+                schemas.get(name),
+                sharedPackageName + "." + NameUtils.toJavaTypeNameFormat(name)));
+    if (ObjectUtils.isNotEmpty(schemas)) {
+      schemas.forEach(
+          (name, schema) -> {
+            if (!sharedNames.contains(name)) {
+              TypeGenerator.getOrGenerateType(context, name, schema, spec.components());
+            }
+          });
+    }
+    ModelGenerator.generatePathTypes(context, spec.paths(), spec.components());
+    PojoGenerator.writeJavaSources(context);
+  }
+
+  /**
+   * Finds the component schemas every specification shares with the others.
+   *
+   * @param specs the specifications
+   * @return the shared schema names of every specification, in specification order
+   */
+  private static List<Set<String>> sharedNames(List<Spec> specs) {
+    Map<String, InternedSchema> sharedSchemas = mostDeclaredSchemas(specs);
+    List<SchemaDependencyGraph> graphs = new ArrayList<>();
+    List<Map<String, Set<String>>> oneOfOwners = new ArrayList<>();
+    List<Set<String>> sharedNames = new ArrayList<>();
+    for (Spec spec : specs) {
+      graphs.add(SchemaDependencyGraph.of(spec.components()));
+      oneOfOwners.add(oneOfOwners(spec));
+      Set<String> names = new HashSet<>();
+      Map<String, Schema> schemas = spec.components().getSchemas();
+      if (ObjectUtils.isNotEmpty(schemas)) {
+        schemas.forEach(
+            (name, schema) -> {
+              if (InternedSchema.of(schema).equals(sharedSchemas.get(name))) {
+                names.add(name);
+              }
+            });
+      }
+      sharedNames.add(names);
+    }
+
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int i = 0; i < specs.size(); i++) {
+        Set<String> names = sharedNames.get(i);
+        SchemaDependencyGraph graph = graphs.get(i);
+        Map<String, Set<String>> owners = oneOfOwners.get(i);
+        changed |=
+            names.removeIf(
+                name ->
+                    !names.containsAll(graph.getReferences(name))
+                        || !names.containsAll(owners.getOrDefault(name, Set.of())));
+      }
+      Map<String, Integer> counts = new HashMap<>();
+      sharedNames.forEach(names -> names.forEach(name -> counts.merge(name, 1, Integer::sum)));
+      for (Set<String> names : sharedNames) {
+        changed |= names.removeIf(name -> counts.get(name) < 2);
+      }
+    }
+    return sharedNames;
+  }
+
+  private static Map<String, InternedSchema> mostDeclaredSchemas(List<Spec> specs) {
+    Map<String, Map<InternedSchema, Integer>> declarations = new LinkedHashMap<>();
+    for (Spec spec : specs) {
+      Map<String, Schema> schemas = spec.components().getSchemas();
+      if (ObjectUtils.isNotEmpty(schemas)) {
+        schemas.forEach(
+            (name, schema) ->
+                declarations
+                    .computeIfAbsent(name, k -> new LinkedHashMap<>())
+                    .merge(InternedSchema.of(schema), 1, Integer::sum));
+      }
+    }
+
+    Map<String, InternedSchema> mostDeclared = new HashMap<>();
+    declarations.forEach(
+        (name, counts) ->
+            counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .max(Map.Entry.comparingByValue())
+                .ifPresent(entry -> mostDeclared.put(name, entry.getKey())));
+    return mostDeclared;
+  }
+
+  // Maps every component schema that is a oneOf subtype to the schemas its interface belongs to.
+  // A subtype of a response body is mapped to a name that is never shared.
+  private static Map<String, Set<String>> oneOfOwners(Spec spec) {
+    Map<String, Set<String>> owners = new HashMap<>();
+    Map<String, Schema> schemas = spec.components().getSchemas();
+    if (ObjectUtils.isNotEmpty(schemas)) {
+      schemas.forEach(
+          (name, schema) -> addOwner(owners, collectOneOfSubtypes(schema, newIdentitySet()), name));
+    }
+    if (Objects.isNull(spec.paths())) {
+      return owners;
+    }
+    for (PathItem pathItem : spec.paths().values()) {
+      for (Operation operation : pathItem.readOperations()) {
+        if (Objects.isNull(operation.getResponses())) {
+          continue;
+        }
+        for (ApiResponse response : operation.getResponses().values()) {
+          if (Objects.nonNull(response.getContent())) {
+            response
+                .getContent()
+                .values()
+                .forEach(
+                    mediaType ->
+                        addOwner(
+                            owners,
+                            collectOneOfSubtypes(mediaType.getSchema(), newIdentitySet()),
+                            StringUtils.EMPTY));
+          }
+        }
+      }
+    }
+    return owners;
+  }
+
+  private static void addOwner(
+      Map<String, Set<String>> owners, Set<String> subtypes, String owner) {
+    subtypes.forEach(subtype -> owners.computeIfAbsent(subtype, k -> new HashSet<>()).add(owner));
+  }
+
+  private static Set<String> collectOneOfSubtypes(Schema<?> schema, Set<Schema<?>> visited) {
+    Set<String> subtypes = new HashSet<>();
+    if (Objects.isNull(schema) || JavaClassSourceUtils.isRef(schema) || !visited.add(schema)) {
+      return subtypes;
+    }
+    if (Objects.nonNull(schema.getOneOf())) {
+      schema.getOneOf().stream()
+          .filter(JavaClassSourceUtils::isRef)
+          .map(Schema::get$ref)
+          .filter(ref -> ref.startsWith(Components.COMPONENTS_SCHEMAS_REF))
+          .forEach(ref -> subtypes.add(ref.substring(Components.COMPONENTS_SCHEMAS_REF.length())));
+    }
+    List<Schema> children = new ArrayList<>();
+    if (Objects.nonNull(schema.getProperties())) {
+      children.addAll(schema.getProperties().values());
+    }
+    children.add(schema.getItems());
+    children.add(schema.getNot());
+    if (Objects.nonNull(schema.getAllOf())) {
+      children.addAll(schema.getAllOf());
+    }
+    if (Objects.nonNull(schema.getAnyOf())) {
+      children.addAll(schema.getAnyOf());
+    }
+    if (Objects.nonNull(schema.getOneOf())) {
+      children.addAll(schema.getOneOf());
+    }
+    if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+      children.add(additionalProperties);
+    }
+    for (Schema<?> child : children) {
+      subtypes.addAll(collectOneOfSubtypes(child, visited));
+    }
+    return subtypes;
+  }
+
+  private static Set<Schema<?>> newIdentitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  // Every specification gets a sub-package named after its file, numbered if the name clashes
+  // with another specification or with the shared package
+  private static Map<String, String> packageNames(
+      List<String> inputFilePaths, String packageName, String sharedPackageName) {
+    Map<String, String> packageNames = new HashMap<>();
+    Set<String> segments = new HashSet<>();
+    segments.add(StringUtils.removeStart(sharedPackageName, packageName + "."));
+    for (String inputFilePath : inputFilePaths) {
+      String fileName = Objects.toString(Path.of(inputFilePath).getFileName(), "");
+      String segment =
+          StringUtils.lowerCase(StringUtils.substringBeforeLast(fileName, "."))
+              .replaceAll("[^a-z0-9]", "");
+      if (segment.isEmpty() || !Character.isLetter(segment.charAt(0))) {
+        segment = "spec" + segment;
+      }
+      String uniqueSegment = segment;
+      for (int occurrence = 2; !segments.add(uniqueSegment); occurrence++) {
+        uniqueSegment = segment + occurrence;
+      }
+      packageNames.put(inputFilePath, packageName + "." + uniqueSegment);
+    }
+    return packageNames;
+  }
+
+  private static <T, R> List<R> invokeAll(List<T> inputs, Function<T, R> task) {
+    List<Callable<R>> tasks = new ArrayList<>();
+    inputs.forEach(input -> tasks.add(() -> task.apply(input)));
+
+    ForkJoinPool pool = new ForkJoinPool();
+    try {
+      List<R> results = new ArrayList<>();
+      for (Future<R> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Batch generation is interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Registers a type that is generated into another package. The schema is looked up as the
+   * generated schema of the given name, so refs to it resolve to the qualified type name.
+   *
+   * @param context the generation context of the specification
+   * @param name the name of the type
+   * @param schema the schema the type is generated from
+   * @param qualifiedTypeName the qualified name of the generated type
+   */
+  private static void putSharedType(
+      GenerationContext context, String name, Schema<?> schema, String qualifiedTypeName) {
+    InternedSchema internedSchema = InternedSchema.of(schema);
+    context.generatedNameToSchema.put(name, internedSchema);
+    context.schemaToGeneratedName.put(internedSchema, name);
+    context.generatedObjectsOccurrence.put(name, 1);
+    context.getState(SHARED_TYPES).typeNames.put(name, qualifiedTypeName);
+  }
+
+  /**
+   * Returns the qualified name of the shared type generated with the given name.
+   *
+   * @param context the generation context of the specification
+   * @param generatedName the generated name of the type
+   * @return the qualified type name or null if the type is not a shared type
+   */
+  static String getSharedTypeName(GenerationContext context, String generatedName) {
+    return context.getState(SHARED_TYPES).typeNames.get(generatedName);
+  }
+
+  /** The qualified names of the shared types by their generated names. */
+  private static final class SharedTypes implements GenerationContext.State<SharedTypes> {
+    private final Map<String, String> typeNames = new ConcurrentHashMap<>();
+
+    @Override
+    public void merge(SharedTypes other) {
+      typeNames.putAll(other.typeNames);
+    }
+  }
+}
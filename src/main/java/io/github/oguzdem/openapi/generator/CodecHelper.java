@@ -0,0 +1,209 @@
+package io.github.oguzdem.openapi.generator;
+
+import static io.github.oguzdem.openapi.generator.utils.JavaLiteralUtils.toStringLiteral;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.github.oguzdem.openapi.generator.model.AnnotationModel;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Helper class for the generators of the classes that read and write the models, the Jackson codecs
+ * of {@link JacksonCodecGenerator} and the views of {@link JsonViewGenerator}. It reads the fields
+ * of a model, and adds the constants these classes share, such as the Jackson types of the fields
+ * and the formats of the dates, to the class that uses them.
+ *
+ * @author Oguz Demirbasci
+ */
+final class CodecHelper {
+
+  /** Guava collections that are read as lists, so they are read without the Guava module. */
+  static final List<Class<?>> COLLECTION_TYPES = List.of(ImmutableList.class, ImmutableSet.class);
+
+  private static final Set<Modifier> CONSTANT_MODIFIERS =
+      EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+  private static final Set<String> DATE_TIME_TYPES = Set.of("Date", "OffsetDateTime");
+
+  private CodecHelper() {}
+
+  /**
+   * Adds the constant of the Jackson type of the given field to the given nested class, and returns
+   * the name of the constant.
+   *
+   * @param rootClassModel the top level class that keeps the imports
+   * @param codec the nested class to add the constant to
+   * @param fieldName the name of the field
+   * @param type the type to construct
+   * @return the name of the constant
+   */
+  static String addJavaType(
+      ClassModel rootClassModel, ClassModel codec, String fieldName, String type) {
+    rootClassModel.addImport(JavaType.class);
+    rootClassModel.addImport(TypeFactory.class);
+    return addConstant(
+        codec,
+        JavaType.class.getSimpleName(),
+        toConstantName(fieldName) + "_TYPE",
+        toJavaTypeExpression(type));
+  }
+
+  /**
+   * Adds a private constant to the given nested class, and returns its name. The name is numbered
+   * if the class already has a field with the name, as the constant names of different fields, such
+   * as {@code userId} and {@code userID}, may be the same.
+   *
+   * @param codec the nested class to add the constant to
+   * @param type the type of the constant as it is written in the source
+   * @param name the name of the constant
+   * @param value the initializer of the constant
+   * @return the name of the added constant
+   */
+  static String addConstant(ClassModel codec, String type, String name, String value) {
+    String constant = name;
+    for (int occurrence = 2; codec.getField(constant).isPresent(); occurrence++) {
+      constant = name + "_" + occurrence;
+    }
+    codec.addField(new FieldModel(type, constant, CONSTANT_MODIFIERS, value, new ArrayList<>()));
+    return constant;
+  }
+
+  /**
+   * Returns the expression that constructs the Jackson type of the given type. Parameterized types
+   * are constructed from the types of their arguments rather than with a {@link
+   * com.fasterxml.jackson.core.type.TypeReference}, as the anonymous class of a type reference is
+   * dropped from the initializer of a field by Roaster.
+   *
+   * @param type the type, such as {@code Map<String, List<Pet>>}
+   * @return the expression of the Jackson type
+   */
+  static String toJavaTypeExpression(String type) {
+    int argumentsStart = type.indexOf('<');
+    if (argumentsStart < 0) {
+      return "TypeFactory.defaultInstance().constructType(%s.class)".formatted(type.strip());
+    }
+    StringBuilder arguments = new StringBuilder();
+    int depth = 0;
+    int argumentStart = argumentsStart + 1;
+    int argumentsEnd = type.lastIndexOf('>');
+    for (int i = argumentStart; i <= argumentsEnd; i++) {
+      char c = type.charAt(i);
+      if (c == '<') {
+        depth++;
+      } else if (c == '>' && depth > 0) {
+        depth--;
+      } else if (c == ',' && depth == 0 || i == argumentsEnd) {
+        arguments.append(", ").append(toJavaTypeExpression(type.substring(argumentStart, i)));
+        argumentStart = i + 1;
+      }
+    }
+    return "TypeFactory.defaultInstance().constructParametricType(%s.class%s)"
+        .formatted(type.substring(0, argumentsStart).strip(), arguments);
+  }
+
+  /**
+   * Returns the expression that parses the given text into the date or date-time of the given
+   * field, with the pattern of its {@link JsonFormat} kept in a constant of the given nested class.
+   *
+   * @param rootClassModel the top level class that keeps the imports
+   * @param codec the nested class to add the constant to
+   * @param field the field with a formatted date or date-time
+   * @param text the expression of the text to parse
+   * @return the parse expression
+   */
+  static String toDateTimeParse(
+      ClassModel rootClassModel, ClassModel codec, FieldModel field, String text) {
+    String format = addDateTimeFormat(rootClassModel, codec, field);
+    if ("Date".equals(field.type())) {
+      rootClassModel.addImport(LocalDate.class);
+      return "Date.from(LocalDate.parse(%s, %s)".formatted(text, format)
+          + ".atStartOfDay(ZoneOffset.UTC).toInstant())";
+    }
+    return "OffsetDateTime.parse(%s, %s)".formatted(text, format);
+  }
+
+  /**
+   * Adds the constant of the formatter of the date or date-time of the given field, with the
+   * pattern of its {@link JsonFormat}, to the given nested class, and returns the name of the
+   * constant.
+   *
+   * @param rootClassModel the top level class that keeps the imports
+   * @param codec the nested class to add the constant to
+   * @param field the field with a formatted date or date-time
+   * @return the name of the constant
+   */
+  static String addDateTimeFormat(ClassModel rootClassModel, ClassModel codec, FieldModel field) {
+    rootClassModel.addImport(DateTimeFormatter.class);
+    rootClassModel.addImport(ZoneOffset.class);
+    String pattern = field.getAnnotation(JsonFormat.class).values().get("pattern").literal();
+    return addConstant(
+        codec,
+        DateTimeFormatter.class.getSimpleName(),
+        toConstantName(field.name()) + "_FORMAT",
+        "DateTimeFormatter.ofPattern(%s).withZone(ZoneOffset.UTC)"
+            .formatted(toStringLiteral(pattern)));
+  }
+
+  /**
+   * Checks if the given field is a date or date-time with the pattern of a {@link JsonFormat}.
+   *
+   * @param field the field
+   * @return true if the field is a formatted date or date-time
+   */
+  static boolean isFormattedDateTime(FieldModel field) {
+    AnnotationModel jsonFormat = field.getAnnotation(JsonFormat.class);
+    return DATE_TIME_TYPES.contains(field.type())
+        && jsonFormat != null
+        && jsonFormat.values().containsKey("pattern");
+  }
+
+  /**
+   * Returns the instance fields of the given class, which are its properties, or the components of
+   * a record.
+   *
+   * @param classModel the class model
+   * @return the fields that are not static, in the order of the class
+   */
+  static List<FieldModel> getInstanceFields(ClassModel classModel) {
+    return classModel.getFields().stream()
+        .filter(field -> !field.modifiers().contains(Modifier.STATIC))
+        .toList();
+  }
+
+  /**
+   * Returns the JSON name of the given field, the value of its {@link JsonProperty}.
+   *
+   * @param field the field annotated with {@link JsonProperty}
+   * @return the JSON name of the field
+   */
+  static String getJsonName(FieldModel field) {
+    return field
+        .getAnnotation(JsonProperty.class)
+        .values()
+        .get(AnnotationModel.DEFAULT_MEMBER)
+        .literal();
+  }
+
+  /**
+   * Converts the given field name into the upper snake case name of a constant.
+   *
+   * @param fieldName the field name in lower camel case
+   * @return the constant name
+   */
+  static String toConstantName(String fieldName) {
+    return fieldName.replaceAll("(?<=[a-z0-9])(?=[A-Z])", "_").toUpperCase(Locale.ROOT);
+  }
+}
@@ -1,62 +1,246 @@
 package io.github.oguzdem.openapi.generator;
 
-import io.github.oguzdem.openapi.generator.gradleplugin.GenerateOpenApiModelsExtension;
+import com.google.common.hash.Hashing;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
+ * Configuration of a generation run. Every {@link GenerationContext} holds its own configuration,
+ * so runs with different configurations can share a JVM. Properties that are not set fall back to
+ * the system properties and then to the defaults.
+ *
  * @author Oguz Demirbasci
  */
 public final class Config {
   public static final String PACKAGE_NAME = "packageName";
   public static final String OUTPUT_PATH = "outputPath";
   public static final String ENABLE_BEAN_VALIDATION_SUPPORT = "enableBeanValidationSupport";
+  public static final String ENABLE_PARALLEL_GENERATION = "enableParallelGeneration";
+  public static final String SKIP_UNCHANGED_OUTPUT = "skipUnchangedOutput";
+  public static final String ENABLE_INCREMENTAL_GENERATION = "enableIncrementalGeneration";
+  public static final String ENABLE_TEMPLATE_SOURCE_EMITTER = "enableTemplateSourceEmitter";
+  public static final String ENABLE_STREAMING_INGESTION = "enableStreamingIngestion";
+  public static final String SHARED_PACKAGE_NAME = "sharedPackageName";
+  public static final String ENABLE_PRIMITIVE_NUMERIC_ARRAYS = "enablePrimitiveNumericArrays";
+  public static final String ENABLE_JACKSON_CODECS = "enableJacksonCodecs";
+  public static final String ENABLE_RECORD_MODELS = "enableRecordModels";
+  public static final String ENABLE_POOLED_MODELS = "enablePooledModels";
+  public static final String ENABLE_JSON_VIEWS = "enableJsonViews";
 
-  private static final Properties PROPERTIES = System.getProperties();
+  /** Names of the properties of the configuration, which are the values of the constants above. */
+  private static final Set<String> PROPERTY_NAMES = propertyNames();
 
-  private Config() {}
+  private final Properties properties;
 
-  public static void load(GenerateOpenApiModelsExtension pluginConfig) {
-    PROPERTIES.setProperty(PACKAGE_NAME, pluginConfig.getPackageName());
-    PROPERTIES.setProperty(OUTPUT_PATH, pluginConfig.getOutputPath());
-    PROPERTIES.setProperty(
-        ENABLE_BEAN_VALIDATION_SUPPORT,
-        String.valueOf(pluginConfig.isEnableBeanValidationSupport()));
+  private Config(Properties properties) {
+    this.properties = properties;
   }
 
-  public static void load(FileInputStream fileInputStream) throws IOException {
-    PROPERTIES.load(fileInputStream);
+  public static Config defaults() {
+    return new Config(new Properties(System.getProperties()));
   }
 
-  public static void load(String propertiesPath) throws IOException {
+  /**
+   * Loads the given properties over the defaults.
+   *
+   * @param properties the properties of the configuration
+   * @return the configuration
+   */
+  public static Config load(Properties properties) {
+    Config config = defaults();
+    config.properties.putAll(properties);
+    return config;
+  }
+
+  public static Config load(FileInputStream fileInputStream) throws IOException {
+    Config config = defaults();
+    config.properties.load(fileInputStream);
+    return config;
+  }
+
+  public static Config load(String propertiesPath) throws IOException {
     try (FileInputStream fileInputStream = new FileInputStream(propertiesPath)) {
-      Config.load(fileInputStream);
+      return Config.load(fileInputStream);
     }
   }
 
-  public static void load(Path propertiesPath) throws IOException {
-    Config.load(String.valueOf(propertiesPath));
+  public static Config load(Path propertiesPath) throws IOException {
+    return Config.load(String.valueOf(propertiesPath));
+  }
+
+  public String get(String key) {
+    return properties.getProperty(key);
+  }
+
+  public String getPackageName() {
+    return properties.getProperty(PACKAGE_NAME, "io.github.oguzdem.openapi.generated");
+  }
+
+  /**
+   * Returns the package the types shared by the specifications of a batch are generated into.
+   *
+   * @return the shared package name
+   */
+  public String getSharedPackageName() {
+    return properties.getProperty(SHARED_PACKAGE_NAME, getPackageName() + ".common");
+  }
+
+  public String getOutputPath() {
+    return properties.getProperty(OUTPUT_PATH, "build/generated/sources/openapi");
+  }
+
+  public boolean isBeanValidationEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_BEAN_VALIDATION_SUPPORT, "True"));
+  }
+
+  public boolean isParallelGenerationEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_PARALLEL_GENERATION, "False"));
+  }
+
+  public boolean isSkipUnchangedOutputEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(SKIP_UNCHANGED_OUTPUT, "False"));
   }
 
-  public static String get(String key) {
-    return PROPERTIES.getProperty(key);
+  public boolean isIncrementalGenerationEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_INCREMENTAL_GENERATION, "False"));
   }
 
-  public static String getPackageName() {
-    return PROPERTIES.getProperty(PACKAGE_NAME, "io.github.oguzdem.openapi.generated");
+  public boolean isTemplateSourceEmitterEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_TEMPLATE_SOURCE_EMITTER, "False"));
   }
 
-  public static String getOutputPath() {
-    return PROPERTIES.getProperty(OUTPUT_PATH, "build/generated/sources/");
+  /**
+   * Returns whether the specification is read with {@link StreamingSpecReader}, so the component
+   * schemas are only read as they are generated. The generated schemas and sources are still kept
+   * until the run ends, so the heap is not bounded.
+   *
+   * @return true if the streaming ingestion is enabled
+   */
+  public boolean isStreamingIngestionEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_STREAMING_INGESTION, "False"));
   }
 
-  public static boolean isBeanValidationEnabled() {
-    return Boolean.parseBoolean(PROPERTIES.getProperty(ENABLE_BEAN_VALIDATION_SUPPORT, "True"));
+  /**
+   * Returns whether the arrays of integers and numbers are generated as primitive arrays instead of
+   * lists of boxed numbers.
+   *
+   * @return true if the primitive numeric arrays are enabled
+   */
+  public boolean isPrimitiveNumericArraysEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_PRIMITIVE_NUMERIC_ARRAYS, "False"));
+  }
+
+  /**
+   * Returns whether a Jackson serializer and deserializer are generated for every class, together
+   * with a module that registers them, so the classes are not introspected by Jackson.
+   *
+   * @return true if the Jackson codecs are enabled
+   */
+  public boolean isJacksonCodecsEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_JACKSON_CODECS, "False"));
+  }
+
+  /**
+   * Returns whether the regular classes are generated as records that Jackson creates through their
+   * canonical constructor, instead of Lombok value classes that Jackson creates through a builder.
+   *
+   * @return true if the record models are enabled
+   */
+  public boolean isRecordModelsEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_RECORD_MODELS, "False"));
+  }
+
+  /**
+   * Returns whether the regular classes are generated as mutable Lombok data classes with a reset
+   * method and a pool of reusable instances, instead of immutable value classes. The record models
+   * take precedence, and the Jackson codecs are not generated for the mutable classes.
+   *
+   * @return true if the pooled models are enabled
+   */
+  public boolean isPooledModelsEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_POOLED_MODELS, "False"));
+  }
+
+  /**
+   * Returns whether every class nests a view that reads its properties lazily out of the raw JSON
+   * bytes of an instance, without reading the JSON into the class.
+   *
+   * @return true if the JSON views are enabled
+   */
+  public boolean isJsonViewsEnabled() {
+    return Boolean.parseBoolean(properties.getProperty(ENABLE_JSON_VIEWS, "False"));
+  }
+
+  /**
+   * Returns the source emitter of the generated classes. The template emitter writes the classes
+   * without Roaster when it is enabled, otherwise Roaster is used. Roaster cannot turn a class
+   * source into a record, so the template emitter is used for the record models as well.
+   *
+   * @return the source emitter
+   */
+  public SourceEmitter getSourceEmitter() {
+    return isTemplateSourceEmitterEnabled() || isRecordModelsEnabled()
+        ? SourceEmitter.TEMPLATE
+        : SourceEmitter.ROASTER;
+  }
+
+  /**
+   * Returns a copy of this configuration that generates into the given package.
+   *
+   * @param packageName the package name of the generated models
+   * @return the configuration of the package
+   */
+  Config withPackageName(String packageName) {
+    Properties packageProperties = new Properties(properties);
+    packageProperties.setProperty(PACKAGE_NAME, packageName);
+    return new Config(packageProperties);
+  }
+
+  /**
+   * Returns the fingerprint of the whole configuration. It covers the value of every property of
+   * the configuration, whether it is set or falls back to a system property, and every other
+   * property the configuration is given, sorted by name. The system properties that are not
+   * properties of the configuration are left out, as they change from one JVM to the other.
+   *
+   * @return the SHA-256 hash of the properties
+   */
+  String fingerprint() {
+    Map<String, String> values = new TreeMap<>();
+    PROPERTY_NAMES.forEach(name -> values.put(name, properties.getProperty(name)));
+    for (String name : properties.stringPropertyNames()) {
+      String value = properties.getProperty(name);
+      if (!value.equals(System.getProperty(name))) {
+        values.put(name, value);
+      }
+    }
+    return Hashing.sha256().hashString(values.toString(), StandardCharsets.UTF_8).toString();
+  }
+
+  private static Set<String> propertyNames() {
+    Set<String> names = new TreeSet<>();
+    for (Field field : Config.class.getFields()) {
+      if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+        try {
+          names.add((String) field.get(null));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+    return Collections.unmodifiableSet(names);
   }
 
-  public static String getFullOutputPath() {
-    return Config.getOutputPath() + "/" + Config.getPackageName().replace(".", "/");
+  public String getFullOutputPath() {
+    return getOutputPath() + "/" + getPackageName().replace(".", "/");
   }
 }
@@ -0,0 +1,173 @@
+package io.github.oguzdem.openapi.generator;
+
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isRef;
+
+import com.google.common.collect.MapMaker;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NonNull;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Members of a schema with its <b>allOf</b> and <b>anyOf</b> compositions merged in. The members
+ * are, in declaration order, the properties of the schema, the members of every <b>allOf</b> and
+ * then every <b>anyOf</b> schema, the schema itself if it has <b>oneOf</b> schemas and the
+ * additional properties of the schema. AnyOf is merged the same way as allOf because of the java
+ * Pojo and jackson limitations.
+ *
+ * <p>A property keeps the required flag of the schema that declares it. A property or additional
+ * properties declared more than once are kept at their first position. Compositions that refer back
+ * to a schema that is being flattened are skipped.
+ *
+ * <p>The flattened schemas are cached in the {@link GenerationContext}, so a base schema shared by
+ * many compositions is resolved once per generation run. A schema flattened while one of the
+ * schemas it refers back to is in progress misses the members of that schema, so it is not cached.
+ *
+ * @param members the members of the schema
+ * @author Oguz Demirbasci
+ */
+public record FlattenedSchema(List<Member> members) {
+
+  private static final GenerationContext.StateKey<Cache> CACHE =
+      new GenerationContext.StateKey<>(Cache.class, Cache::new);
+
+  /** Kind of a member of a flattened schema. */
+  public enum Kind {
+    /** A property of the schema. */
+    PROPERTY,
+    /** A schema with <b>oneOf</b> schemas the class implements. */
+    ONE_OF,
+    /** Additional properties of the schema. */
+    ADDITIONAL_PROPERTIES
+  }
+
+  /**
+   * Member of a flattened schema.
+   *
+   * @param kind the kind of the member
+   * @param name the name of the property, null for the other kinds
+   * @param schema the schema of the property, otherwise the schema that declares the member
+   * @param required true if the property is required
+   */
+  public record Member(Kind kind, String name, Schema<?> schema, boolean required) {}
+
+  /**
+   * Returns the flattened form of the given schema.
+   *
+   * @param context the generation context that caches the flattened schemas
+   * @param schema the schema to flatten
+   * @param components the components object to resolve the referenced schemas
+   * @return the flattened schema
+   */
+  public static FlattenedSchema of(
+      @NonNull GenerationContext context, @NonNull Schema<?> schema, Components components) {
+    Map<Schema<?>, Integer> inProgress = new IdentityHashMap<>();
+    return of(context, schema, RefIndex.of(components), inProgress).flattened();
+  }
+
+  // A schema is cached only if no composition that refers to one of its ancestors is skipped, as
+  // it misses the members of that ancestor when it is flattened on its own
+  private static Result of(
+      GenerationContext context,
+      Schema<?> schema,
+      RefIndex refIndex,
+      Map<Schema<?>, Integer> inProgress) {
+    FlattenedSchema cached = context.getState(CACHE).schemas.get(schema);
+    if (Objects.nonNull(cached)) {
+      return new Result(cached, Integer.MAX_VALUE);
+    }
+    int depth = inProgress.size();
+    inProgress.put(schema, depth);
+    List<Member> members = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    if (Objects.nonNull(schema.getProperties())) {
+      schema
+          .getProperties()
+          .forEach(
+              (name, propertySchema) -> {
+                if (names.add(name)) {
+                  boolean required =
+                      Objects.nonNull(schema.getRequired()) && schema.getRequired().contains(name);
+                  members.add(new Member(Kind.PROPERTY, name, propertySchema, required));
+                }
+              });
+    }
+    List<Schema> compositions = new ArrayList<>();
+    if (ObjectUtils.isNotEmpty(schema.getAllOf())) {
+      compositions.addAll(schema.getAllOf());
+    }
+    if (ObjectUtils.isNotEmpty(schema.getAnyOf())) {
+      compositions.addAll(schema.getAnyOf());
+    }
+    int cutDepth = Integer.MAX_VALUE;
+    boolean additionalProperties = false;
+    for (Schema<?> composition : compositions) {
+      Optional<Schema<?>> resolved = resolve(composition, refIndex);
+      if (resolved.isEmpty()) {
+        continue;
+      }
+      if (inProgress.containsKey(resolved.get())) {
+        cutDepth = Math.min(cutDepth, inProgress.get(resolved.get()));
+        continue;
+      }
+      Result result = of(context, resolved.get(), refIndex, inProgress);
+      cutDepth = Math.min(cutDepth, result.cutDepth());
+      for (Member member : result.flattened().members()) {
+        if (member.kind() == Kind.PROPERTY && !names.add(member.name())) {
+          continue;
+        }
+        if (member.kind() == Kind.ADDITIONAL_PROPERTIES) {
+          if (additionalProperties) {
+            continue;
+          }
+          additionalProperties = true;
+        }
+        members.add(member);
+      }
+    }
+    if (ObjectUtils.isNotEmpty(schema.getOneOf())) {
+      members.add(new Member(Kind.ONE_OF, null, schema, false));
+    }
+    if (Objects.equals(schema.getAdditionalProperties(), Boolean.TRUE) && !additionalProperties) {
+      members.add(new Member(Kind.ADDITIONAL_PROPERTIES, null, schema, false));
+    }
+    inProgress.remove(schema);
+
+    FlattenedSchema flattened = new FlattenedSchema(List.copyOf(members));
+    if (cutDepth >= depth) {
+      context.getState(CACHE).schemas.putIfAbsent(schema, flattened);
+    }
+    return new Result(flattened, cutDepth);
+  }
+
+  private static Optional<Schema<?>> resolve(Schema<?> composition, RefIndex refIndex) {
+    if (isRef(composition)) {
+      return refIndex.find(composition.get$ref()).map(RefIndex.ResolvedRef::schema);
+    }
+    return Optional.of(composition);
+  }
+
+  /**
+   * Flattened schema with the depth of the shallowest schema in progress that a skipped composition
+   * refers to, {@link Integer#MAX_VALUE} if none is skipped.
+   */
+  private record Result(FlattenedSchema flattened, int cutDepth) {}
+
+  /** The flattened schemas of a context by their schemas, which are weakly referenced. */
+  private static final class Cache implements GenerationContext.State<Cache> {
+    private final Map<Schema<?>, FlattenedSchema> schemas = new MapMaker().weakKeys().makeMap();
+
+    @Override
+    public void merge(Cache other) {
+      // The schemas of another context are flattened again when they are looked up
+    }
+  }
+}
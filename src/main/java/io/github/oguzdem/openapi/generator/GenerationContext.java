@@ -0,0 +1,239 @@
+package io.github.oguzdem.openapi.generator;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Bookkeeping of a single generation run. It keeps the generated type names, the schemas they are
+ * generated from, the generated Java sources and the {@link Config} of the run. Generators keep
+ * their own state in the context as a {@link State}, so separate runs never see each other's types
+ * and the contexts that parallel generation fills per thread are merged with {@link
+ * #merge(GenerationContext)}.
+ *
+ * @author Oguz Demirbasci
+ */
+public class GenerationContext {
+
+  final Map<String, InternedSchema> generatedNameToSchema = new ConcurrentHashMap<>();
+  final Map<InternedSchema, String> schemaToGeneratedName = new ConcurrentHashMap<>();
+  final Map<String, Integer> generatedObjectsOccurrence = new ConcurrentHashMap<>();
+  final Set<InternedSchema> blankNameLookups = ConcurrentHashMap.newKeySet();
+  final TypeResolver typeResolver = new TypeResolver();
+  private final Map<String, JavaSource<?>> javaSourceMap = new ConcurrentHashMap<>();
+  private final Map<StateKey<?>, State<?>> states = new ConcurrentHashMap<>();
+  private final Set<String> retainedSourceNames = ConcurrentHashMap.newKeySet();
+  private final Config config;
+  private Map<String, InternedSchema> seededSchemas = Map.of();
+
+  /** Creates a context with the default configuration. */
+  public GenerationContext() {
+    this(Config.defaults());
+  }
+
+  /**
+   * Creates a context with the given configuration.
+   *
+   * @param config the configuration of the generation run
+   */
+  public GenerationContext(@NonNull Config config) {
+    this.config = config;
+  }
+
+  /**
+   * Returns the configuration of the generation run.
+   *
+   * @return the configuration
+   */
+  public Config getConfig() {
+    return config;
+  }
+
+  /**
+   * Returns the generated Java source with the given name.
+   *
+   * @param name the name of the Java source
+   * @return the Java source or null if no source is generated with the given name
+   */
+  public JavaSource<?> getJavaSource(String name) {
+    return javaSourceMap.get(StringUtils.defaultString(name));
+  }
+
+  /**
+   * Checks if a Java source is generated with the given name.
+   *
+   * @param name the name of the Java source
+   * @return true if a Java source is generated with the given name
+   */
+  public boolean hasJavaSource(String name) {
+    return javaSourceMap.containsKey(StringUtils.defaultString(name));
+  }
+
+  /**
+   * Adds the Java source with the given name. An existing source with the same name is replaced.
+   *
+   * @param name the name of the Java source
+   * @param javaSource the Java source
+   */
+  public void putJavaSource(String name, JavaSource<?> javaSource) {
+    javaSourceMap.put(StringUtils.defaultString(name), javaSource);
+  }
+
+  /**
+   * Returns the generated Java sources by their names.
+   *
+   * @return an unmodifiable view of the generated Java sources
+   */
+  public Map<String, JavaSource<?>> getJavaSources() {
+    return Collections.unmodifiableMap(javaSourceMap);
+  }
+
+  /**
+   * Emits the text of the Java source with the given name through the {@link SourceEmitter} of the
+   * configuration.
+   *
+   * @param name the name of the Java source
+   * @return the source text
+   */
+  public String emitJavaSource(String name) {
+    return config.getSourceEmitter().emit(this, getJavaSource(name));
+  }
+
+  /**
+   * Marks the Java source with the given name as retained. A retained source is generated by an
+   * earlier run and is kept as it is on the file system instead of being generated again.
+   *
+   * @param name the name of the Java source
+   */
+  public void retainJavaSource(String name) {
+    retainedSourceNames.add(StringUtils.defaultString(name));
+  }
+
+  /**
+   * Returns the names of the Java sources that are retained from an earlier run.
+   *
+   * @return an unmodifiable view of the retained source names
+   */
+  public Set<String> getRetainedSourceNames() {
+    return Collections.unmodifiableSet(retainedSourceNames);
+  }
+
+  /**
+   * Seeds the names of the types that another context generates. A seeded name resolves to its
+   * schema as if the type were generated in this context, but it is not claimed by this context.
+   *
+   * @param schemas the schemas by the names they are generated with
+   */
+  void seed(Map<String, InternedSchema> schemas) {
+    seededSchemas = schemas;
+  }
+
+  /**
+   * Returns the schema the type with the given name is generated from, in this context or in the
+   * context that seeded the name.
+   *
+   * @param name the generated name
+   * @return the schema or null if no type is generated with the given name
+   */
+  InternedSchema getGeneratedSchema(String name) {
+    InternedSchema schema = generatedNameToSchema.get(name);
+    return Objects.nonNull(schema) ? schema : seededSchemas.get(name);
+  }
+
+  /**
+   * Returns every name this context has claimed, including the requested names, the generated
+   * object names and the Java source names.
+   *
+   * @return the claimed names
+   */
+  Set<String> claimedNames() {
+    Set<String> names = new HashSet<>(generatedObjectsOccurrence.keySet());
+    names.addAll(generatedNameToSchema.keySet());
+    names.addAll(javaSourceMap.keySet());
+    return names;
+  }
+
+  /**
+   * Returns the state of the given key, and creates it the first time it is requested.
+   *
+   * @param key the key of the state
+   * @param <S> the type of the state
+   * @return the state
+   */
+  <S extends State<S>> S getState(StateKey<S> key) {
+    return key.type.cast(states.computeIfAbsent(key, k -> key.factory.get()));
+  }
+
+  /**
+   * Copies the content of the given context into this context.
+   *
+   * @param other the context to merge
+   */
+  void merge(GenerationContext other) {
+    generatedNameToSchema.putAll(other.generatedNameToSchema);
+    schemaToGeneratedName.putAll(other.schemaToGeneratedName);
+    generatedObjectsOccurrence.putAll(other.generatedObjectsOccurrence);
+    blankNameLookups.addAll(other.blankNameLookups);
+    mergeSources(other);
+  }
+
+  /**
+   * Copies the generated sources and the states of the given context into this context, without the
+   * names it has generated.
+   *
+   * @param other the context to merge
+   */
+  void mergeSources(GenerationContext other) {
+    javaSourceMap.putAll(other.javaSourceMap);
+    retainedSourceNames.addAll(other.retainedSourceNames);
+    other.states.forEach(this::mergeState);
+  }
+
+  private <S extends State<S>> void mergeState(StateKey<S> key, State<?> state) {
+    getState(key).merge(key.type.cast(state));
+  }
+
+  /**
+   * State that a generator keeps in the context of a run.
+   *
+   * @param <S> the type of the state
+   */
+  interface State<S extends State<S>> {
+
+    /**
+     * Adds the content of the same state of another context to this state.
+     *
+     * @param other the state to merge
+     */
+    void merge(S other);
+  }
+
+  /**
+   * Key of a {@link State} in the context. Keys are compared by identity, so the generator that
+   * owns a state keeps its key as a constant.
+   *
+   * @param <S> the type of the state
+   */
+  static final class StateKey<S extends State<S>> {
+    private final Class<S> type;
+    private final Supplier<S> factory;
+
+    /**
+     * Creates a state key.
+     *
+     * @param type the type of the state
+     * @param factory the factory of an empty state
+     */
+    StateKey(Class<S> type, Supplier<S> factory) {
+      this.type = type;
+      this.factory = factory;
+    }
+  }
+}
@@ -0,0 +1,317 @@
+package io.github.oguzdem.openapi.generator;
+
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isArray;
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isRef;
+
+import com.google.common.collect.Maps;
+import io.github.oguzdem.openapi.generator.SchemaFingerprintCache.Unit;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Regenerates only the component schemas that have changed since the earlier run, together with the
+ * schemas that reference them. The schemas are grouped with {@link
+ * SchemaDependencyGraph#getOneOfGroups()} and every group is fingerprinted with {@link
+ * SchemaFingerprintCache}. A group is generated again if its fingerprint is not found in the cache
+ * of the earlier run, its sources are missing from the output directory, or it references a changed
+ * group, directly or through other schemas. The other groups are retained as they are.
+ *
+ * <p>Every regenerated group is generated in its own {@link GenerationContext}, in which the names
+ * of the other component schemas are seeded, so a reference resolves to the type of the other group
+ * without generating it. The response types of the paths depend on every schema, so they are
+ * generated on every run, against the component types of all groups. The sources of the schemas
+ * that are deleted from the specification are deleted from the output directory.
+ *
+ * <p>The result has to be the same as a full generation. If two groups claim the same name, a
+ * component schema is not generated with its own name, or a group looks up a schema by structure
+ * that another group has generated, every schema is generated again instead.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+public class IncrementalSchemaGenerator {
+
+  /**
+   * Generates the changed schemas of the given specification into the given generation context. The
+   * sources of the unchanged schemas are marked as retained in the context. The cache of the
+   * earlier run is deleted, and the returned cache has to be written once the sources are written.
+   *
+   * @param context the generation context to fill
+   * @param openapi the specification
+   * @param outputDirectory the directory the sources are generated into
+   * @return the cache of this run
+   */
+  public static SchemaFingerprintCache generate(
+      @NonNull GenerationContext context, @NonNull OpenAPI openapi, @NonNull Path outputDirectory) {
+    return generate(context, openapi.getComponents(), openapi.getPaths(), outputDirectory);
+  }
+
+  /**
+   * Generates the changed schemas of the given components object and the types of the given paths
+   * into the given generation context, as {@link #generate(GenerationContext, OpenAPI, Path)} does.
+   *
+   * @param context the generation context to fill
+   * @param specComponents the components object of the specification, may be null
+   * @param paths the paths of the specification, may be null
+   * @param outputDirectory the directory the sources are generated into
+   * @return the cache of this run
+   */
+  public static SchemaFingerprintCache generate(
+      @NonNull GenerationContext context,
+      Components specComponents,
+      Map<String, PathItem> paths,
+      @NonNull Path outputDirectory) {
+    SchemaFingerprintCache previousCache = SchemaFingerprintCache.read(outputDirectory);
+    SchemaFingerprintCache.delete(outputDirectory);
+    String configFingerprint = context.getConfig().fingerprint();
+    Components components = Objects.nonNull(specComponents) ? specComponents : new Components();
+
+    SchemaDependencyGraph graph = SchemaDependencyGraph.of(components);
+    List<List<String>> groups = graph.getOneOfGroups();
+    List<String> fingerprints = new ArrayList<>();
+    Set<String> changedSchemas = new HashSet<>();
+    for (List<String> group : groups) {
+      String fingerprint = fingerprint(configFingerprint, group, components);
+      fingerprints.add(fingerprint);
+      Optional<Unit> cachedUnit = previousCache.find(fingerprint);
+      if (cachedUnit.isEmpty() || !isWritten(cachedUnit.get(), outputDirectory)) {
+        changedSchemas.addAll(group);
+      }
+    }
+    Set<String> regeneratedSchemas = graph.getTransitiveReferrers(changedSchemas);
+
+    List<Unit> units = new ArrayList<>();
+    List<List<String>> regeneratedGroups = new ArrayList<>();
+    List<Integer> regeneratedIndexes = new ArrayList<>();
+    for (int i = 0; i < groups.size(); i++) {
+      if (groups.get(i).stream().anyMatch(regeneratedSchemas::contains)) {
+        regeneratedIndexes.add(i);
+        regeneratedGroups.add(groups.get(i));
+        units.add(null);
+      } else {
+        units.add(previousCache.find(fingerprints.get(i)).orElseThrow());
+      }
+    }
+    log.info(
+        "{} of {} schemas are changed since the earlier run, {} are generated with their referrers",
+        changedSchemas.size(),
+        graph.getSchemaNames().size(),
+        regeneratedSchemas.size());
+
+    Map<String, InternedSchema> componentTypes = getComponentTypes(components);
+    List<GenerationContext> groupContexts =
+        regeneratedGroups.isEmpty()
+            ? List.of()
+            : ParallelSchemaGenerator.generateSubgraphs(
+                regeneratedGroups,
+                group -> seededContext(context.getConfig(), group, componentTypes),
+                components);
+    for (int i = 0; i < regeneratedIndexes.size(); i++) {
+      int index = regeneratedIndexes.get(i);
+      units.set(
+          index,
+          toUnit(fingerprints.get(index), groupContexts.get(i), groups.get(index), componentTypes));
+    }
+
+    GenerationContext pathContext = new GenerationContext(context.getConfig());
+    Set<String> seededNames = seedComponentTypes(pathContext, units, componentTypes);
+    ModelGenerator.generatePathTypes(pathContext, paths, components);
+
+    if (!isMergeable(units, groups) || !isMergeable(pathContext, seededNames, units)) {
+      log.info("Schema groups share generated names. Falling back to full generation.");
+      ModelGenerator.generateComponentTypes(context, components);
+      ModelGenerator.generatePathTypes(context, paths, components);
+      deleteRemovedSources(context, previousCache, outputDirectory);
+      return new SchemaFingerprintCache(List.of());
+    }
+
+    groupContexts.forEach(context::merge);
+    for (int i = 0; i < units.size(); i++) {
+      if (!regeneratedIndexes.contains(i)) {
+        units.get(i).sourceNames().forEach(context::retainJavaSource);
+        JacksonCodecGenerator.getCodecTypeNames(context).addAll(units.get(i).codecTypeNames());
+      }
+    }
+    context.mergeSources(pathContext);
+    deleteRemovedSources(context, previousCache, outputDirectory);
+    return new SchemaFingerprintCache(units);
+  }
+
+  private static String fingerprint(
+      String configFingerprint, List<String> group, Components components) {
+    Map<String, Schema<?>> schemas = new LinkedHashMap<>();
+    group.forEach(name -> schemas.put(name, components.getSchemas().get(name)));
+    return SchemaFingerprintCache.fingerprint(configFingerprint, schemas);
+  }
+
+  /**
+   * Returns the schemas the component schemas are generated from by their names. An array schema is
+   * generated from its items under its own name, the way {@link TypeGenerator} does. An array of
+   * refs, and a ref, is generated under the name of the referenced schema instead.
+   */
+  private static Map<String, InternedSchema> getComponentTypes(Components components) {
+    Map<String, InternedSchema> componentTypes = new HashMap<>();
+    if (ObjectUtils.isNotEmpty(components.getSchemas())) {
+      components
+          .getSchemas()
+          .forEach(
+              (name, schema) -> {
+                Schema<?> typeSchema = schema;
+                while (isArray(typeSchema) && Objects.nonNull(typeSchema.getItems())) {
+                  typeSchema = typeSchema.getItems();
+                }
+                if (!isRef(typeSchema)) {
+                  componentTypes.put(name, InternedSchema.of(typeSchema));
+                }
+              });
+    }
+    return componentTypes;
+  }
+
+  private static GenerationContext seededContext(
+      Config config, List<String> group, Map<String, InternedSchema> componentTypes) {
+    GenerationContext groupContext = new GenerationContext(config);
+    groupContext.seed(Maps.filterKeys(componentTypes, name -> !group.contains(name)));
+    return groupContext;
+  }
+
+  private static void deleteRemovedSources(
+      GenerationContext context, SchemaFingerprintCache previousCache, Path outputDirectory) {
+    for (Unit unit : previousCache.units()) {
+      for (String name : unit.sourceNames()) {
+        if (!context.hasJavaSource(name) && !context.getRetainedSourceNames().contains(name)) {
+          try {
+            Files.deleteIfExists(outputDirectory.resolve("%s.java".formatted(name)));
+          } catch (IOException e) {
+            throw new UncheckedIOException("Removed source cannot be deleted: " + name, e);
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean isWritten(Unit unit, Path outputDirectory) {
+    return unit.sourceNames().stream()
+        .allMatch(name -> Files.isRegularFile(outputDirectory.resolve("%s.java".formatted(name))));
+  }
+
+  private static Unit toUnit(
+      String fingerprint,
+      GenerationContext context,
+      List<String> group,
+      Map<String, InternedSchema> componentTypes) {
+    Set<String> generatedComponentTypes = new HashSet<>();
+    for (String name : group) {
+      InternedSchema schema = componentTypes.get(name);
+      if (Objects.nonNull(schema)
+          && schema.equals(context.generatedNameToSchema.get(name))
+          && name.equals(context.schemaToGeneratedName.get(schema))) {
+        generatedComponentTypes.add(name);
+      }
+    }
+    return new Unit(
+        fingerprint,
+        generatedComponentTypes,
+        new HashMap<>(context.generatedObjectsOccurrence),
+        new HashSet<>(context.generatedNameToSchema.keySet()),
+        new HashSet<>(context.getJavaSources().keySet()),
+        fingerprints(context.schemaToGeneratedName.keySet()),
+        fingerprints(context.blankNameLookups),
+        new HashSet<>(JacksonCodecGenerator.getCodecTypeNames(context)));
+  }
+
+  private static Set<String> fingerprints(Collection<InternedSchema> schemas) {
+    return schemas.stream()
+        .map(schema -> SchemaFingerprintCache.fingerprint(schema.schema()))
+        .collect(Collectors.toSet());
+  }
+
+  private static Set<String> seedComponentTypes(
+      GenerationContext pathContext, List<Unit> units, Map<String, InternedSchema> componentTypes) {
+    Set<String> seededNames = new HashSet<>();
+    for (Unit unit : units) {
+      for (String name : unit.componentTypes()) {
+        InternedSchema schema = componentTypes.get(name);
+        if (Objects.nonNull(schema)) {
+          pathContext.generatedNameToSchema.put(name, schema);
+          pathContext.schemaToGeneratedName.put(schema, name);
+          seededNames.add(name);
+        }
+      }
+    }
+    return seededNames;
+  }
+
+  private static boolean isMergeable(List<Unit> units, List<List<String>> groups) {
+    Set<String> claimedNames = new HashSet<>();
+    Map<String, Integer> generatingUnits = new HashMap<>();
+    for (int i = 0; i < units.size(); i++) {
+      Unit unit = units.get(i);
+      for (String name : unit.claimedNames()) {
+        if (!claimedNames.add(name)) {
+          log.debug("Generated name is claimed by more than one schema group: {}", name);
+          return false;
+        }
+      }
+      for (String name : groups.get(i)) {
+        if (unit.objectNames().contains(name) && !unit.componentTypes().contains(name)) {
+          log.debug("Component schema is not generated with its own name: {}", name);
+          return false;
+        }
+      }
+      int index = i;
+      unit.generatedSchemas()
+          .forEach(schema -> generatingUnits.merge(schema, index, (first, second) -> -1));
+    }
+    for (int i = 0; i < units.size(); i++) {
+      for (String schema : units.get(i).blankNameLookups()) {
+        Integer generatingUnit = generatingUnits.get(schema);
+        if (Objects.nonNull(generatingUnit) && generatingUnit != i) {
+          log.debug("Schema is shared by more than one schema group");
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isMergeable(
+      GenerationContext pathContext, Set<String> seededNames, List<Unit> units) {
+    Set<String> pathNames = new HashSet<>(pathContext.claimedNames());
+    pathNames.removeAll(seededNames);
+    pathNames.addAll(pathContext.generatedObjectsOccurrence.keySet());
+    Set<String> pathLookups = fingerprints(pathContext.blankNameLookups);
+    for (Unit unit : units) {
+      Set<String> claimedNames = unit.claimedNames();
+      if (pathNames.stream().anyMatch(claimedNames::contains)) {
+        log.debug("Response type name is claimed by a schema group");
+        return false;
+      }
+      if (pathLookups.stream().anyMatch(unit.generatedSchemas()::contains)) {
+        log.debug("Response type shares a schema with a schema group");
+        return false;
+      }
+    }
+    return true;
+  }
+}
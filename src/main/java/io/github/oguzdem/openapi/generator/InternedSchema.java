@@ -0,0 +1,74 @@
+package io.github.oguzdem.openapi.generator;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.MapMaker;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.concurrent.ConcurrentMap;
+import lombok.NonNull;
+
+/**
+ * Canonical instance of a schema structure, used as the schema key of the {@link
+ * GenerationContext}. {@link Schema#hashCode()} and {@link Schema#equals(Object)} walk the whole
+ * schema tree, so looking large nested schemas up in hash maps on every visit is expensive. A
+ * schema is interned in two steps instead:
+ *
+ * <ol>
+ *   <li>an identity map returns the interned schema of a schema object that is seen before, without
+ *       hashing it again,
+ *   <li>otherwise the structural hash of the schema is computed once and the schema is hash-consed,
+ *       so structurally equal schemas share the same interned schema.
+ * </ol>
+ *
+ * <p>Interned schemas of equal structures are the same object, so lookups with them only compare
+ * the cached hash and the reference. Both tables hold their entries weakly and can be shared by
+ * every generation run. The schemas are expected not to change once they are interned.
+ *
+ * @author Oguz Demirbasci
+ */
+final class InternedSchema {
+
+  private static final Interner<InternedSchema> INTERNER = Interners.newWeakInterner();
+  private static final ConcurrentMap<Schema<?>, InternedSchema> BY_IDENTITY =
+      new MapMaker().weakKeys().weakValues().makeMap();
+
+  private final Schema<?> schema;
+  private final int hash;
+
+  private InternedSchema(Schema<?> schema) {
+    this.schema = schema;
+    this.hash = schema.hashCode();
+  }
+
+  /**
+   * Returns the interned schema of the given schema.
+   *
+   * @param schema the schema
+   * @return the interned schema that is shared by every structurally equal schema
+   */
+  static InternedSchema of(@NonNull Schema<?> schema) {
+    return BY_IDENTITY.computeIfAbsent(schema, s -> INTERNER.intern(new InternedSchema(s)));
+  }
+
+  /**
+   * Returns the first interned schema object of this structure.
+   *
+   * @return the schema
+   */
+  Schema<?> schema() {
+    return schema;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof InternedSchema other && hash == other.hash && schema.equals(other.schema);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
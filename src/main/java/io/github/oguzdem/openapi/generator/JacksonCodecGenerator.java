@@ -0,0 +1,476 @@
+package io.github.oguzdem.openapi.generator;
+
+import static io.github.oguzdem.openapi.generator.CodecHelper.COLLECTION_TYPES;
+import static io.github.oguzdem.openapi.generator.CodecHelper.addDateTimeFormat;
+import static io.github.oguzdem.openapi.generator.CodecHelper.addJavaType;
+import static io.github.oguzdem.openapi.generator.CodecHelper.getInstanceFields;
+import static io.github.oguzdem.openapi.generator.CodecHelper.getJsonName;
+import static io.github.oguzdem.openapi.generator.CodecHelper.isFormattedDateTime;
+import static io.github.oguzdem.openapi.generator.CodecHelper.toDateTimeParse;
+import static io.github.oguzdem.openapi.generator.utils.JavaLiteralUtils.toStringLiteral;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.collect.ImmutableMap;
+import io.github.oguzdem.openapi.generator.model.AnnotationModel;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MemberModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
+import io.github.oguzdem.openapi.generator.model.ParameterModel;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import javax.lang.model.element.Modifier;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+
+/**
+ * Generates a Jackson serializer and deserializer for the regular classes and records, and a module
+ * that registers them, so Jackson neither introspects the classes nor their Lombok builders. The
+ * codecs are nested into the class they handle, so they read its fields directly and create it with
+ * its constructor, and they share the imports of the class.
+ *
+ * <p>The deserializer is a single loop over the tokens of the {@link JsonParser} that switches on
+ * the property name. Strings, numbers and booleans are parsed inline, and the dates are parsed with
+ * the pattern of their {@link JsonFormat}. Values of the other types, such as enums, referenced
+ * classes and the items of arrays, are read with the deserializers Jackson finds for their types,
+ * which are the generated ones for the generated classes. Null values leave a property unset, the
+ * same way as a missing property. A required property that is missing or null is reported with a
+ * {@link MismatchedInputException}, before the constructor of the class rejects the null value.
+ *
+ * <p>The module is generated once every class is generated, from the class names the {@link
+ * GenerationContext} keeps.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+final class JacksonCodecGenerator {
+
+  /** Name of the module that registers the generated codecs. */
+  static final String MODULE_NAME = "GeneratedModelsModule";
+
+  private static final String SERIALIZER_SUFFIX = "Serializer";
+  private static final String DESERIALIZER_SUFFIX = "Deserializer";
+  // Names of the deserializer that the locals of the fields must not shadow
+  private static final Set<String> RESERVED_NAMES =
+      Set.of("p", "ctxt", "token", "propertyName", "exception");
+  // Types that are parsed by the parse methods of StdDeserializer, by the name in the method
+  private static final Map<String, String> PARSED_TYPES =
+      Map.ofEntries(
+          Map.entry("int", "Int"),
+          Map.entry("Integer", "Int"),
+          Map.entry("long", "Long"),
+          Map.entry("Long", "Long"),
+          Map.entry("float", "Float"),
+          Map.entry("Float", "Float"),
+          Map.entry("double", "Double"),
+          Map.entry("Double", "Double"),
+          Map.entry("boolean", "Boolean"),
+          Map.entry("Boolean", "Boolean"));
+  private static final Map<String, String> PRIMITIVE_DEFAULTS =
+      Map.of("int", "0", "long", "0L", "float", "0F", "double", "0D", "boolean", "false");
+  private static final GenerationContext.StateKey<CodecTypes> CODEC_TYPES =
+      new GenerationContext.StateKey<>(CodecTypes.class, CodecTypes::new);
+
+  private JacksonCodecGenerator() {}
+
+  /**
+   * Adds the serializer and deserializer of the given class, and of its nested classes, to the
+   * model of the class. The names of the classes are kept in the context for the module.
+   *
+   * @param context the generation context that keeps the generated sources
+   * @param classModel the complete model of a top level class
+   */
+  static void generateCodecs(GenerationContext context, ClassModel classModel) {
+    generateCodecs(context, classModel, classModel, classModel.getName());
+  }
+
+  private static void generateCodecs(
+      GenerationContext context,
+      ClassModel rootClassModel,
+      ClassModel classModel,
+      String typeName) {
+    for (MemberModel member : classModel.getMembers()) {
+      if (member instanceof ClassModel nestedType) {
+        generateCodecs(context, rootClassModel, nestedType, typeName + "." + nestedType.getName());
+      }
+    }
+    if (!classModel.isRecord() && !classModel.hasAnnotation(Value.class)) {
+      return;
+    }
+    classModel.addNestedType(generateSerializer(rootClassModel, classModel));
+    ClassModel deserializer = generateDeserializer(rootClassModel, classModel);
+    classModel.addNestedType(deserializer);
+    useDeserializer(rootClassModel, classModel, deserializer.getName());
+    getCodecTypeNames(context).add(typeName);
+  }
+
+  /**
+   * Generates the module that registers the codecs of the classes kept in the context, and adds it
+   * to the context as {@value #MODULE_NAME}. The module is not generated if a generated type has
+   * its name.
+   *
+   * @param context the generation context that keeps the generated sources
+   */
+  static void generateModule(GenerationContext context) {
+    if (context.hasJavaSource(MODULE_NAME)
+        || context.getRetainedSourceNames().contains(MODULE_NAME)) {
+      log.error("Jackson module is not generated, a type is generated with its name");
+      return;
+    }
+    ClassModel module =
+        new ClassModel(MODULE_NAME).setSuperType(SimpleModule.class.getSimpleName());
+    module.setJavadoc("Registers the generated serializers and deserializers of the models.");
+    module.addImport(SimpleModule.class);
+    module.addAnnotation(Generated.class);
+    StringBuilder body = new StringBuilder("super(%s);".formatted(toStringLiteral(MODULE_NAME)));
+    getCodecTypeNames(context).stream()
+        .sorted()
+        .forEach(
+            typeName -> {
+              String name = typeName.substring(typeName.lastIndexOf('.') + 1);
+              body.append(
+                      "addSerializer(%1$s.class, new %1$s.%2$s());"
+                          .formatted(typeName, name + SERIALIZER_SUFFIX))
+                  .append(
+                      "addDeserializer(%1$s.class, new %1$s.%2$s());"
+                          .formatted(typeName, name + DESERIALIZER_SUFFIX));
+            });
+    module.addConstructor().addModifier(Modifier.PUBLIC).setBody(body.toString());
+
+    JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+    javaClass.setPackage(context.getConfig().getPackageName()).setName(MODULE_NAME);
+    context.putJavaSource(MODULE_NAME, javaClass);
+    context.getConfig().getSourceEmitter().complete(context, module, javaClass);
+  }
+
+  /**
+   * Returns the names of the classes of the given context that have generated codecs.
+   *
+   * @param context the generation context
+   * @return the modifiable set of the class names
+   */
+  static Set<String> getCodecTypeNames(GenerationContext context) {
+    return context.getState(CODEC_TYPES).typeNames;
+  }
+
+  /**
+   * Annotates the given class with its deserializer. Jackson creates a class that has a {@link
+   * Jacksonized} builder with the builder before it looks up the deserializers of the modules, so
+   * the annotation replaces {@link Jacksonized} on the class and on its constructor. It also lets a
+   * nested class, which has no creator Jackson can use, be read without the module.
+   *
+   * @param rootClassModel the top level class that keeps the imports
+   * @param classModel the class to annotate
+   * @param deserializerName the name of the nested deserializer of the class
+   */
+  private static void useDeserializer(
+      ClassModel rootClassModel, ClassModel classModel, String deserializerName) {
+    Predicate<AnnotationModel> isJacksonized =
+        annotation -> annotation.type().equals(Jacksonized.class.getSimpleName());
+    classModel.getAnnotations().removeIf(isJacksonized);
+    classModel
+        .getConstructor()
+        .ifPresent(constructor -> constructor.getAnnotations().removeIf(isJacksonized));
+    rootClassModel.addImport(JsonDeserialize.class);
+    classModel
+        .addAnnotation(JsonDeserialize.class)
+        .setLiteralValue("using", "%s.%s.class".formatted(classModel.getName(), deserializerName));
+  }
+
+  private static ClassModel generateSerializer(ClassModel rootClassModel, ClassModel classModel) {
+    String type = classModel.getName();
+    rootClassModel.addImport(IOException.class);
+    rootClassModel.addImport(JsonGenerator.class);
+    rootClassModel.addImport(JsonToken.class);
+    rootClassModel.addImport(WritableTypeId.class);
+    rootClassModel.addImport(SerializerProvider.class);
+    rootClassModel.addImport(TypeSerializer.class);
+    rootClassModel.addImport(StdSerializer.class);
+    ClassModel serializer =
+        new ClassModel(type + SERIALIZER_SUFFIX)
+            .setStatic(true)
+            .setSuperType("StdSerializer<%s>".formatted(type));
+    serializer
+        .addConstructor()
+        .addModifier(Modifier.PUBLIC)
+        .setBody("super(%s.class);".formatted(type));
+
+    addSerializeParameters(addOverride(serializer, "serialize", "void"), type)
+        .setBody(
+            "gen.writeStartObject(value);writeFields(value, gen, provider);gen.writeEndObject();");
+    addSerializeParameters(addOverride(serializer, "serializeWithType", "void"), type)
+        .addParameter("TypeSerializer", "typeSer")
+        .setBody(
+            "WritableTypeId typeId ="
+                + " typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));"
+                + "writeFields(value, gen, provider);"
+                + "typeSer.writeTypeSuffix(gen, typeId);");
+
+    StringBuilder body = new StringBuilder();
+    String anyGetter = null;
+    for (FieldModel field : getInstanceFields(classModel)) {
+      String value = "value." + field.name();
+      if (field.hasAnnotation(JsonAnySetter.class)) {
+        rootClassModel.addImport(Map.class);
+        anyGetter =
+            "if (%1$s != null) {for (Map.Entry<String, %2$s> entry : %1$s.entrySet()) {"
+                    .formatted(value, getMapValueType(field))
+                + "provider.defaultSerializeField(entry.getKey(), entry.getValue(), gen);}}";
+      } else if (field.hasAnnotation(JsonProperty.class)) {
+        body.append(toWriteStatement(rootClassModel, serializer, field, value));
+      }
+    }
+    if (anyGetter != null) {
+      body.append(anyGetter);
+    }
+    MethodModel writeFields =
+        addSerializeParameters(serializer.addMethod("writeFields"), type)
+            .addModifier(Modifier.PRIVATE)
+            .setReturnType("void")
+            .addThrows(IOException.class);
+    if (!body.isEmpty()) {
+      writeFields.setBody(body.toString());
+    }
+    return serializer;
+  }
+
+  private static MethodModel addSerializeParameters(MethodModel method, String type) {
+    return method
+        .addParameter(type, "value")
+        .addParameter("JsonGenerator", "gen")
+        .addParameter("SerializerProvider", "provider");
+  }
+
+  private static String toWriteStatement(
+      ClassModel rootClassModel, ClassModel serializer, FieldModel field, String value) {
+    String name = toStringLiteral(getJsonName(field));
+    String type = field.type();
+    String write;
+    if ("String".equals(type)) {
+      return "gen.writeStringField(%s, %s);".formatted(name, value);
+    } else if (PARSED_TYPES.containsKey(type)) {
+      String method =
+          "Boolean".equals(PARSED_TYPES.get(type)) ? "writeBooleanField" : "writeNumberField";
+      write = "gen.%s(%s, %s);".formatted(method, name, value);
+      if (PRIMITIVE_DEFAULTS.containsKey(type)) {
+        return write;
+      }
+    } else if (isFormattedDateTime(field)) {
+      String format = addDateTimeFormat(rootClassModel, serializer, field);
+      String temporal = "Date".equals(type) ? value + ".toInstant()" : value;
+      write = "gen.writeStringField(%s, %s.format(%s));".formatted(name, format, temporal);
+    } else {
+      return "provider.defaultSerializeField(%s, %s, gen);".formatted(name, value);
+    }
+    return "if (%s == null) {gen.writeNullField(%s);} else {%s}".formatted(value, name, write);
+  }
+
+  private static ClassModel generateDeserializer(ClassModel rootClassModel, ClassModel classModel) {
+    String type = classModel.getName();
+    rootClassModel.addImport(IOException.class);
+    rootClassModel.addImport(JsonParser.class);
+    rootClassModel.addImport(JsonToken.class);
+    rootClassModel.addImport(DeserializationContext.class);
+    rootClassModel.addImport(StdDeserializer.class);
+    ClassModel deserializer =
+        new ClassModel(type + DESERIALIZER_SUFFIX)
+            .setStatic(true)
+            .setSuperType("StdDeserializer<%s>".formatted(type));
+    deserializer
+        .addConstructor()
+        .addModifier(Modifier.PUBLIC)
+        .setBody("super(%s.class);".formatted(type));
+
+    // The codecs hold no state, so the deserializer is cached by the mappers it is looked up by
+    MethodModel isCachable =
+        deserializer.addMethod("isCachable").addModifier(Modifier.PUBLIC).setReturnType("boolean");
+    isCachable.addAnnotation(Override.class);
+    isCachable.setBody("return true;");
+
+    StringBuilder locals = new StringBuilder();
+    StringBuilder cases = new StringBuilder();
+    StringBuilder checks = new StringBuilder();
+    Map<String, String> arguments = new HashMap<>();
+    String defaultCase =
+        "ctxt.handleUnknownProperty(p, this, %s.class, propertyName);".formatted(type);
+    for (FieldModel field : getInstanceFields(classModel)) {
+      String local = RESERVED_NAMES.contains(field.name()) ? field.name() + "Value" : field.name();
+      if (field.hasAnnotation(JsonAnySetter.class)) {
+        String valueType = getMapValueType(field);
+        rootClassModel.addImport(ImmutableMap.class);
+        locals.append(
+            "ImmutableMap.Builder<String, %s> %s = ImmutableMap.builder();"
+                .formatted(valueType, local));
+        defaultCase =
+            "if (token != JsonToken.VALUE_NULL) {%s.put(propertyName, ctxt.readValue(p, %s));}"
+                .formatted(
+                    local, addJavaType(rootClassModel, deserializer, field.name(), valueType));
+        arguments.put(field.name(), local + ".buildKeepingLast()");
+        continue;
+      }
+      locals.append(
+          "%s %s = %s;".formatted(field.type(), local, getInitialValue(classModel, field)));
+      arguments.put(field.name(), local);
+      if (field.hasAnnotation(JsonProperty.class)) {
+        cases.append(
+            "case %s: if (token != JsonToken.VALUE_NULL) {%s = %s;} break;"
+                .formatted(
+                    toStringLiteral(getJsonName(field)),
+                    local,
+                    toReadExpression(rootClassModel, deserializer, field)));
+        if (isRequired(field)) {
+          checks.append(toRequiredCheck(type, field, local));
+        }
+      }
+    }
+
+    MethodModel deserialize = addOverride(deserializer, "deserialize", type);
+    deserialize.addParameter("JsonParser", "p").addParameter("DeserializationContext", "ctxt");
+    deserialize.setBody(
+        "JsonToken token = p.currentToken();"
+            + "if (token == JsonToken.START_OBJECT) {token = p.nextToken();}"
+            + " else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {"
+            + "return (%1$s) ctxt.handleUnexpectedToken(%1$s.class, p);}".formatted(type)
+            + locals
+            + "while (token == JsonToken.FIELD_NAME) {"
+            + "String propertyName = p.currentName();"
+            + "token = p.nextToken();"
+            + "switch (propertyName) {"
+            + cases
+            + "default: "
+            + defaultCase
+            + "}"
+            + "token = p.nextToken();}"
+            + checks
+            + toConstruction(classModel, arguments));
+    return deserializer;
+  }
+
+  private static boolean isRequired(FieldModel field) {
+    return field.hasAnnotation(NonNull.class) && !PRIMITIVE_DEFAULTS.containsKey(field.type());
+  }
+
+  private static String toRequiredCheck(String type, FieldModel field, String local) {
+    // Thrown by the context as a MismatchedInputException, which is an IOException
+    String message = "Required property \"%s\" of %s is missing or null";
+    return "if (%s == null) {return ctxt.reportInputMismatch(this, %s);}"
+        .formatted(local, toStringLiteral(message.formatted(getJsonName(field), type)));
+  }
+
+  private static String toReadExpression(
+      ClassModel rootClassModel, ClassModel deserializer, FieldModel field) {
+    String type = field.type();
+    if ("String".equals(type)) {
+      return "_parseString(p, ctxt, this)";
+    } else if (PARSED_TYPES.containsKey(type)) {
+      return "_parse%sPrimitive(p, ctxt)".formatted(PARSED_TYPES.get(type));
+    } else if (isFormattedDateTime(field)) {
+      return toDateTimeParse(rootClassModel, deserializer, field, "_parseString(p, ctxt, this)");
+    }
+    for (Class<?> collectionType : COLLECTION_TYPES) {
+      String prefix = collectionType.getSimpleName() + "<";
+      if (type.startsWith(prefix)) {
+        // Read as a list, so the collection is created without the Guava module of Jackson
+        rootClassModel.addImport(List.class);
+        String listType = "List<%s>".formatted(type.substring(prefix.length(), type.length() - 1));
+        return "%s.copyOf(ctxt.<%s>readValue(p, %s))"
+            .formatted(
+                collectionType.getSimpleName(),
+                listType,
+                addJavaType(rootClassModel, deserializer, field.name(), listType));
+      }
+    }
+    return "ctxt.readValue(p, %s)"
+        .formatted(addJavaType(rootClassModel, deserializer, field.name(), type));
+  }
+
+  private static String toConstruction(ClassModel classModel, Map<String, String> arguments) {
+    // The canonical constructor of a record takes its components in the order of the fields
+    List<String> parameterNames =
+        classModel
+            .getConstructor()
+            .filter(constructor -> !classModel.isRecord())
+            .map(constructor -> constructor.getParameters().stream().map(ParameterModel::name))
+            .orElseGet(() -> getInstanceFields(classModel).stream().map(FieldModel::name))
+            .toList();
+    String construction =
+        "return new %s(%s);"
+            .formatted(
+                classModel.getName(),
+                String.join(", ", parameterNames.stream().map(arguments::get).toList()));
+    List<String> thrownTypes =
+        classModel.getConstructor().map(MethodModel::getThrownTypes).orElse(List.of());
+    if (thrownTypes.isEmpty()) {
+      return construction;
+    }
+    return "try {%s} catch (%s exception) {throw ctxt.instantiationException(%s.class, exception);}"
+        .formatted(construction, String.join(" | ", thrownTypes), classModel.getName());
+  }
+
+  private static String getInitialValue(ClassModel classModel, FieldModel field) {
+    if (PRIMITIVE_DEFAULTS.containsKey(field.type())) {
+      return PRIMITIVE_DEFAULTS.get(field.type());
+    }
+    // The builder of a class sets a missing singular collection to an empty one
+    if (field.hasAnnotation(Singular.class) && classModel.hasAnnotation(Builder.class)) {
+      for (Class<?> collectionType : COLLECTION_TYPES) {
+        if (field.type().startsWith(collectionType.getSimpleName() + "<")) {
+          return collectionType.getSimpleName() + ".of()";
+        }
+      }
+    }
+    return "null";
+  }
+
+  private static MethodModel addOverride(ClassModel codec, String name, String returnType) {
+    MethodModel method =
+        codec
+            .addMethod(name)
+            .addModifier(Modifier.PUBLIC)
+            .setReturnType(returnType)
+            .addThrows(IOException.class);
+    method.addAnnotation(Override.class);
+    return method;
+  }
+
+  private static String getMapValueType(FieldModel field) {
+    String type = field.type();
+    return type.substring(type.indexOf(',') + 1, type.length() - 1).strip();
+  }
+
+  /** The names of the classes that have generated codecs. */
+  private static final class CodecTypes implements GenerationContext.State<CodecTypes> {
+    private final Set<String> typeNames = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void merge(CodecTypes other) {
+      typeNames.addAll(other.typeNames);
+    }
+  }
+}
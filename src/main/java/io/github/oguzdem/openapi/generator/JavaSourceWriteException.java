@@ -0,0 +1,35 @@
+package io.github.oguzdem.openapi.generator;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown by {@link JavaSourceWriter} when one or more Java sources cannot be written. The cause of
+ * every failed source is kept by its name and added as a suppressed exception.
+ *
+ * @author Oguz Demirbasci
+ */
+public class JavaSourceWriteException extends RuntimeException {
+
+  private final transient Map<String, Exception> failures;
+
+  /**
+   * Creates an exception for the given failures.
+   *
+   * @param failures the causes of the failed sources by their names
+   */
+  public JavaSourceWriteException(Map<String, Exception> failures) {
+    super("%d Java source(s) cannot be written: %s".formatted(failures.size(), failures.keySet()));
+    this.failures = Collections.unmodifiableMap(failures);
+    failures.values().forEach(this::addSuppressed);
+  }
+
+  /**
+   * Returns the causes of the failed sources.
+   *
+   * @return the causes by the names of the failed sources
+   */
+  public Map<String, Exception> getFailures() {
+    return failures;
+  }
+}
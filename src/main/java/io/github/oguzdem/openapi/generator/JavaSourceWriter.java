@@ -0,0 +1,201 @@
+package io.github.oguzdem.openapi.generator;
+
+import com.google.common.hash.Hashing;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Writes the generated Java sources to the output directory. Formatting a {@link JavaSource} into
+ * its text is the expensive part of writing, so the sources are formatted and written in parallel,
+ * each into its own <b>.java</b> file through a buffered NIO writer.
+ *
+ * <p>When unchanged sources are skipped, a source whose file already has the same content is not
+ * rewritten, so the file keeps its modification time and the downstream compilation stays
+ * incremental. The SHA-256 hash of every written source is kept in a manifest file in the output
+ * directory, and files listed in the manifest of an earlier run that are no longer generated are
+ * deleted.
+ *
+ * <p>The text of a source can be emitted without Roaster, see {@link SourceEmitter}.
+ *
+ * <p>A failing file does not stop the others from being written. The failures are collected and
+ * reported together with a {@link JavaSourceWriteException} once every source is processed.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+public final class JavaSourceWriter {
+
+  /** Name of the manifest file that keeps the hashes of the written sources. */
+  public static final String MANIFEST_FILE_NAME = ".generated-sources.sha256";
+
+  private JavaSourceWriter() {}
+
+  /**
+   * Writes every given Java source into the given directory as <b>[name].java</b>. The directory is
+   * created if it does not exist.
+   *
+   * @param javaSources the Java sources by their names
+   * @param outputDirectory the directory to write the sources into
+   * @param options the options of writing
+   * @throws UncheckedIOException if the output directory or the manifest cannot be accessed
+   * @throws JavaSourceWriteException if one or more sources cannot be written or deleted
+   */
+  public static void write(
+      @NonNull Map<String, JavaSource<?>> javaSources,
+      @NonNull Path outputDirectory,
+      @NonNull WriteOptions options) {
+    try {
+      Files.createDirectories(outputDirectory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Output directory cannot be created: " + outputDirectory, e);
+    }
+
+    Function<String, String> emitter =
+        Objects.nonNull(options.emitter())
+            ? options.emitter()
+            : name -> javaSources.get(name).toString();
+    Path manifestFile = outputDirectory.resolve(MANIFEST_FILE_NAME);
+    Map<String, String> previousHashes =
+        options.skipUnchanged() ? readManifest(manifestFile) : Collections.emptyMap();
+    Map<String, String> hashes = new ConcurrentHashMap<>();
+    Map<String, Exception> failures = new ConcurrentHashMap<>();
+    javaSources.entrySet().parallelStream()
+        .forEach(
+            entry -> {
+              Path file = outputDirectory.resolve("%s.java".formatted(entry.getKey()));
+              try {
+                String content = emitter.apply(entry.getKey()) + System.lineSeparator();
+                if (options.skipUnchanged()) {
+                  if (!isUnchanged(file, content)) {
+                    writeFile(content, file);
+                  }
+                  hashes.put(entry.getKey(), hash(content));
+                } else {
+                  writeFile(content, file);
+                }
+              } catch (IOException | RuntimeException e) {
+                log.error("Java source cannot be written: {}", file, e);
+                failures.put(entry.getKey(), e);
+              }
+            });
+
+    if (options.skipUnchanged()) {
+      options.retainedNames().stream()
+          .filter(previousHashes::containsKey)
+          .forEach(name -> hashes.putIfAbsent(name, previousHashes.get(name)));
+      deleteOrphans(previousHashes.keySet(), hashes.keySet(), outputDirectory, failures);
+      writeManifest(manifestFile, hashes);
+    }
+    if (!failures.isEmpty()) {
+      throw new JavaSourceWriteException(new TreeMap<>(failures));
+    }
+  }
+
+  private static boolean isUnchanged(Path file, String content) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      return false;
+    }
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    return Files.size(file) == bytes.length && Arrays.equals(bytes, Files.readAllBytes(file));
+  }
+
+  private static void deleteOrphans(
+      Set<String> previousNames,
+      Set<String> writtenNames,
+      Path outputDirectory,
+      Map<String, Exception> failures) {
+    for (String name : previousNames) {
+      if (writtenNames.contains(name) || failures.containsKey(name)) {
+        continue;
+      }
+      Path file = outputDirectory.resolve("%s.java".formatted(name));
+      try {
+        if (Files.deleteIfExists(file)) {
+          log.debug("Deleted orphaned Java source: {}", file);
+        }
+      } catch (IOException e) {
+        log.error("Orphaned Java source cannot be deleted: {}", file, e);
+        failures.put(name, e);
+      }
+    }
+  }
+
+  private static Map<String, String> readManifest(Path manifestFile) {
+    Map<String, String> hashes = new TreeMap<>();
+    if (!Files.isRegularFile(manifestFile)) {
+      return hashes;
+    }
+    try {
+      List<String> lines = Files.readAllLines(manifestFile, StandardCharsets.UTF_8);
+      for (String line : lines) {
+        String name = StringUtils.substringAfter(line, " ");
+        if (StringUtils.isNotBlank(name)) {
+          hashes.put(name, StringUtils.substringBefore(line, " "));
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Manifest cannot be read, every Java source will be compared: {}", manifestFile, e);
+      hashes.clear();
+    }
+    return hashes;
+  }
+
+  private static void writeManifest(Path manifestFile, Map<String, String> hashes) {
+    try (BufferedWriter writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, String> entry : new TreeMap<>(hashes).entrySet()) {
+        writer.write(entry.getValue() + " " + entry.getKey());
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Manifest cannot be written: " + manifestFile, e);
+    }
+  }
+
+  private static String hash(String content) {
+    return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+  }
+
+  private static void writeFile(String content, Path file) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write(content);
+    }
+  }
+
+  /**
+   * Options of writing the Java sources.
+   *
+   * @param skipUnchanged true to skip the sources whose content has not changed and to delete the
+   *     files of an earlier run that are no longer generated
+   * @param retainedNames the names of the sources that are generated by an earlier run and are left
+   *     on the file system as they are
+   * @param emitter the emitter of the source text by source name, null to write the text of the
+   *     Java source
+   */
+  @Builder
+  public record WriteOptions(
+      boolean skipUnchanged, Set<String> retainedNames, Function<String, String> emitter) {
+
+    /** Creates the options, without retained names if they are not given. */
+    public WriteOptions {
+      retainedNames = Objects.isNull(retainedNames) ? Set.of() : Set.copyOf(retainedNames);
+    }
+  }
+}
@@ -0,0 +1,412 @@
+package io.github.oguzdem.openapi.generator;
+
+import static io.github.oguzdem.openapi.generator.CodecHelper.COLLECTION_TYPES;
+import static io.github.oguzdem.openapi.generator.CodecHelper.addConstant;
+import static io.github.oguzdem.openapi.generator.CodecHelper.addJavaType;
+import static io.github.oguzdem.openapi.generator.CodecHelper.getInstanceFields;
+import static io.github.oguzdem.openapi.generator.CodecHelper.getJsonName;
+import static io.github.oguzdem.openapi.generator.CodecHelper.isFormattedDateTime;
+import static io.github.oguzdem.openapi.generator.CodecHelper.toConstantName;
+import static io.github.oguzdem.openapi.generator.CodecHelper.toDateTimeParse;
+import static io.github.oguzdem.openapi.generator.utils.JavaLiteralUtils.toStringLiteral;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MemberModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import javax.lang.model.element.Modifier;
+import lombok.Data;
+import lombok.Generated;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+
+/**
+ * Generates a view for the regular classes, records and mutable classes, which reads the properties
+ * of an instance lazily out of its raw JSON bytes instead of reading the JSON into the class. The
+ * view is nested into the top level class, and has a getter for every property of the class.
+ *
+ * <p>The view wraps a byte array or buffer without copying it. The first getter that is called
+ * indexes the offsets of the properties with a single pass of a {@link JsonParser}, which skips the
+ * values without reading them, and every getter decodes only the value of its property. Strings,
+ * numbers and booleans are read by the parser, and the values of the other types, such as enums,
+ * referenced classes and arrays, are read with the {@link ObjectMapper} of the base view. A nested
+ * class of the model is also read as its own view, so its nested values are not decoded either.
+ *
+ * <p>The base view, which keeps the bytes and the index and reads the values, is generated once
+ * every class is generated.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+final class JsonViewGenerator {
+
+  /** Name of the class the generated views extend. */
+  static final String BASE_VIEW_NAME = "GeneratedJsonView";
+
+  private static final String VIEW_SUFFIX = "View";
+  // Prefix of the constants of the property indexes, which keeps them apart from the constants of
+  // the types and formats of the properties, such as the type of status and the index of statusType
+  private static final String PROPERTY_PREFIX = "PROPERTY_";
+  private static final Set<Modifier> CONSTANT_MODIFIERS =
+      EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+  private static final Set<Modifier> FIELD_MODIFIERS = EnumSet.of(Modifier.PRIVATE, Modifier.FINAL);
+  // Types that are read by the read methods of the base view, by the type the method returns
+  private static final Map<String, String> READ_TYPES =
+      Map.ofEntries(
+          Map.entry("String", "String"),
+          Map.entry("int", "Integer"),
+          Map.entry("Integer", "Integer"),
+          Map.entry("long", "Long"),
+          Map.entry("Long", "Long"),
+          Map.entry("float", "Float"),
+          Map.entry("Float", "Float"),
+          Map.entry("double", "Double"),
+          Map.entry("Double", "Double"),
+          Map.entry("boolean", "Boolean"),
+          Map.entry("Boolean", "Boolean"));
+  // Parser methods of the read methods of the base view, by the type the method returns
+  private static final Map<String, String> PARSER_METHODS =
+      Map.of(
+          "String", "getValueAsString",
+          "Integer", "getIntValue",
+          "Long", "getLongValue",
+          "Float", "getFloatValue",
+          "Double", "getDoubleValue",
+          "Boolean", "getBooleanValue");
+  private static final String UNCHECKED_IO =
+      " catch (IOException exception) {throw new UncheckedIOException(exception);}";
+
+  private JsonViewGenerator() {}
+
+  /**
+   * Adds the view of the given class, and of its nested classes, to the model of the class.
+   *
+   * @param classModel the complete model of a top level class
+   */
+  static void generateViews(ClassModel classModel) {
+    generateViews(classModel, classModel);
+  }
+
+  private static void generateViews(ClassModel rootClassModel, ClassModel classModel) {
+    for (MemberModel member : List.copyOf(classModel.getMembers())) {
+      if (member instanceof ClassModel nestedType) {
+        generateViews(rootClassModel, nestedType);
+      }
+    }
+    // Every view is nested into the top level class, so the views refer to each other by their
+    // simple names, which Roaster keeps, instead of by qualified names
+    if (hasView(classModel)) {
+      rootClassModel.addNestedType(generateView(rootClassModel, classModel));
+    }
+  }
+
+  /**
+   * Generates the base view the generated views extend, and adds it to the context as {@value
+   * #BASE_VIEW_NAME}. If the Jackson codecs are enabled, the mapper of the base view registers the
+   * generated module. The base view is not generated if a generated type has its name.
+   *
+   * @param context the generation context that keeps the generated sources
+   */
+  static void generateBaseView(GenerationContext context) {
+    if (context.hasJavaSource(BASE_VIEW_NAME)
+        || context.getRetainedSourceNames().contains(BASE_VIEW_NAME)) {
+      log.error("JSON base view is not generated, a type is generated with its name");
+      return;
+    }
+    ClassModel baseView = new ClassModel(BASE_VIEW_NAME);
+    baseView.setJavadoc(
+        """
+        Reads the properties of a model lazily out of its raw JSON bytes. The offsets of the
+        properties are indexed on the first read, and every read decodes only the value of its
+        property. A missing property is read as null, without the default of the model.
+        <p>A view is not thread safe, as the index is created lazily.""");
+    baseView.addAnnotation(Generated.class);
+    baseView.addImport(JsonParseException.class);
+    baseView.addImport(JsonParser.class);
+    baseView.addImport(JsonToken.class);
+    baseView.addImport(JavaType.class);
+    baseView.addImport(ObjectMapper.class);
+    baseView.addImport(IOException.class);
+    baseView.addImport(UncheckedIOException.class);
+    baseView.addImport(Arrays.class);
+    baseView.addImport(Objects.class);
+    baseView.addImport(ToIntFunction.class);
+
+    String mapper = "new ObjectMapper().findAndRegisterModules()";
+    if (context.getConfig().isJacksonCodecsEnabled()) {
+      mapper += ".registerModule(new %s())".formatted(JacksonCodecGenerator.MODULE_NAME);
+    }
+    baseView.addField(
+        new FieldModel(
+            ObjectMapper.class.getSimpleName(),
+            "MAPPER",
+            CONSTANT_MODIFIERS,
+            mapper,
+            new ArrayList<>()));
+    baseView.addField(new FieldModel("byte[]", "bytes", FIELD_MODIFIERS, null, new ArrayList<>()));
+    baseView.addField(new FieldModel("int", "offset", FIELD_MODIFIERS, null, new ArrayList<>()));
+    baseView.addField(new FieldModel("int", "length", FIELD_MODIFIERS, null, new ArrayList<>()));
+    baseView.addField(
+        new FieldModel(
+            "ToIntFunction<String>", "properties", FIELD_MODIFIERS, null, new ArrayList<>()));
+    baseView.addField(
+        new FieldModel("int", "propertyCount", FIELD_MODIFIERS, null, new ArrayList<>()));
+    baseView.addField(
+        new FieldModel("int[]", "starts", EnumSet.of(Modifier.PRIVATE), null, new ArrayList<>()));
+    baseView.addField(
+        new FieldModel("int[]", "ends", EnumSet.of(Modifier.PRIVATE), null, new ArrayList<>()));
+
+    baseView
+        .addConstructor()
+        .addModifier(Modifier.PROTECTED)
+        .addParameter("byte[]", "bytes")
+        .addParameter("int", "offset")
+        .addParameter("int", "length")
+        .addParameter("ToIntFunction<String>", "properties")
+        .addParameter("int", "propertyCount")
+        .setBody(
+            "this.bytes = bytes;this.offset = offset;this.length = length;"
+                + "this.properties = properties;this.propertyCount = propertyCount;");
+
+    PARSER_METHODS.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(
+            entry ->
+                addReadMethod(
+                    baseView,
+                    "read" + entry.getKey(),
+                    entry.getKey(),
+                    "parser.%s()".formatted(entry.getValue())));
+    addReadMethod(baseView, "read", "Object", "MAPPER.readValue(parser, type)")
+        .addParameter("JavaType", "type");
+
+    baseView
+        .addMethod("isObject")
+        .addModifier(Modifier.PROTECTED)
+        .setReturnType("boolean")
+        .addParameter("int", "property")
+        .setBody(
+            "index();return starts[property] >= 0 && bytes[offset + starts[property]] == '{';");
+    baseView
+        .addMethod("offsetOf")
+        .addModifier(Modifier.PROTECTED)
+        .setReturnType("int")
+        .addParameter("int", "property")
+        .setBody("index();return offset + starts[property];");
+    baseView
+        .addMethod("lengthOf")
+        .addModifier(Modifier.PROTECTED)
+        .setReturnType("int")
+        .addParameter("int", "property")
+        .setBody("index();return ends[property] - starts[property];");
+    baseView
+        .addMethod("bytes")
+        .addModifier(Modifier.PROTECTED)
+        .setReturnType("byte[]")
+        .setBody("return bytes;");
+
+    baseView
+        .addMethod("parserAt")
+        .addModifier(Modifier.PRIVATE)
+        .setReturnType("JsonParser")
+        .addParameter("int", "property")
+        .addThrows(IOException.class)
+        .setBody(
+            "index();"
+                + "if (starts[property] < 0) {return null;}"
+                + "JsonParser parser = MAPPER.createParser("
+                + "bytes, offset + starts[property], ends[property] - starts[property]);"
+                + "if (parser.nextToken() == JsonToken.VALUE_NULL) {parser.close();return null;}"
+                + "return parser;");
+    // A number is followed by a delimiter that a parser of the value alone rejects, so the end of
+    // every value but a string is indexed, and a string is parsed up to its closing quote
+    baseView
+        .addMethod("index")
+        .addModifier(Modifier.PRIVATE)
+        .setReturnType("void")
+        .setBody(
+            "if (Objects.nonNull(starts)) {return;}"
+                + "int[] propertyStarts = new int[propertyCount];"
+                + "int[] propertyEnds = new int[propertyCount];"
+                + "Arrays.fill(propertyStarts, -1);"
+                + "try (JsonParser parser = MAPPER.createParser(bytes, offset, length)) {"
+                + "if (parser.nextToken() != JsonToken.START_OBJECT) {"
+                + "throw new JsonParseException(parser, \"expected a JSON object\");}"
+                + "while (parser.nextToken() == JsonToken.FIELD_NAME) {"
+                + "int property = properties.applyAsInt(parser.currentName());"
+                + "JsonToken token = parser.nextToken();"
+                + "if (property < 0) {parser.skipChildren();} else {"
+                + "propertyStarts[property] = (int) parser.currentTokenLocation().getByteOffset();"
+                + "parser.skipChildren();"
+                + "propertyEnds[property] = token == JsonToken.VALUE_STRING"
+                + " ? length : (int) parser.currentLocation().getByteOffset();}}}"
+                + UNCHECKED_IO
+                + "starts = propertyStarts;ends = propertyEnds;");
+
+    JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+    javaClass.setPackage(context.getConfig().getPackageName()).setName(BASE_VIEW_NAME);
+    context.putJavaSource(BASE_VIEW_NAME, javaClass);
+    context.getConfig().getSourceEmitter().complete(context, baseView, javaClass);
+  }
+
+  private static MethodModel addReadMethod(
+      ClassModel baseView, String name, String returnType, String read) {
+    return baseView
+        .addMethod(name)
+        .addModifier(Modifier.PROTECTED)
+        .setReturnType(returnType)
+        .addParameter("int", "property")
+        .setBody(
+            "try (JsonParser parser = parserAt(property)) {"
+                + "return Objects.isNull(parser) ? null : %s;}".formatted(read)
+                + UNCHECKED_IO);
+  }
+
+  private static boolean hasView(ClassModel classModel) {
+    return classModel.isRecord()
+        || classModel.hasAnnotation(Value.class)
+        || classModel.hasAnnotation(Data.class);
+  }
+
+  private static ClassModel generateView(ClassModel rootClassModel, ClassModel classModel) {
+    String type = classModel.getName() + VIEW_SUFFIX;
+    rootClassModel.addImport(ByteBuffer.class);
+    ClassModel view = new ClassModel(type).setStatic(true).setSuperType(BASE_VIEW_NAME);
+    List<FieldModel> properties =
+        getInstanceFields(classModel).stream()
+            .filter(field -> field.hasAnnotation(JsonProperty.class))
+            .filter(field -> !field.hasAnnotation(JsonAnySetter.class))
+            .toList();
+
+    StringBuilder cases = new StringBuilder();
+    List<String> constants = new ArrayList<>(properties.size());
+    for (int i = 0; i < properties.size(); i++) {
+      FieldModel property = properties.get(i);
+      String constant =
+          addConstant(
+              view, "int", PROPERTY_PREFIX + toConstantName(property.name()), String.valueOf(i));
+      constants.add(constant);
+      cases.append(
+          "case %s: return %s;".formatted(toStringLiteral(getJsonName(property)), constant));
+    }
+
+    view.addConstructor()
+        .addModifier(Modifier.PUBLIC)
+        .addParameter("byte[]", "bytes")
+        .addParameter("int", "offset")
+        .addParameter("int", "length")
+        .setBody(
+            "super(bytes, offset, length, %s::indexOf, %d);".formatted(type, properties.size()));
+    view.addMethod("of")
+        .addModifier(Modifier.PUBLIC)
+        .addModifier(Modifier.STATIC)
+        .setReturnType(type)
+        .addParameter("byte[]", "bytes")
+        .setBody("return new %s(bytes, 0, bytes.length);".formatted(type));
+    // A buffer without an accessible array, such as a direct buffer, is the only one copied
+    view.addMethod("of")
+        .addModifier(Modifier.PUBLIC)
+        .addModifier(Modifier.STATIC)
+        .setReturnType(type)
+        .addParameter("ByteBuffer", "buffer")
+        .setBody(
+            ("if (buffer.hasArray()) {return new %1$s(buffer.array(),"
+                    + " buffer.arrayOffset() + buffer.position(), buffer.remaining());}"
+                    + "byte[] bytes = new byte[buffer.remaining()];"
+                    + "buffer.duplicate().get(bytes);"
+                    + "return new %1$s(bytes, 0, bytes.length);")
+                .formatted(type));
+
+    for (int i = 0; i < properties.size(); i++) {
+      addGetters(rootClassModel, view, properties.get(i), constants.get(i));
+    }
+    view.addMethod("indexOf")
+        .addModifier(Modifier.PRIVATE)
+        .addModifier(Modifier.STATIC)
+        .setReturnType("int")
+        .addParameter("String", "propertyName")
+        .setBody("switch (propertyName) {%sdefault: return -1;}".formatted(cases));
+    return view;
+  }
+
+  private static void addGetters(
+      ClassModel rootClassModel, ClassModel view, FieldModel property, String constant) {
+    String getterName =
+        "get" + Character.toUpperCase(property.name().charAt(0)) + property.name().substring(1);
+    String type = property.type();
+    MethodModel getter = view.addMethod(getterName).addModifier(Modifier.PUBLIC);
+    if (READ_TYPES.containsKey(type)) {
+      getter
+          .setReturnType(READ_TYPES.get(type))
+          .setBody("return read%s(%s);".formatted(READ_TYPES.get(type), constant));
+      return;
+    }
+    getter.setReturnType(type);
+    if (isFormattedDateTime(property)) {
+      getter.setBody(
+          "String value = readString(%s);return value == null ? null : %s;"
+              .formatted(constant, toDateTimeParse(rootClassModel, view, property, "value")));
+      return;
+    }
+    for (Class<?> collectionType : COLLECTION_TYPES) {
+      String prefix = collectionType.getSimpleName() + "<";
+      if (type.startsWith(prefix)) {
+        rootClassModel.addImport(List.class);
+        String listType = "List<%s>".formatted(type.substring(prefix.length(), type.length() - 1));
+        getter.addAnnotation(SuppressWarnings.class).setStringValue("unchecked");
+        getter.setBody(
+            "%1$s value = (%1$s) read(%2$s, %3$s);return value == null ? null : %4$s.copyOf(value);"
+                .formatted(
+                    listType,
+                    constant,
+                    addJavaType(rootClassModel, view, property.name(), listType),
+                    collectionType.getSimpleName()));
+        return;
+      }
+    }
+    if (type.contains("<")) {
+      getter.addAnnotation(SuppressWarnings.class).setStringValue("unchecked");
+    }
+    getter.setBody(
+        "return (%s) read(%s, %s);"
+            .formatted(type, constant, addJavaType(rootClassModel, view, property.name(), type)));
+
+    // A nested class of the top level class is also read as its view, over the bytes of its value
+    Optional<ClassModel> nestedType =
+        rootClassModel.getMembers().stream()
+            .filter(ClassModel.class::isInstance)
+            .map(ClassModel.class::cast)
+            .filter(member -> member.getName().equals(type) && hasView(member))
+            .findFirst();
+    if (nestedType.isPresent()) {
+      String nestedView = type + VIEW_SUFFIX;
+      view.addMethod(getterName + VIEW_SUFFIX)
+          .addModifier(Modifier.PUBLIC)
+          .setReturnType(nestedView)
+          .setBody(
+              "return isObject(%1$s) ? new %2$s(bytes(), offsetOf(%1$s), lengthOf(%1$s)) : null;"
+                  .formatted(constant, nestedView));
+    }
+  }
+}
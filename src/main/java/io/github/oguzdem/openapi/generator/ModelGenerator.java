@@ -8,6 +8,9 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import javax.ws.rs.core.Response.Status;
@@ -21,21 +24,92 @@ public class ModelGenerator {
       "Media Type is not json deserializable. Skipping... [ path: {}, method: {}, responseType: {}, mediaType: {} ]";
 
   public static void generate(String inputFilePath) {
+    generate(inputFilePath, Config.defaults());
+  }
+
+  public static void generate(String inputFilePath, @NonNull Config config) {
+    GenerationContext context = new GenerationContext(config);
+    if (config.isStreamingIngestionEnabled()) {
+      try (StreamingSpecReader spec = StreamingSpecReader.open(Path.of(inputFilePath))) {
+        generate(context, spec.getComponents(), spec.getPaths());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Specification cannot be read: " + inputFilePath, e);
+      }
+      return;
+    }
+
     OpenAPIParser parser = new OpenAPIParser();
     SwaggerParseResult result = parser.readLocation(inputFilePath, null, null);
     OpenAPI openapi = result.getOpenAPI();
+    generate(context, openapi.getComponents(), openapi.getPaths());
+  }
 
-    if (Objects.nonNull(openapi.getComponents())
-        && Objects.nonNull(openapi.getComponents().getSchemas())) {
-      openapi
-          .getComponents()
-          .getSchemas()
-          .forEach(
-              (s, schema) -> TypeGenerator.getOrGenerateType(s, schema, openapi.getComponents()));
+  private static void generate(
+      GenerationContext context, Components components, Map<String, PathItem> paths) {
+    if (context.getConfig().isIncrementalGenerationEnabled()) {
+      Path outputDirectory = Path.of(context.getConfig().getFullOutputPath());
+      SchemaFingerprintCache cache =
+          IncrementalSchemaGenerator.generate(context, components, paths, outputDirectory);
+      PojoGenerator.writeJavaSources(context);
+      cache.write(outputDirectory);
+      return;
     }
 
-    if (Objects.nonNull(openapi.getPaths())) {
-      Map<String, PathItem> paths = openapi.getPaths();
+    generateComponentTypes(context, components);
+    generatePathTypes(context, paths, components);
+    PojoGenerator.writeJavaSources(context);
+  }
+
+  /**
+   * Generates the types of the component schemas of the given specification.
+   *
+   * @param context the generation context to fill
+   * @param openapi the specification
+   */
+  static void generateComponentTypes(GenerationContext context, OpenAPI openapi) {
+    generateComponentTypes(context, openapi.getComponents());
+  }
+
+  /**
+   * Generates the types of the schemas of the given components object.
+   *
+   * @param context the generation context to fill
+   * @param components the components object of the specification, may be null
+   */
+  static void generateComponentTypes(GenerationContext context, Components components) {
+    if (Objects.nonNull(components) && Objects.nonNull(components.getSchemas())) {
+      if (context.getConfig().isParallelGenerationEnabled()) {
+        ParallelSchemaGenerator.generate(context, components);
+      } else {
+        components
+            .getSchemas()
+            .forEach(
+                (s, schema) -> TypeGenerator.getOrGenerateType(context, s, schema, components));
+      }
+    }
+  }
+
+  /**
+   * Generates the types of the json response bodies of the given specification.
+   *
+   * @param context the generation context to fill
+   * @param openapi the specification
+   */
+  static void generatePathTypes(GenerationContext context, OpenAPI openapi) {
+    generatePathTypes(context, openapi.getPaths(), openapi.getComponents());
+  }
+
+  /**
+   * Generates the types of the json response bodies of the given paths.
+   *
+   * @param context the generation context to fill
+   * @param paths the paths of the specification, may be null
+   * @param components the components object of the specification, may be null
+   */
+  static void generatePathTypes(
+      GenerationContext context, Map<String, PathItem> paths, Components components) {
+    if (Objects.nonNull(paths)) {
+      Components pathComponents = Objects.nonNull(components) ? components : new Components();
       paths.forEach(
           (pathString, pathItem) ->
               pathItem
@@ -55,6 +129,7 @@ public class ModelGenerator {
                                                 if (mediaTypeString.contains("json")) {
                                                   if (isRef(mediaType.getSchema())) {
                                                     TypeGenerator.getOrGenerateType(
+                                                        context,
                                                         createClassName(
                                                             pathString,
                                                             httpMethod,
@@ -64,11 +139,10 @@ public class ModelGenerator {
                                                         Objects.nonNull(mediaType.getSchema())
                                                             ? (Schema<?>) mediaType.getSchema()
                                                             : new Schema<>(),
-                                                        Objects.nonNull(openapi.getComponents())
-                                                            ? openapi.getComponents()
-                                                            : new Components());
+                                                        pathComponents);
                                                   } else {
                                                     PojoGenerator.generate(
+                                                        context,
                                                         createClassName(
                                                             pathString,
                                                             httpMethod,
@@ -78,9 +152,7 @@ public class ModelGenerator {
                                                         Objects.nonNull(mediaType.getSchema())
                                                             ? (Schema<?>) mediaType.getSchema()
                                                             : new Schema<>(),
-                                                        Objects.nonNull(openapi.getComponents())
-                                                            ? openapi.getComponents()
-                                                            : new Components());
+                                                        pathComponents);
                                                   }
                                                 } else {
                                                   log.debug(
@@ -96,8 +168,6 @@ public class ModelGenerator {
                         }
                       }));
     }
-
-    PojoGenerator.writeJavaSources();
   }
 
   private static String createClassName(
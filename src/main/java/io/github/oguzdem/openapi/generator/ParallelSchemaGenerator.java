@@ -0,0 +1,136 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Generates the component schemas on a fork-join pool. The schemas are split into independent
+ * subgraphs with {@link SchemaDependencyGraph} and every subgraph is generated in its own {@link
+ * GenerationContext}. The contexts are merged in subgraph order afterwards, which gives the same
+ * result as generating the schemas one by one in declaration order.
+ *
+ * <p>Subgraphs only interact through the generated names. If two subgraphs claim the same name, or
+ * a subgraph looks up a schema by structure that another subgraph has generated, the parallel
+ * result is discarded and the schemas are generated sequentially instead.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+public class ParallelSchemaGenerator {
+
+  /**
+   * Generates every component schema into the given generation context.
+   *
+   * @param context the generation context to fill
+   * @param components the components object that contains the schemas
+   */
+  public static void generate(@NonNull GenerationContext context, @NonNull Components components) {
+    if (ObjectUtils.isEmpty(components.getSchemas())) {
+      return;
+    }
+    List<List<String>> subgraphs = SchemaDependencyGraph.of(components).getIndependentSubgraphs();
+    if (subgraphs.size() < 2) {
+      generateSequentially(context, components);
+      return;
+    }
+
+    List<GenerationContext> subgraphContexts =
+        generateSubgraphs(
+            subgraphs, subgraph -> new GenerationContext(context.getConfig()), components);
+    if (isMergeable(context, subgraphContexts)) {
+      subgraphContexts.forEach(context::merge);
+      log.debug("Generated {} independent schema subgraphs in parallel", subgraphs.size());
+    } else {
+      log.info("Schema subgraphs share generated names. Falling back to sequential generation.");
+      generateSequentially(context, components);
+    }
+  }
+
+  private static void generateSequentially(GenerationContext context, Components components) {
+    components
+        .getSchemas()
+        .forEach(
+            (name, schema) -> TypeGenerator.getOrGenerateType(context, name, schema, components));
+  }
+
+  /**
+   * Generates every given subgraph in its own generation context on a fork-join pool.
+   *
+   * @param subgraphs the independent subgraphs
+   * @param contextFactory the factory of the generation context of a subgraph
+   * @param components the components object that contains the schemas
+   * @return the generation contexts in subgraph order
+   */
+  static List<GenerationContext> generateSubgraphs(
+      List<List<String>> subgraphs,
+      Function<List<String>, GenerationContext> contextFactory,
+      Components components) {
+    Map<String, Schema> schemas = components.getSchemas();
+    List<Callable<GenerationContext>> tasks = new ArrayList<>();
+    for (List<String> subgraph : subgraphs) {
+      tasks.add(
+          () -> {
+            GenerationContext subgraphContext = contextFactory.apply(subgraph);
+            subgraph.forEach(
+                name ->
+                    TypeGenerator.getOrGenerateType(
+                        subgraphContext, name, schemas.get(name), components));
+            return subgraphContext;
+          });
+    }
+
+    ForkJoinPool pool = new ForkJoinPool();
+    try {
+      List<GenerationContext> subgraphContexts = new ArrayList<>();
+      for (Future<GenerationContext> future : pool.invokeAll(tasks)) {
+        subgraphContexts.add(future.get());
+      }
+      return subgraphContexts;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Parallel schema generation is interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static boolean isMergeable(
+      GenerationContext target, List<GenerationContext> subgraphContexts) {
+    Set<String> claimedNames = new HashSet<>(target.claimedNames());
+    Set<InternedSchema> generatedSchemas = new HashSet<>(target.schemaToGeneratedName.keySet());
+    for (GenerationContext subgraphContext : subgraphContexts) {
+      for (String name : subgraphContext.claimedNames()) {
+        if (!claimedNames.add(name)) {
+          log.debug("Generated name is claimed by more than one subgraph: {}", name);
+          return false;
+        }
+      }
+      for (InternedSchema schema : subgraphContext.blankNameLookups) {
+        if (generatedSchemas.contains(schema)) {
+          log.debug("Schema is shared by more than one subgraph: {}", schema.schema().getTitle());
+          return false;
+        }
+      }
+      generatedSchemas.addAll(subgraphContext.schemaToGeneratedName.keySet());
+    }
+    return true;
+  }
+}
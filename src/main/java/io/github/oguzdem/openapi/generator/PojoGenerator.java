@@ -9,19 +9,25 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.oguzdem.openapi.generator.bean.ArrayFieldGenerator;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MemberModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
+import io.github.oguzdem.openapi.generator.model.RoasterRenderer;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import javax.lang.model.element.Modifier;
 import joptsimple.internal.Strings;
 import lombok.Builder;
+import lombok.Data;
 import lombok.Generated;
 import lombok.NonNull;
 import lombok.extern.jackson.Jacksonized;
@@ -33,35 +39,51 @@ import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
 
 /**
  * Pojo generator class that generates Java classes from JSON schemas. It uses Roaster library to
  * generate Java classes. It generates classes with Lombok annotations like @{@link Builder}
  * and @{@link Jacksonized}. It also generates classes with @{@link JsonTypeInfo} annotation for the
  * classes that have <b>oneOf</b> property using the {@link JsonTypeInfo.Id#DEDUCTION} type for Pojo
- * inheritance support.
+ * inheritance support. If the record models are enabled, the regular classes are generated as
+ * records instead, which Jackson creates through their canonical constructor without a builder. If
+ * the pooled models are enabled, they are generated as mutable classes with a reset method and a
+ * pool instead, see {@link PooledModelGenerator}. If the JSON views are enabled, every class also
+ * nests a view that reads its properties lazily out of raw JSON, see {@link JsonViewGenerator}.
  *
  * @author Oguz Demirbasci
  */
 @Slf4j
 public class PojoGenerator {
 
-  private static final Map<String, JavaSource<?>> JAVA_SOURCE_MAP = new HashMap<>();
-
   /**
    * Generates a Java class from the given schema. If the schema has an <b>enum</b> property, it
    * will generate an enum class. If the schema has a <b>oneOf</b> property, it will generate an
    * interface class. Otherwise, it will generate a regular class. The generated class will be added
-   * to the {@link #JAVA_SOURCE_MAP} map with the given name.
+   * to the given {@link GenerationContext} with the given name before its body is filled.
+   *
+   * <p>The body is filled through the {@link TypeResolver} of the context. When called while
+   * another type is being filled, the body is filled once the types requested earlier are filled,
+   * otherwise the class is complete when this method returns.
+   *
+   * <p>The body of a regular class is analyzed into a {@link ClassModel} first, and the model is
+   * completed by the {@link SourceEmitter} of the {@link Config} once the body is complete. The
+   * Roaster emitter renders the model into the registered source with {@link RoasterRenderer},
+   * while the template emitter keeps the model to write it as text. If the Jackson codecs are
+   * enabled, the serializer and deserializer of the class are nested into the model before it is
+   * completed, and so is the view of the class if the JSON views are enabled.
    *
+   * @param context the generation context that keeps the generated sources
    * @param name the name of the class
    * @param schema the schema to generate the class from
    * @param components the components object that contains the schemas
    * @return the generated class as a string
    */
   public static <T> JavaSource<?> generate(
-      String name, @NonNull Schema<T> schema, Components components) {
+      @NonNull GenerationContext context,
+      String name,
+      @NonNull Schema<T> schema,
+      Components components) {
     String className = "";
     if (StringUtils.isBlank(name)) {
       log.error("no type is generated for empty name");
@@ -71,78 +93,98 @@ public class PojoGenerator {
       className = NameUtils.toJavaTypeNameFormat(name);
     }
     if (Objects.nonNull(schema.getEnum())) {
-      return generateEnum(className, schema);
+      return generateEnum(context, className, schema);
     } else if (Objects.nonNull(schema.getOneOf())) {
-      return generateInterface(className, schema, components);
+      return generateInterface(context, className, schema, components);
     } else if (isArray(schema)) {
-      return generateArrayClass(className, schema, components);
+      return generateArrayClass(context, className, schema, components);
     }
-    return generateClass(className, schema, components);
+    return generateClass(context, className, schema, components);
   }
 
   /**
-   * Returns the Java source object with the given name.
+   * Writes the Java sources to the file system. It writes the Java source objects of the given
+   * {@link GenerationContext} in parallel with {@link JavaSourceWriter}, emitting their text with
+   * the {@link SourceEmitter} of the {@link Config}. If unchanged output is skipped in the {@link
+   * Config} of the context, files with the same content are not rewritten and files of earlier runs
+   * that are no longer generated are deleted. Sources retained from an earlier run are left as they
+   * are. If the Jackson codecs are enabled, the module that registers them is generated before the
+   * sources are written, and so is the base view of the classes if the JSON views are enabled.
    *
-   * @param name the name of the Java source object
-   * @return the Java source object
+   * @param context the generation context that keeps the generated sources
+   * @throws JavaSourceWriteException if one or more sources cannot be written
    */
-  public static JavaSource<?> getJavaSource(String name) {
-    return JAVA_SOURCE_MAP.get(name);
-  }
-
-  /**
-   * Writes the Java sources to the file system. It writes the Java source objects in the {@link
-   * #JAVA_SOURCE_MAP} map.
-   */
-  public static void writeJavaSources() {
-    File theDir = new File(Config.getFullOutputPath());
-    if (!theDir.exists()) {
-      theDir.mkdirs();
-    }
-
-    JAVA_SOURCE_MAP.forEach(
-        (name, javaSource) -> {
-          try (PrintWriter out =
-              new PrintWriter(Config.getFullOutputPath() + "/%s.java".formatted(name))) {
-            out.println(javaSource);
-          } catch (FileNotFoundException e) {
-            log.error(e.getMessage(), e);
-          }
-        });
+  public static void writeJavaSources(@NonNull GenerationContext context) {
+    if (context.getConfig().isJacksonCodecsEnabled()) {
+      JacksonCodecGenerator.generateModule(context);
+    }
+    if (context.getConfig().isJsonViewsEnabled()) {
+      JsonViewGenerator.generateBaseView(context);
+    }
+    JavaSourceWriter.write(
+        context.getJavaSources(),
+        Path.of(context.getConfig().getFullOutputPath()),
+        JavaSourceWriter.WriteOptions.builder()
+            .skipUnchanged(context.getConfig().isSkipUnchangedOutputEnabled())
+            .retainedNames(context.getRetainedSourceNames())
+            .emitter(context::emitJavaSource)
+            .build());
   }
 
   private static <T> JavaSource<JavaClassSource> generateArrayClass(
-      String name, @NonNull Schema<T> schema, Components components) {
+      GenerationContext context, String name, @NonNull Schema<T> schema, Components components) {
     if (!isArray(schema)) {
       return null;
     }
 
-    String subType = TypeGenerator.getOrGenerateType(Strings.EMPTY, schema.getItems(), components);
-
     JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
-    javaClass.setSuperType("ArrayList<%s>".formatted(subType));
     addJavadoc(schema, javaClass);
-    addPackageInfo(name, schema, javaClass);
-    JAVA_SOURCE_MAP.put(name, javaClass);
-    javaClass.addImport(ArrayList.class);
-    javaClass.addAnnotation(Generated.class);
+    addPackageInfo(context, name, schema, javaClass);
+    context.putJavaSource(name, javaClass);
+    context.typeResolver.resolve(
+        name,
+        () -> {
+          String subType =
+              TypeGenerator.getOrGenerateType(
+                  context, Strings.EMPTY, schema.getItems(), components);
+          javaClass.setSuperType("ArrayList<%s>".formatted(subType));
+          javaClass.addImport(ArrayList.class);
+          javaClass.addAnnotation(Generated.class);
+        });
     return javaClass;
   }
 
   private static <T> JavaSource<JavaClassSource> generateClass(
-      String name, @NonNull Schema<T> schema, Components components) {
+      GenerationContext context, String name, @NonNull Schema<T> schema, Components components) {
     JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
-    addJavadoc(schema, javaClass);
-    addPackageInfo(name, schema, javaClass);
-    fillJavaClassSourceBySchema(javaClass, schema, components);
-    adjustConstructorByDefaultParams(javaClass, schema);
-    JAVA_SOURCE_MAP.put(name, javaClass);
-    javaClass.addAnnotation(Generated.class);
+    addPackageInfo(context, name, schema, javaClass);
+    context.putJavaSource(name, javaClass);
+    context.typeResolver.resolve(
+        name,
+        () -> {
+          ClassModel classModel = new ClassModel(javaClass.getName());
+          classModel.setJavadoc(toJavadoc(schema));
+          fillJavaClassSourceBySchema(context, classModel, schema, components);
+          if (classModel.isRecord()) {
+            completeRecord(classModel, classModel);
+          } else if (classModel.hasAnnotation(Data.class)) {
+            PooledModelGenerator.generateResetAndPool(classModel);
+          } else {
+            adjustConstructorByDefaultParams(classModel, schema);
+          }
+          classModel.addAnnotation(Generated.class);
+          if (context.getConfig().isJacksonCodecsEnabled()) {
+            JacksonCodecGenerator.generateCodecs(context, classModel);
+          }
+          if (context.getConfig().isJsonViewsEnabled()) {
+            JsonViewGenerator.generateViews(classModel);
+          }
+          context.getConfig().getSourceEmitter().complete(context, classModel, javaClass);
+        });
     return javaClass;
   }
 
-  private static void adjustConstructorByDefaultParams(
-      JavaClassSource javaClass, Schema<?> schema) {
+  private static void adjustConstructorByDefaultParams(ClassModel classModel, Schema<?> schema) {
 
     boolean removeConstructor;
 
@@ -155,54 +197,152 @@ public class PojoGenerator {
               .findAny();
       removeConstructor = anyDefaultParam.isEmpty();
     }
+    // The constructor copies the primitive arrays
+    removeConstructor &=
+        classModel.getConstructor().map(MethodModel::getParameters).stream()
+            .flatMap(List::stream)
+            .noneMatch(parameter -> ArrayFieldGenerator.isPrimitiveArrayType(parameter.type()));
 
     // Remove constructor if no param with default value
     if (removeConstructor) {
-      Optional<MethodSource<JavaClassSource>> constructorOpt =
-          javaClass.getMethods().stream()
-              .filter(method -> method.getName().equals(javaClass.getName()))
-              .findFirst();
-      constructorOpt.ifPresent(javaClass::removeMethod);
-      javaClass.addAnnotation(Builder.class);
-      javaClass.addAnnotation(Jacksonized.class);
+      classModel.getConstructor().ifPresent(classModel::removeMethod);
+      classModel.addAnnotation(Builder.class);
+      classModel.addAnnotation(Jacksonized.class);
     }
   }
 
-  private static JavaSource<JavaEnumSource> generateEnum(String name, Schema<?> schema) {
+  // A canonical constructor cannot declare exceptions, so the checked exceptions thrown by the
+  // defaults of a record are rethrown unchecked
+  private static void completeRecord(ClassModel rootClassModel, ClassModel classModel) {
+    classModel.getConstructor().ifPresent(PojoGenerator::rethrowUnchecked);
+    List<FieldModel> components = CodecHelper.getInstanceFields(classModel);
+    if (components.stream().anyMatch(component -> component.type().endsWith("[]"))) {
+      addArrayContentMethods(rootClassModel, classModel, components);
+    }
+    for (MemberModel member : List.copyOf(classModel.getMembers())) {
+      if (member instanceof ClassModel nestedType && nestedType.isRecord()) {
+        completeRecord(rootClassModel, nestedType);
+      }
+    }
+  }
+
+  /**
+   * Adds the equals, hashCode and toString methods to a record with array components, which
+   * compare, hash and print the arrays by their contents like a value class does, instead of by
+   * their identities like the methods a record has implicitly.
+   *
+   * @param rootClassModel the top level class that keeps the imports
+   * @param classModel the record
+   * @param components the components of the record
+   */
+  private static void addArrayContentMethods(
+      ClassModel rootClassModel, ClassModel classModel, List<FieldModel> components) {
+    rootClassModel.addImport(Arrays.class);
+    rootClassModel.addImport(Objects.class);
+    String name = classModel.getName();
+    List<String> comparisons = new ArrayList<>();
+    List<String> hashes = new ArrayList<>();
+    List<String> texts = new ArrayList<>();
+    for (FieldModel component : components) {
+      String field = component.name();
+      boolean array = component.type().endsWith("[]");
+      comparisons.add(
+          "%s.equals(this.%s, that.%s)".formatted(array ? "Arrays" : "Objects", field, field));
+      hashes.add(array ? "Arrays.hashCode(%s)".formatted(field) : field);
+      texts.add(
+          "\"%s=\" + %s".formatted(field, array ? "Arrays.toString(%s)".formatted(field) : field));
+    }
+    classModel
+        .addMethod("equals")
+        .addModifier(Modifier.PUBLIC)
+        .setReturnType("boolean")
+        .addParameter("Object", "other")
+        .setBody(
+            ("if (this == other) {return true;}"
+                    + "if (other == null || getClass() != other.getClass()) {return false;}"
+                    + "%1$s that = (%1$s) other;"
+                    + "return %2$s;")
+                .formatted(name, String.join(" && ", comparisons)))
+        .addAnnotation(Override.class);
+    classModel
+        .addMethod("hashCode")
+        .addModifier(Modifier.PUBLIC)
+        .setReturnType("int")
+        .setBody("return Objects.hash(%s);".formatted(String.join(", ", hashes)))
+        .addAnnotation(Override.class);
+    classModel
+        .addMethod("toString")
+        .addModifier(Modifier.PUBLIC)
+        .setReturnType("String")
+        .setBody("return \"%s[\" + %s + \"]\";".formatted(name, String.join(" + \", \" + ", texts)))
+        .addAnnotation(Override.class);
+  }
+
+  /**
+   * Wraps the body of the given method into a try statement that rethrows the checked exceptions
+   * the method declares as {@link IllegalArgumentException}, and removes them from the method. The
+   * defaults of the fields, such as the dates and URLs, only throw them for invalid literals.
+   *
+   * @param method the method to rethrow the exceptions of
+   */
+  static void rethrowUnchecked(MethodModel method) {
+    if (method.getThrownTypes().isEmpty()) {
+      return;
+    }
+    method.setBody(
+        "try {%s} catch (%s exception) {throw new IllegalArgumentException(exception);}"
+            .formatted(method.getBody(), String.join(" | ", method.getThrownTypes())));
+    method.getThrownTypes().clear();
+  }
+
+  private static JavaSource<JavaEnumSource> generateEnum(
+      GenerationContext context, String name, Schema<?> schema) {
     JavaEnumSource javaEnum = Roaster.create(JavaEnumSource.class);
     addJavadoc(schema, javaEnum);
-    addPackageInfo(name, schema, javaEnum);
+    addPackageInfo(context, name, schema, javaEnum);
     fillEnumSourceBySchema(javaEnum, schema);
-    JAVA_SOURCE_MAP.put(name, javaEnum);
+    context.putJavaSource(name, javaEnum);
     javaEnum.addAnnotation(Generated.class);
     return javaEnum;
   }
 
   private static JavaSource<?> generateInterface(
-      String name, Schema<?> schema, Components components) {
-    if (JAVA_SOURCE_MAP.containsKey(name)) {
-      return JAVA_SOURCE_MAP.get(name);
+      GenerationContext context, String name, Schema<?> schema, Components components) {
+    if (context.hasJavaSource(name)) {
+      return context.getJavaSource(name);
     }
     JavaInterfaceSource javaInterface = Roaster.create(JavaInterfaceSource.class);
     addJavadoc(schema, javaInterface);
-    addPackageInfo(name, schema, javaInterface);
+    addPackageInfo(context, name, schema, javaInterface);
     javaInterface.addAnnotation(JsonTypeInfo.class).setEnumValue("use", JsonTypeInfo.Id.DEDUCTION);
-    JAVA_SOURCE_MAP.put(name, javaInterface);
-    fillInterfaceSourceBySchema(javaInterface, schema, components);
-    javaInterface.addAnnotation(Generated.class);
+    context.putJavaSource(name, javaInterface);
+    context.typeResolver.resolve(
+        name,
+        () -> {
+          fillInterfaceSourceBySchema(context, javaInterface, schema, components);
+          javaInterface.addAnnotation(Generated.class);
+        });
     return javaInterface;
   }
 
-  private static void addPackageInfo(String name, Schema<?> schema, JavaSource<?> javaSource) {
+  private static void addPackageInfo(
+      GenerationContext context, String name, Schema<?> schema, JavaSource<?> javaSource) {
     if (ObjectUtils.isEmpty(name)) {
       name = schema.getTitle();
     }
-    javaSource.setPackage(Config.getPackageName()).setName(name);
+    javaSource.setPackage(context.getConfig().getPackageName()).setName(name);
   }
 
   private static void addJavadoc(Schema<?> schema, JavaSource<?> javaSource) {
+    String javadoc = toJavadoc(schema);
+    if (javadoc != null) {
+      javaSource.getJavaDoc().setFullText(javadoc);
+    }
+  }
+
+  private static String toJavadoc(Schema<?> schema) {
     if (ObjectUtils.isEmpty(schema)) {
-      return;
+      return null;
     }
     StringBuilder javadocBuilder = new StringBuilder();
     if (StringUtils.isNotBlank(schema.getDescription())) {
@@ -245,8 +385,6 @@ public class PojoGenerator {
 
       javadocBuilder.append("\n</pre>");
     }
-    if (!javadocBuilder.isEmpty()) {
-      javaSource.getJavaDoc().setFullText(javadocBuilder.toString());
-    }
+    return javadocBuilder.isEmpty() ? null : javadocBuilder.toString();
   }
 }
@@ -0,0 +1,117 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MemberModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+import lombok.Data;
+
+/**
+ * Completes the mutable classes of the pooled models. The statements the field generators add to
+ * the constructor of a mutable class are moved into its reset method, which sets every field to its
+ * default and clears the collections, and the constructor calls the reset method instead. The
+ * collections are created once with the class, so a reset instance is read into by Jackson, for
+ * example with {@code readerForUpdating}, without creating them again.
+ *
+ * <p>A top level class also gets a nested pool, which keeps a bounded stack of reset instances to
+ * acquire instead of creating new ones. The pool is not thread safe, as its Javadoc states, so
+ * every consumer thread has its own pool. The nested objects are not pooled on their own. They are
+ * kept with the instance that has read them and reset with it, so Jackson reads into them again
+ * instead of creating new ones.
+ *
+ * @author Oguz Demirbasci
+ */
+final class PooledModelGenerator {
+
+  /** Name of the method that resets an instance to its state after construction. */
+  static final String RESET_METHOD_NAME = "reset";
+
+  private static final String POOL_SUFFIX = "Pool";
+  private static final String POOL_JAVADOC = "Pool of reset instances, not thread safe.";
+  private static final String RESET_JAVADOC =
+      """
+      Resets the instance to its state after construction. The fields are set to their defaults, or
+      to null without one, and the collections are cleared.
+      <p>A nested object that has been read is kept and reset in place instead of being set to null,
+      so a following read without it leaves it empty. An empty nested object does not tell whether
+      the JSON that has been read has it.""";
+  private static final Set<Modifier> FIELD_MODIFIERS = EnumSet.of(Modifier.PRIVATE, Modifier.FINAL);
+
+  private PooledModelGenerator() {}
+
+  /**
+   * Adds the reset method to the given class and its nested mutable classes, and nests the pool of
+   * the class into its model.
+   *
+   * @param classModel the complete model of a top level mutable class
+   */
+  static void generateResetAndPool(ClassModel classModel) {
+    generateReset(classModel);
+    classModel.addNestedType(generatePool(classModel));
+  }
+
+  private static void generateReset(ClassModel classModel) {
+    for (MemberModel member : classModel.getMembers()) {
+      if (member instanceof ClassModel nestedType && nestedType.hasAnnotation(Data.class)) {
+        generateReset(nestedType);
+      }
+    }
+    MethodModel constructor =
+        classModel
+            .getConstructor()
+            .orElseGet(() -> classModel.addConstructor().addModifier(Modifier.PUBLIC));
+    MethodModel reset =
+        classModel
+            .addMethod(RESET_METHOD_NAME)
+            .addModifier(Modifier.PUBLIC)
+            .setReturnType("void")
+            .setJavadoc(RESET_JAVADOC);
+    if (Objects.nonNull(constructor.getBody())) {
+      reset.setBody(constructor.getBody());
+    }
+    reset.getThrownTypes().addAll(constructor.getThrownTypes());
+    PojoGenerator.rethrowUnchecked(reset);
+    constructor.getThrownTypes().clear();
+    constructor.setBody("%s();".formatted(RESET_METHOD_NAME));
+  }
+
+  private static ClassModel generatePool(ClassModel classModel) {
+    String type = classModel.getName();
+    classModel.addImport(ArrayDeque.class);
+    classModel.addImport(Objects.class);
+    ClassModel pool = new ClassModel(type + POOL_SUFFIX).setStatic(true).setJavadoc(POOL_JAVADOC);
+    pool.addField(
+        new FieldModel(
+            "ArrayDeque<%s>".formatted(type),
+            "instances",
+            FIELD_MODIFIERS,
+            null,
+            new ArrayList<>()));
+    pool.addField(new FieldModel("int", "capacity", FIELD_MODIFIERS, null, new ArrayList<>()));
+    pool.addConstructor()
+        .addModifier(Modifier.PUBLIC)
+        .addParameter("int", "capacity")
+        .setBody("this.instances = new ArrayDeque<>(capacity);this.capacity = capacity;");
+    pool.addMethod("acquire")
+        .addModifier(Modifier.PUBLIC)
+        .setReturnType(type)
+        .setBody(
+            ("%1$s instance = instances.pollLast();"
+                    + "return Objects.isNull(instance) ? new %1$s() : instance;")
+                .formatted(type));
+    pool.addMethod("release")
+        .addModifier(Modifier.PUBLIC)
+        .setReturnType("void")
+        .addParameter(type, "instance")
+        .setBody(
+            "if (instances.size() < capacity) {instance.%s();instances.addLast(instance);}"
+                .formatted(RESET_METHOD_NAME));
+    return pool;
+  }
+}
@@ -0,0 +1,215 @@
+package io.github.oguzdem.openapi.generator;
+
+import com.google.common.collect.MapMaker;
+import io.github.oguzdem.openapi.generator.utils.NameUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Resolution index of the <b>$ref</b> strings of a components object. The index maps every ref into
+ * <b>#/components/schemas</b>, <b>#/components/responses</b>, <b>#/components/parameters</b> and
+ * <b>#/components/requestBodies</b> to the schema it resolves to and the Java type name the schema
+ * is generated with. The schema of a response or a request body is the schema of its json content.
+ *
+ * <p>The index of a components object is built once, on its first use, and shared by every
+ * generator and generation run. The components object is expected not to change once it is indexed.
+ * The refs into the schemas are looked up in the schema map of the components object when they are
+ * resolved, so the schemas of a {@link StreamingSpecReader} are only read as they are referred to.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class RefIndex {
+
+  /** Prefix of the refs into the responses of the components object. */
+  public static final String COMPONENTS_RESPONSES_REF = "#/components/responses/";
+
+  /** Prefix of the refs into the parameters of the components object. */
+  public static final String COMPONENTS_PARAMETERS_REF = "#/components/parameters/";
+
+  /** Prefix of the refs into the request bodies of the components object. */
+  public static final String COMPONENTS_REQUEST_BODIES_REF = "#/components/requestBodies/";
+
+  private static final RefIndex EMPTY = new RefIndex(Map.of(), Map.of());
+  private static final ConcurrentMap<Components, RefIndex> INDEXES =
+      new MapMaker().weakKeys().makeMap();
+
+  private final Map<String, ResolvedRef> refs;
+  private final Map<String, Schema> schemas;
+
+  private RefIndex(Map<String, ResolvedRef> refs, Map<String, Schema> schemas) {
+    this.refs = refs;
+    this.schemas = schemas;
+  }
+
+  /**
+   * Resolved target of a ref.
+   *
+   * @param ref the ref string
+   * @param name the name of the referenced component
+   * @param schema the schema the ref resolves to
+   * @param typeName the Java type name of the referenced component
+   */
+  public record ResolvedRef(String ref, String name, Schema<?> schema, String typeName) {
+
+    /**
+     * Checks if the ref points into the schemas of the components object.
+     *
+     * @return true if the ref is a component schema ref
+     */
+    public boolean isComponentSchema() {
+      return ref.startsWith(Components.COMPONENTS_SCHEMAS_REF);
+    }
+  }
+
+  /**
+   * Returns the index of the given components object. The index is built on the first call for a
+   * components object and reused afterwards.
+   *
+   * @param components the components object, may be null
+   * @return the index of the components object
+   */
+  public static RefIndex of(Components components) {
+    if (Objects.isNull(components)) {
+      return EMPTY;
+    }
+    return INDEXES.computeIfAbsent(components, RefIndex::build);
+  }
+
+  /**
+   * Returns the resolved target of the given ref.
+   *
+   * @param ref the ref string
+   * @return the resolved target or empty if the ref cannot be resolved
+   */
+  public Optional<ResolvedRef> find(String ref) {
+    String key = StringUtils.defaultString(ref);
+    ResolvedRef resolvedRef = refs.get(key);
+    return Optional.ofNullable(
+        Objects.nonNull(resolvedRef) ? resolvedRef : findSchema(schemas, key));
+  }
+
+  /**
+   * Returns the resolved target of the given ref.
+   *
+   * @param ref the ref string
+   * @return the resolved target
+   * @throws IllegalArgumentException if the ref cannot be resolved
+   */
+  public ResolvedRef resolve(String ref) {
+    return find(ref)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Referenced schema is not found in the schema map! %s".formatted(ref)));
+  }
+
+  private static RefIndex build(Components components) {
+    Map<String, ResolvedRef> refs = new HashMap<>();
+    Map<String, String> aliases = new HashMap<>();
+    index(
+        refs,
+        aliases,
+        COMPONENTS_RESPONSES_REF,
+        components.getResponses(),
+        ApiResponse::get$ref,
+        response -> jsonSchema(response.getContent()));
+    index(
+        refs,
+        aliases,
+        COMPONENTS_PARAMETERS_REF,
+        components.getParameters(),
+        Parameter::get$ref,
+        parameter ->
+            Objects.nonNull(parameter.getSchema())
+                ? parameter.getSchema()
+                : jsonSchema(parameter.getContent()));
+    index(
+        refs,
+        aliases,
+        COMPONENTS_REQUEST_BODIES_REF,
+        components.getRequestBodies(),
+        RequestBody::get$ref,
+        requestBody -> jsonSchema(requestBody.getContent()));
+
+    // Components that refer to other components resolve to the target of their ref.
+    Map<String, Schema> schemas =
+        Objects.nonNull(components.getSchemas()) ? components.getSchemas() : Map.of();
+    boolean resolved = true;
+    while (resolved && !aliases.isEmpty()) {
+      resolved = false;
+      for (Map.Entry<String, String> alias : Map.copyOf(aliases).entrySet()) {
+        ResolvedRef target = refs.get(alias.getValue());
+        if (Objects.isNull(target)) {
+          target = findSchema(schemas, alias.getValue());
+        }
+        if (Objects.nonNull(target)) {
+          refs.put(
+              alias.getKey(),
+              new ResolvedRef(alias.getKey(), target.name(), target.schema(), target.typeName()));
+          aliases.remove(alias.getKey());
+          resolved = true;
+        }
+      }
+    }
+    return new RefIndex(Map.copyOf(refs), schemas);
+  }
+
+  private static ResolvedRef findSchema(Map<String, Schema> schemas, String ref) {
+    if (!ref.startsWith(Components.COMPONENTS_SCHEMAS_REF)) {
+      return null;
+    }
+    String name = ref.substring(Components.COMPONENTS_SCHEMAS_REF.length());
+    Schema<?> schema = schemas.get(name);
+    if (Objects.isNull(schema)) {
+      return null;
+    }
+    return new ResolvedRef(ref, name, schema, NameUtils.toJavaTypeNameFormat(name));
+  }
+
+  private static <T> void index(
+      Map<String, ResolvedRef> refs,
+      Map<String, String> aliases,
+      String prefix,
+      Map<String, T> entries,
+      Function<T, String> refOf,
+      Function<T, Schema<?>> schemaOf) {
+    if (Objects.isNull(entries)) {
+      return;
+    }
+    entries.forEach(
+        (name, entry) -> {
+          String ref = prefix + name;
+          Schema<?> schema = schemaOf.apply(entry);
+          String targetRef = refOf.apply(entry);
+          if (StringUtils.isNotBlank(targetRef)) {
+            aliases.put(ref, targetRef);
+          } else if (Objects.nonNull(schema)) {
+            refs.put(ref, new ResolvedRef(ref, name, schema, NameUtils.toJavaTypeNameFormat(name)));
+          }
+        });
+  }
+
+  private static Schema<?> jsonSchema(Map<String, MediaType> content) {
+    if (Objects.isNull(content)) {
+      return null;
+    }
+    return content.entrySet().stream()
+        .filter(entry -> entry.getKey().contains("json"))
+        .map(Map.Entry::getValue)
+        .map(MediaType::getSchema)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElse(null);
+  }
+}
@@ -0,0 +1,26 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.RoasterRenderer;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Source emitter that renders a class model into its Roaster source as soon as it is complete, so
+ * every registered source is complete and formatted by Roaster when it is written.
+ *
+ * @author Oguz Demirbasci
+ */
+final class RoasterSourceEmitter implements SourceEmitter {
+
+  @Override
+  public void complete(
+      GenerationContext context, ClassModel classModel, JavaClassSource javaClass) {
+    RoasterRenderer.render(classModel, javaClass);
+  }
+
+  @Override
+  public String emit(GenerationContext context, JavaSource<?> javaSource) {
+    return javaSource.toString();
+  }
+}
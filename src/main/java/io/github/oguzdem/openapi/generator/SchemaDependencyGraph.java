@@ -0,0 +1,235 @@
+package io.github.oguzdem.openapi.generator;
+
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isRef;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.NonNull;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Dependency graph of the component schemas. A schema depends on every component schema it
+ * references with a <b>$ref</b>, directly or through its properties, items, compositions and
+ * additional properties. Refs into the responses, parameters and request bodies are followed to the
+ * component schemas their schemas reference. Schemas that are not connected by any reference, in
+ * either direction, end up in different independent subgraphs and can be generated without
+ * affecting each other. The graph also keeps the reverse edges, so the schemas that depend on a
+ * changed schema can be found without a pass over the whole graph.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class SchemaDependencyGraph {
+
+  private final Map<String, Set<String>> references;
+  private final Map<String, Set<String>> referrers;
+  private final Map<String, Set<String>> oneOfReferences;
+
+  private SchemaDependencyGraph(
+      Map<String, Set<String>> references, Map<String, Set<String>> oneOfReferences) {
+    this.references = references;
+    this.oneOfReferences = oneOfReferences;
+    this.referrers = new LinkedHashMap<>();
+    references.keySet().forEach(name -> referrers.put(name, new LinkedHashSet<>()));
+    references.forEach(
+        (name, refs) ->
+            refs.forEach(
+                ref -> referrers.computeIfAbsent(ref, k -> new LinkedHashSet<>()).add(name)));
+  }
+
+  /**
+   * Builds the dependency graph of the schemas in the given components object. The iteration order
+   * of the graph follows the declaration order of the schemas.
+   *
+   * @param components the components object that contains the schemas
+   * @return the dependency graph
+   */
+  public static SchemaDependencyGraph of(@NonNull Components components) {
+    Map<String, Set<String>> references = new LinkedHashMap<>();
+    Map<String, Set<String>> oneOfReferences = new LinkedHashMap<>();
+    if (ObjectUtils.isNotEmpty(components.getSchemas())) {
+      RefIndex refIndex = RefIndex.of(components);
+      components
+          .getSchemas()
+          .forEach(
+              (name, schema) -> {
+                Set<String> refs = new LinkedHashSet<>();
+                Set<String> oneOfRefs = new LinkedHashSet<>();
+                Set<Schema<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+                collectReferences(schema, refIndex, refs, oneOfRefs, visited);
+                references.put(name, Collections.unmodifiableSet(refs));
+                oneOfReferences.put(name, oneOfRefs);
+              });
+    }
+    return new SchemaDependencyGraph(references, oneOfReferences);
+  }
+
+  /**
+   * Returns the names of the schemas in declaration order.
+   *
+   * @return the schema names
+   */
+  public Set<String> getSchemaNames() {
+    return Collections.unmodifiableSet(references.keySet());
+  }
+
+  /**
+   * Returns the names of the component schemas directly referenced by the given schema.
+   *
+   * @param name the name of the schema
+   * @return the referenced schema names, or an empty set if the schema is unknown
+   */
+  public Set<String> getReferences(String name) {
+    return references.getOrDefault(name, Collections.emptySet());
+  }
+
+  /**
+   * Returns the names of the schemas that directly reference the given schema.
+   *
+   * @param name the name of the schema
+   * @return the referring schema names, or an empty set if the schema is unknown
+   */
+  public Set<String> getReferrers(String name) {
+    return Collections.unmodifiableSet(referrers.getOrDefault(name, Collections.emptySet()));
+  }
+
+  /**
+   * Returns the given schemas together with every schema that references one of them, directly or
+   * through other schemas.
+   *
+   * @param names the names of the schemas
+   * @return the given schema names and their transitive referrers
+   */
+  public Set<String> getTransitiveReferrers(Collection<String> names) {
+    Set<String> result = new LinkedHashSet<>(names);
+    Deque<String> pending = new ArrayDeque<>(names);
+    while (!pending.isEmpty()) {
+      for (String referrer : referrers.getOrDefault(pending.pop(), Collections.emptySet())) {
+        if (result.add(referrer)) {
+          pending.push(referrer);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Splits the graph into the groups of schemas that are tied by a <b>oneOf</b> of refs. A oneOf
+   * schema adds its interface to the classes of the schemas it references, so the schemas of a
+   * group have to be generated together. Every other schema is a group of its own. Groups are
+   * ordered by the position of their first schema and keep the declaration order of the schemas.
+   *
+   * @return the schema groups
+   */
+  public List<List<String>> getOneOfGroups() {
+    return group(oneOfReferences);
+  }
+
+  /**
+   * Splits the graph into weakly connected subgraphs. Subgraphs are ordered by the position of
+   * their first schema and the schemas in a subgraph keep their declaration order, so generating
+   * the subgraphs one after another visits the schemas in the same relative order as a single pass
+   * over the components object.
+   *
+   * @return the independent subgraphs
+   */
+  public List<List<String>> getIndependentSubgraphs() {
+    return group(references);
+  }
+
+  private List<List<String>> group(Map<String, Set<String>> edges) {
+    Map<String, String> parents = new LinkedHashMap<>();
+    references.keySet().forEach(name -> parents.put(name, name));
+    edges.forEach((name, refs) -> refs.forEach(ref -> union(parents, name, ref)));
+
+    Map<String, List<String>> subgraphs = new LinkedHashMap<>();
+    for (String name : references.keySet()) {
+      subgraphs.computeIfAbsent(find(parents, name), k -> new ArrayList<>()).add(name);
+    }
+    return subgraphs.values().stream().map(Collections::unmodifiableList).toList();
+  }
+
+  private static void collectReferences(
+      Schema<?> schema,
+      RefIndex refIndex,
+      Set<String> refs,
+      Set<String> oneOfRefs,
+      Set<Schema<?>> visited) {
+    if (Objects.isNull(schema) || !visited.add(schema)) {
+      return;
+    }
+    if (isRef(schema)) {
+      refIndex
+          .find(schema.get$ref())
+          .ifPresent(
+              ref -> {
+                if (ref.isComponentSchema()) {
+                  refs.add(ref.name());
+                } else {
+                  collectReferences(ref.schema(), refIndex, refs, oneOfRefs, visited);
+                }
+              });
+    }
+    if (Objects.nonNull(schema.getProperties())) {
+      schema
+          .getProperties()
+          .values()
+          .forEach(s -> collectReferences(s, refIndex, refs, oneOfRefs, visited));
+    }
+    collectReferences(schema.getItems(), refIndex, refs, oneOfRefs, visited);
+    collectReferences(schema.getNot(), refIndex, refs, oneOfRefs, visited);
+    if (Objects.nonNull(schema.getAllOf())) {
+      schema.getAllOf().forEach(s -> collectReferences(s, refIndex, refs, oneOfRefs, visited));
+    }
+    if (Objects.nonNull(schema.getAnyOf())) {
+      schema.getAnyOf().forEach(s -> collectReferences(s, refIndex, refs, oneOfRefs, visited));
+    }
+    if (Objects.nonNull(schema.getOneOf())) {
+      schema.getOneOf().stream()
+          .filter(s -> Objects.nonNull(s) && isRef(s))
+          .forEach(
+              s ->
+                  refIndex
+                      .find(s.get$ref())
+                      .filter(RefIndex.ResolvedRef::isComponentSchema)
+                      .ifPresent(ref -> oneOfRefs.add(ref.name())));
+      schema.getOneOf().forEach(s -> collectReferences(s, refIndex, refs, oneOfRefs, visited));
+    }
+    if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+      collectReferences(additionalProperties, refIndex, refs, oneOfRefs, visited);
+    }
+  }
+
+  private static String find(Map<String, String> parents, String name) {
+    String root = name;
+    while (!root.equals(parents.get(root))) {
+      root = parents.get(root);
+    }
+    String current = name;
+    while (!current.equals(root)) {
+      String next = parents.get(current);
+      parents.put(current, root);
+      current = next;
+    }
+    return root;
+  }
+
+  private static void union(Map<String, String> parents, String first, String second) {
+    String firstRoot = find(parents, first);
+    String secondRoot = find(parents, second);
+    if (!firstRoot.equals(secondRoot)) {
+      parents.put(secondRoot, firstRoot);
+    }
+  }
+}
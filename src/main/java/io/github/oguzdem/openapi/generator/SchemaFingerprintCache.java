@@ -0,0 +1,186 @@
+package io.github.oguzdem.openapi.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persisted fingerprints of the schema groups generated by an earlier run. A group is the unit of
+ * regeneration: its fingerprint covers the names and the canonical form of the schemas in it and
+ * the configuration the sources are generated with. Next to the fingerprint, the cache keeps the
+ * names the group has claimed and the generated sources, so an unchanged group can be kept without
+ * generating it again.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+public record SchemaFingerprintCache(List<Unit> units) {
+
+  /** Name of the cache file in the output directory. */
+  public static final String CACHE_FILE_NAME = ".schema-fingerprints.json";
+
+  private static final ObjectMapper CACHE_MAPPER = new ObjectMapper();
+
+  /**
+   * Writes the properties of a schema in alphabetical order. The entries of a map keep their order,
+   * as the order of the properties of a schema is the order of the fields of its class.
+   */
+  private static final ObjectMapper CANONICAL_MAPPER =
+      Json.mapper().copy().configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+
+  /**
+   * Generation result of a schema group.
+   *
+   * @param fingerprint the fingerprint of the group
+   * @param componentTypes the component schemas that are generated with their own name
+   * @param occurrences the number of types generated for every requested name
+   * @param objectNames the generated type names
+   * @param sourceNames the names of the generated Java sources
+   * @param generatedSchemas the fingerprints of the generated schemas
+   * @param blankNameLookups the fingerprints of the schemas looked up without a name
+   * @param codecTypeNames the names of the classes that have generated Jackson codecs
+   */
+  public record Unit(
+      String fingerprint,
+      Set<String> componentTypes,
+      Map<String, Integer> occurrences,
+      Set<String> objectNames,
+      Set<String> sourceNames,
+      Set<String> generatedSchemas,
+      Set<String> blankNameLookups,
+      Set<String> codecTypeNames) {
+
+    /**
+     * Returns every name the group has claimed.
+     *
+     * @return the claimed names
+     */
+    public Set<String> claimedNames() {
+      Set<String> names = new HashSet<>(occurrences.keySet());
+      names.addAll(objectNames);
+      names.addAll(sourceNames);
+      return names;
+    }
+  }
+
+  /**
+   * Returns the cached unit with the given fingerprint.
+   *
+   * @param fingerprint the fingerprint of the group
+   * @return the cached unit or empty if the group is not cached
+   */
+  public Optional<Unit> find(String fingerprint) {
+    return units.stream().filter(unit -> unit.fingerprint().equals(fingerprint)).findFirst();
+  }
+
+  /**
+   * Reads the cache from the given output directory. A missing or unreadable cache is returned as
+   * an empty cache.
+   *
+   * @param outputDirectory the directory the sources are generated into
+   * @return the cache of the earlier run
+   */
+  public static SchemaFingerprintCache read(@NonNull Path outputDirectory) {
+    Path cacheFile = outputDirectory.resolve(CACHE_FILE_NAME);
+    if (Files.isRegularFile(cacheFile)) {
+      try {
+        SchemaFingerprintCache cache =
+            CACHE_MAPPER.readValue(cacheFile.toFile(), SchemaFingerprintCache.class);
+        if (Objects.nonNull(cache.units())) {
+          return cache;
+        }
+      } catch (IOException e) {
+        log.warn("Schema fingerprint cache cannot be read, every schema will be generated", e);
+      }
+    }
+    return new SchemaFingerprintCache(List.of());
+  }
+
+  /**
+   * Deletes the cache from the given output directory.
+   *
+   * @param outputDirectory the directory the sources are generated into
+   */
+  public static void delete(@NonNull Path outputDirectory) {
+    try {
+      Files.deleteIfExists(outputDirectory.resolve(CACHE_FILE_NAME));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Schema fingerprint cache cannot be deleted", e);
+    }
+  }
+
+  /**
+   * Writes the cache into the given output directory.
+   *
+   * @param outputDirectory the directory the sources are generated into
+   */
+  public void write(@NonNull Path outputDirectory) {
+    try {
+      Files.createDirectories(outputDirectory);
+      Files.writeString(
+          outputDirectory.resolve(CACHE_FILE_NAME),
+          CACHE_MAPPER.writeValueAsString(this),
+          StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Schema fingerprint cache cannot be written", e);
+    }
+  }
+
+  /**
+   * Returns the fingerprint of the given schema. The fingerprint is the SHA-256 hash of the
+   * canonical JSON form of the schema, in which the properties of every object are sorted, so
+   * structurally equal schemas share the same fingerprint.
+   *
+   * @param schema the schema
+   * @return the fingerprint of the schema
+   */
+  public static String fingerprint(Schema<?> schema) {
+    return Hashing.sha256().hashString(toJson(schema), StandardCharsets.UTF_8).toString();
+  }
+
+  /**
+   * Returns the fingerprint of the given schemas together with their names and the configuration
+   * fingerprint.
+   *
+   * @param configFingerprint the fingerprint of the configuration
+   * @param schemas the schemas by their names in generation order
+   * @return the fingerprint of the schemas
+   */
+  public static String fingerprint(String configFingerprint, Map<String, Schema<?>> schemas) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(configFingerprint, StandardCharsets.UTF_8);
+    schemas.forEach(
+        (name, schema) ->
+            hasher
+                .putString(name, StandardCharsets.UTF_8)
+                .putChar('\0')
+                .putString(toJson(schema), StandardCharsets.UTF_8)
+                .putChar('\0'));
+    return hasher.hash().toString();
+  }
+
+  private static String toJson(Schema<?> schema) {
+    try {
+      return CANONICAL_MAPPER.writeValueAsString(schema);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException("Schema cannot be serialized: " + schema.getTitle(), e);
+    }
+  }
+}
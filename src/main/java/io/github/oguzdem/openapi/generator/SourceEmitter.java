@@ -0,0 +1,40 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Turns the generated classes into source text. The body of a regular class is analyzed into a
+ * {@link ClassModel}, and the emitter of the {@link Config} decides whether the model is rendered
+ * into its Roaster source or written as text directly when the sources are written. Enums,
+ * interfaces and array classes are always generated with Roaster.
+ *
+ * @author Oguz Demirbasci
+ */
+public interface SourceEmitter {
+
+  /** Renders the class models into the Roaster sources. */
+  SourceEmitter ROASTER = new RoasterSourceEmitter();
+
+  /** Keeps the class models and writes them as text without Roaster. */
+  SourceEmitter TEMPLATE = new TemplateSourceEmitter();
+
+  /**
+   * Completes the class of the given model once its body is filled.
+   *
+   * @param context the generation context that keeps the generated sources
+   * @param classModel the complete class model
+   * @param javaClass the registered source of the class
+   */
+  void complete(GenerationContext context, ClassModel classModel, JavaClassSource javaClass);
+
+  /**
+   * Emits the text of the given source.
+   *
+   * @param context the generation context that keeps the generated sources
+   * @param javaSource the generated source
+   * @return the source text
+   */
+  String emit(GenerationContext context, JavaSource<?> javaSource);
+}
@@ -0,0 +1,373 @@
+package io.github.oguzdem.openapi.generator;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.yaml.snakeyaml.LoaderOptions;
+
+/**
+ * Reads a specification without loading the whole document. The document is streamed once with the
+ * Jackson streaming parser, and the byte range of every component schema and every path is indexed
+ * while the parser skips over them. A schema is read from its byte range only when it is asked for,
+ * so neither the tree of the whole document nor a resolved model of it is built.
+ *
+ * <p>The components object returned by the reader holds the schemas as a map over the index. The
+ * schemas that are read are cached weakly, so a schema is the same instance for every lookup while
+ * something refers to it and is read again otherwise. The {@link GenerationContext} refers to every
+ * schema it generates until the run ends, so a full generation still keeps every generated schema
+ * in memory; only the schemas that are never generated are not kept. The other sections of the
+ * components object are small compared to the schemas and are read as they are. The paths are read
+ * one at a time as the returned map is iterated.
+ *
+ * <p>Only the refs into the document itself are resolved. JSON documents and YAML documents are
+ * supported; YAML anchors that are defined in one indexed value and used in another one are not.
+ *
+ * @author Oguz Demirbasci
+ */
+@Slf4j
+public final class StreamingSpecReader implements Closeable {
+  private static final String COMPONENTS = "components";
+  private static final String SCHEMAS = "schemas";
+  private static final String PATHS = "paths";
+  private static final String PATHS_LOCATION = "paths.";
+  // The document is streamed rather than loaded, so it is not limited to the 3 MB of SnakeYAML
+  private static final int YAML_CODE_POINT_LIMIT = Integer.MAX_VALUE;
+
+  private final Path specFile;
+  private final boolean yaml;
+  private final ObjectMapper mapper;
+  private final Map<String, Range> schemaRanges = new LinkedHashMap<>();
+  private final Map<String, Range> pathRanges = new LinkedHashMap<>();
+  private final LoadingCache<String, Schema<?>> schemas =
+      CacheBuilder.newBuilder().weakValues().build(CacheLoader.from(this::readSchema));
+  private final AtomicInteger readSchemaCount = new AtomicInteger();
+  private final FileChannel channel;
+  private final Components components;
+
+  /**
+   * Byte range of an indexed value in the document. A YAML value is indented by the column it
+   * starts at, so it is read back with as many spaces in front of it.
+   *
+   * @param start the offset of the first byte of the value
+   * @param end the offset after the last byte of the value
+   * @param column the 1-based column the value starts at
+   */
+  private record Range(long start, long end, int column) {}
+
+  private StreamingSpecReader(Path specFile) throws IOException {
+    this.specFile = specFile;
+    this.yaml = isYaml(specFile);
+    this.mapper = yaml ? new ObjectMapper(createYamlFactory()) : new ObjectMapper();
+    ObjectNode componentsNode = index();
+    if (yaml) {
+      toByteRanges();
+    }
+    this.channel = FileChannel.open(specFile, StandardOpenOption.READ);
+    Components readComponents =
+        new OpenAPIDeserializer()
+            .getComponents(componentsNode, COMPONENTS, new OpenAPIDeserializer.ParseResult());
+    this.components = Objects.nonNull(readComponents) ? readComponents : new Components();
+    this.components.setSchemas(new IndexedMap<>(schemaRanges.keySet(), schemas::getUnchecked));
+    log.info(
+        "Indexed {} schemas and {} paths of {}", schemaRanges.size(), pathRanges.size(), specFile);
+  }
+
+  /**
+   * Opens the given specification and indexes its schemas and paths. The file is kept open until
+   * the reader is closed.
+   *
+   * @param specFile the JSON or YAML specification
+   * @return the reader of the specification
+   * @throws IOException if the specification cannot be read
+   */
+  public static StreamingSpecReader open(@NonNull Path specFile) throws IOException {
+    return new StreamingSpecReader(specFile);
+  }
+
+  /**
+   * Returns the components object of the specification. The schemas are read as they are asked for.
+   *
+   * @return the components object
+   */
+  public Components getComponents() {
+    return components;
+  }
+
+  /**
+   * Returns the paths of the specification in document order. Every path is read again each time it
+   * is asked for, so the path items are not kept in memory.
+   *
+   * @return an unmodifiable map of the paths
+   */
+  public Map<String, PathItem> getPaths() {
+    return new IndexedMap<>(pathRanges.keySet(), this::readPathItem);
+  }
+
+  /**
+   * Returns the number of times a schema is read from the document.
+   *
+   * @return the number of schema reads
+   */
+  int getReadSchemaCount() {
+    return readSchemaCount.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private static YAMLFactory createYamlFactory() {
+    LoaderOptions loaderOptions = new LoaderOptions();
+    loaderOptions.setCodePointLimit(YAML_CODE_POINT_LIMIT);
+    return YAMLFactory.builder().loaderOptions(loaderOptions).build();
+  }
+
+  private static boolean isYaml(Path specFile) {
+    String fileName = Objects.toString(specFile.getFileName(), "");
+    return StringUtils.endsWithIgnoreCase(fileName, ".yaml")
+        || StringUtils.endsWithIgnoreCase(fileName, ".yml");
+  }
+
+  private ObjectNode index() throws IOException {
+    ObjectNode componentsNode = mapper.createObjectNode();
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(specFile));
+        JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Specification is not an object: " + specFile);
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (COMPONENTS.equals(field) && value == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            parser.nextToken();
+            if (SCHEMAS.equals(section)) {
+              index(parser, schemaRanges);
+            } else {
+              componentsNode.set(section, mapper.readTree(parser));
+            }
+          }
+        } else if (PATHS.equals(field)) {
+          index(parser, pathRanges);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return componentsNode;
+  }
+
+  private void index(JsonParser parser, Map<String, Range> ranges) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      JsonLocation start = parser.currentTokenLocation();
+      parser.skipChildren();
+      JsonLocation end = parser.currentLocation();
+      ranges.put(name, new Range(offset(start), offset(end), start.getColumnNr()));
+    }
+  }
+
+  // The YAML parser reports offsets in code points, while the JSON parser reports them in bytes
+  private long offset(JsonLocation location) {
+    return yaml ? location.getCharOffset() : location.getByteOffset();
+  }
+
+  // The code point offsets of the YAML ranges are converted into byte offsets with a second pass
+  // over the UTF-8 bytes of the document, so the values can be read from the file channel.
+  private void toByteRanges() throws IOException {
+    long[] charOffsets =
+        Stream.concat(schemaRanges.values().stream(), pathRanges.values().stream())
+            .flatMapToLong(range -> LongStream.of(range.start(), range.end()))
+            .sorted()
+            .distinct()
+            .toArray();
+    long[] byteOffsets = new long[charOffsets.length];
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(specFile))) {
+      long bytePosition = 0;
+      long charPosition = 0;
+      int next = 0;
+      int b;
+      while (next < charOffsets.length && (b = inputStream.read()) != -1) {
+        // A code point starts at every byte that is not a continuation byte
+        if ((b & 0xC0) != 0x80) {
+          while (next < charOffsets.length && charOffsets[next] == charPosition) {
+            byteOffsets[next++] = bytePosition;
+          }
+          charPosition++;
+        }
+        bytePosition++;
+      }
+      while (next < charOffsets.length) {
+        byteOffsets[next++] = bytePosition;
+      }
+    }
+    schemaRanges.replaceAll((name, range) -> toByteRange(range, charOffsets, byteOffsets));
+    pathRanges.replaceAll((name, range) -> toByteRange(range, charOffsets, byteOffsets));
+  }
+
+  private static Range toByteRange(Range range, long[] charOffsets, long[] byteOffsets) {
+    return new Range(
+        byteOffsets[Arrays.binarySearch(charOffsets, range.start())],
+        byteOffsets[Arrays.binarySearch(charOffsets, range.end())],
+        range.column());
+  }
+
+  private JsonNode readTree(Range range) {
+    int indent = yaml ? Math.max(range.column() - 1, 0) : 0;
+    ByteBuffer buffer = ByteBuffer.allocate(indent + Math.toIntExact(range.end() - range.start()));
+    for (int i = 0; i < indent; i++) {
+      buffer.put((byte) ' ');
+    }
+    try {
+      readFully(buffer, range.start());
+      return mapper.readTree(buffer.array());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Specification cannot be read: " + specFile, e);
+    }
+  }
+
+  private void readFully(ByteBuffer buffer, long start) throws IOException {
+    long position = start;
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new EOFException("Specification is changed while it is read: " + specFile);
+      }
+      position += read;
+    }
+  }
+
+  private Schema<?> readSchema(String name) {
+    readSchemaCount.incrementAndGet();
+    JsonNode node = readTree(schemaRanges.get(name));
+    if (!(node instanceof ObjectNode objectNode)) {
+      log.warn("Schema is not an object, an empty schema is used: {}", name);
+      return new Schema<>();
+    }
+    Schema<?> schema =
+        new OpenAPIDeserializer()
+            .getSchema(
+                objectNode,
+                Components.COMPONENTS_SCHEMAS_REF + name,
+                new OpenAPIDeserializer.ParseResult());
+    return Objects.nonNull(schema) ? schema : new Schema<>();
+  }
+
+  private PathItem readPathItem(String path) {
+    JsonNode node = readTree(pathRanges.get(path));
+    if (!(node instanceof ObjectNode objectNode)) {
+      log.warn("Path is not an object, an empty path item is used: {}", path);
+      return new PathItem();
+    }
+    PathItem pathItem =
+        new OpenAPIDeserializer()
+            .getPathItem(objectNode, PATHS_LOCATION + path, new OpenAPIDeserializer.ParseResult());
+    return Objects.nonNull(pathItem) ? pathItem : new PathItem();
+  }
+
+  /**
+   * Unmodifiable map over the names of an index. A value is read when it is asked for, so the keys
+   * can be listed without reading any value.
+   */
+  private static final class IndexedMap<V> extends AbstractMap<String, V> {
+    private final Set<String> names;
+    private final Function<String, V> reader;
+
+    private IndexedMap(Set<String> names, Function<String, V> reader) {
+      this.names = Collections.unmodifiableSet(names);
+      this.reader = reader;
+    }
+
+    @Override
+    public V get(Object key) {
+      return names.contains(key) ? reader.apply((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return names.contains(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+      return names;
+    }
+
+    @Override
+    public int size() {
+      return names.size();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+          Iterator<String> iterator = names.iterator();
+          return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+              return iterator.hasNext();
+            }
+
+            @Override
+            public Entry<String, V> next() {
+              String name = iterator.next();
+              return new SimpleImmutableEntry<>(name, reader.apply(name));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return names.size();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.oguzdem.openapi.generator;
+
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.TemplateRenderer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.ClassUtils;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Source emitter that keeps the class models in the generation context and writes them as text with
+ * {@link TemplateRenderer}, so the bodies of the regular classes never go through Roaster. The
+ * registered Roaster source of such a class only carries its package, name and the interfaces it
+ * implements. Sources without a model fall back to Roaster.
+ *
+ * @author Oguz Demirbasci
+ */
+final class TemplateSourceEmitter implements SourceEmitter {
+
+  private static final GenerationContext.StateKey<ClassModels> CLASS_MODELS =
+      new GenerationContext.StateKey<>(ClassModels.class, ClassModels::new);
+
+  @Override
+  public void complete(
+      GenerationContext context, ClassModel classModel, JavaClassSource javaClass) {
+    context.getState(CLASS_MODELS).models.put(javaClass.getName(), classModel);
+  }
+
+  @Override
+  public String emit(GenerationContext context, JavaSource<?> javaSource) {
+    ClassModel classModel = context.getState(CLASS_MODELS).models.get(javaSource.getName());
+    if (classModel == null || !(javaSource instanceof JavaClassSource javaClass)) {
+      return javaSource.toString();
+    }
+    List<String> interfaces =
+        javaClass.getInterfaces().stream().map(ClassUtils::getShortClassName).toList();
+    return TemplateRenderer.render(classModel, javaClass.getPackage(), interfaces);
+  }
+
+  /** The models of the classes by their names. */
+  private static final class ClassModels implements GenerationContext.State<ClassModels> {
+    private final Map<String, ClassModel> models = new ConcurrentHashMap<>();
+
+    @Override
+    public void merge(ClassModels other) {
+      models.putAll(other.models);
+    }
+  }
+}
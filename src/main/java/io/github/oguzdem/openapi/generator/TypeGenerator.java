@@ -10,16 +10,13 @@ import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isO
 import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isRef;
 
 import com.google.common.collect.ImmutableList;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 
 /**
  * Type generator class that generates Java types from JSON schemas.
@@ -29,40 +26,38 @@ import org.jboss.forge.roaster.model.source.JavaClassSource;
 @Slf4j
 public class TypeGenerator {
 
-  private static final Map<String, Schema<?>> GENERATED_NAME_TO_SCHEMA = new HashMap<>();
-  private static final Map<Schema<?>, String> SCHEMA_TO_GENERATED_NAME = new HashMap<>();
-  private static final Map<String, Integer> GENERATED_OBJECTS_OCCURRENCE = new HashMap<>();
-
   /**
    * Generates a Java type from the given schema using {@link PojoGenerator} if the schema is an
-   * object or an enum. If the schema is a reference, it will try to find the referenced schema in
-   * the components object and generate the type from the referenced schema. If the schema is an
-   * array, it will generate a list type. If the schema is a Java object, it will return "Object".
+   * object or an enum. If the schema is a reference, it will resolve the referenced schema with the
+   * {@link RefIndex} of the components object and generate the type from the referenced schema. If
+   * the schema is an array, it will generate a list type. If the schema is a Java object, it will
+   * return "Object".
+   *
+   * <p>The name of an object type is registered before its body is filled by the {@link
+   * TypeResolver} of the context, so a schema that refers back to itself, directly or through other
+   * schemas, gets the registered name. When called while another type is being filled, the returned
+   * type may not be filled yet.
    *
+   * @param context the generation context that keeps the generated types
    * @param name the name of the type
    * @param schema the schema to generate the type from
    * @param components the components object that contains the schemas
-   * @param javaClassSources the Java class sources to add imports
+   * @param classModels the class models to add imports
    * @return the generated type name as a string
    */
   public static String getOrGenerateType(
-      String name, Schema<?> schema, Components components, JavaClassSource... javaClassSources) {
+      GenerationContext context,
+      String name,
+      Schema<?> schema,
+      Components components,
+      ClassModel... classModels) {
     if (StringUtils.isBlank(name)) {
       log.error("no type is generated for empty name");
     }
 
     if (isRef(schema)) {
-      if (ObjectUtils.isNotEmpty(components) && ObjectUtils.isNotEmpty(components.getSchemas())) {
-
-        String refName =
-            StringUtils.removeStart(schema.get$ref(), Components.COMPONENTS_SCHEMAS_REF);
-        if (Objects.nonNull(components.getSchemas().get(refName))) {
-          Schema<?> referencedSchema = components.getSchemas().get(refName);
-          return getOrGenerateType(refName, referencedSchema, components, javaClassSources);
-        }
-      }
-      throw new IllegalArgumentException(
-          "Referenced schema is not found in the schema map! %s".formatted(schema.get$ref()));
+      RefIndex.ResolvedRef ref = RefIndex.of(components).resolve(schema.get$ref());
+      return getOrGenerateType(context, ref.name(), ref.schema(), components, classModels);
     }
 
     if (isJavaObject(schema)) {
@@ -70,14 +65,16 @@ public class TypeGenerator {
     }
 
     if (isArray(schema)) {
-      for (JavaClassSource javaClassSource : javaClassSources) {
-        javaClassSource.addImport(ImmutableList.class);
+      for (ClassModel classModel : classModels) {
+        classModel.addImport(ImmutableList.class);
       }
 
       if (Objects.isNull(schema.getItems())) {
         return "ImmutableList<Object>";
       }
-      return "ImmutableList<" + getOrGenerateType(name, schema.getItems(), components) + ">";
+      return "ImmutableList<"
+          + getOrGenerateType(context, name, schema.getItems(), components)
+          + ">";
     }
 
     if (isObject(schema)
@@ -85,34 +82,48 @@ public class TypeGenerator {
         || isAnyOf(schema)
         || isAllOf(schema)
         || isOneOf(schema)) {
-      return getOrGenerateClassType(name, schema, components);
+      return getOrGenerateClassType(context, name, schema, components);
     }
     return NameUtils.toJavaTypeNameFormat(schema.getType());
   }
 
   private static String getOrGenerateClassType(
-      String name, Schema<?> schema, Components components) {
-    if (GENERATED_NAME_TO_SCHEMA.containsKey(name)
-        && GENERATED_NAME_TO_SCHEMA.get(name).equals(schema)) {
-      return NameUtils.toJavaTypeNameFormat(name);
+      GenerationContext context, String name, Schema<?> schema, Components components) {
+    InternedSchema internedSchema = InternedSchema.of(schema);
+    if (internedSchema.equals(context.getGeneratedSchema(name))) {
+      if (context.typeResolver.isInProgress(name)) {
+        log.debug("Type is in progress, referring to it by name: {}", name);
+      }
+      return toTypeName(context, name);
     }
-    if (SCHEMA_TO_GENERATED_NAME.containsKey(schema) && StringUtils.isBlank(name)) {
-      log.info("Schema is already generated: {}", SCHEMA_TO_GENERATED_NAME.get(schema));
-      return NameUtils.toJavaTypeNameFormat(SCHEMA_TO_GENERATED_NAME.get(schema));
+    if (StringUtils.isBlank(name)) {
+      context.blankNameLookups.add(internedSchema);
+    }
+    String generatedName = context.schemaToGeneratedName.get(internedSchema);
+    if (Objects.nonNull(generatedName) && StringUtils.isBlank(name)) {
+      log.info("Schema is already generated: {}", generatedName);
+      return toTypeName(context, generatedName);
     }
 
-    String objectName = getObjectName(name);
-    PojoGenerator.generate(objectName, schema, components);
-    GENERATED_NAME_TO_SCHEMA.put(objectName, schema);
-    SCHEMA_TO_GENERATED_NAME.put(schema, objectName);
-    GENERATED_OBJECTS_OCCURRENCE.putIfAbsent(name, 0);
-    GENERATED_OBJECTS_OCCURRENCE.computeIfPresent(name, (k, v) -> v + 1);
+    String objectName = getObjectName(context, name);
+    context.generatedNameToSchema.put(objectName, internedSchema);
+    context.schemaToGeneratedName.put(internedSchema, objectName);
+    context.generatedObjectsOccurrence.putIfAbsent(name, 0);
+    context.generatedObjectsOccurrence.computeIfPresent(name, (k, v) -> v + 1);
+    PojoGenerator.generate(context, objectName, schema, components);
     return NameUtils.toJavaTypeNameFormat(objectName);
   }
 
-  private static String getObjectName(String name) {
-    if (GENERATED_OBJECTS_OCCURRENCE.containsKey(name)) {
-      int noNameCounter = GENERATED_OBJECTS_OCCURRENCE.get(name);
+  private static String toTypeName(GenerationContext context, String generatedName) {
+    String sharedTypeName = BatchModelGenerator.getSharedTypeName(context, generatedName);
+    return Objects.nonNull(sharedTypeName)
+        ? sharedTypeName
+        : NameUtils.toJavaTypeNameFormat(generatedName);
+  }
+
+  private static String getObjectName(GenerationContext context, String name) {
+    if (context.generatedObjectsOccurrence.containsKey(name)) {
+      int noNameCounter = context.generatedObjectsOccurrence.get(name);
       noNameCounter += 1;
       name += noNameCounter;
     }
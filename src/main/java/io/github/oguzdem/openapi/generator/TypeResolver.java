@@ -0,0 +1,80 @@
+package io.github.oguzdem.openapi.generator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Worklist that fills the bodies of the generated types one after another instead of within each
+ * other. A type is registered in the {@link GenerationContext} under its name before its body is
+ * filled, and the name is kept as in progress until the body is filled. A field that refers to a
+ * type in progress, such as the <b>next</b> node of a linked list or the children of a tree, gets
+ * the registered name instead of generating the type again.
+ *
+ * <p>The first type requested in a context fills the bodies of every type requested while it is
+ * filled, so the stack depth does not grow with the depth of the schema graph and every type body
+ * is filled once.
+ *
+ * <p>The worklist belongs to a single {@link GenerationContext} and is filled by one thread at a
+ * time, the same as the context.
+ *
+ * @author Oguz Demirbasci
+ */
+final class TypeResolver {
+
+  private final Deque<PendingType> worklist = new ArrayDeque<>();
+  private final Set<String> inProgress = new HashSet<>();
+  private boolean resolving;
+  private int filledCount;
+
+  private record PendingType(String name, Runnable body) {}
+
+  /**
+   * Schedules the body of the type with the given name to be filled. If no type is being resolved,
+   * the body is filled before returning, together with the bodies of every type scheduled while it
+   * is filled. Otherwise the body is filled once the types scheduled earlier are filled.
+   *
+   * @param name the name of the type
+   * @param body fills the body of the type
+   */
+  void resolve(String name, Runnable body) {
+    inProgress.add(name);
+    worklist.add(new PendingType(name, body));
+    if (resolving) {
+      return;
+    }
+    resolving = true;
+    try {
+      while (!worklist.isEmpty()) {
+        PendingType pendingType = worklist.poll();
+        pendingType.body().run();
+        filledCount++;
+        inProgress.remove(pendingType.name());
+      }
+    } finally {
+      worklist.clear();
+      inProgress.clear();
+      resolving = false;
+    }
+  }
+
+  /**
+   * Returns the number of type bodies filled by this worklist.
+   *
+   * @return the number of filled bodies
+   */
+  int getFilledCount() {
+    return filledCount;
+  }
+
+  /**
+   * Checks if the body of the type with the given name is not filled yet.
+   *
+   * @param name the name of the type
+   * @return true if the type is in progress
+   */
+  boolean isInProgress(String name) {
+    return inProgress.contains(name);
+  }
+}
@@ -6,18 +6,21 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.ImmutableMap;
-import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.GenerationContext;
 import io.github.oguzdem.openapi.generator.TypeGenerator;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.validation.constraints.Size;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import lombok.Singular;
 import org.apache.commons.lang3.ObjectUtils;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the additional properties field. The additional properties field is a map of
@@ -31,27 +34,32 @@ import org.jboss.forge.roaster.model.source.PropertySource;
 public final class AdditionalPropertyFieldGenerator extends FieldGenerator {
   public static final String ADDITIONAL_PROPERTIES_FIELD_NAME = "additionalProperties";
   public static final String ADDITIONAL_PROPERTIES_GETTER_NAME = "getAdditionalProperties";
+  private static final String RECORD_COMPONENT_TEMPLATE =
+      "%1$s = Objects.isNull(%1$s) ? Map.of() : Collections.unmodifiableMap(%1$s);";
 
   /**
    * Constructor for the AdditionalPropertyFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param schema The schema object
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public AdditionalPropertyFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       Schema<?> schema,
-      Components components) {
+      Components components,
+      GenerationContext context) {
     super(
-        rootJavaClassSource,
-        javaClassSource,
+        rootClassModel,
+        classModel,
         ADDITIONAL_PROPERTIES_FIELD_NAME,
         schema,
         false,
-        components);
+        components,
+        context);
   }
 
   /**
@@ -64,14 +72,13 @@ public final class AdditionalPropertyFieldGenerator extends FieldGenerator {
    *     minProperties or maxProperties are not null.
    * <li>The field is added to the constructor if it is not already added.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
-  public PropertySource<JavaClassSource> generateField() {
-    super.generateField();
-    javaClassSource.addImport(ImmutableMap.class);
-    rootJavaClassSource.addImport(ImmutableMap.class);
-    PropertySource<JavaClassSource> propertySource =
-        javaClassSource.getProperty(ADDITIONAL_PROPERTIES_FIELD_NAME);
+  public FieldModel generateField() {
+    final FieldModel generatedField = super.generateField();
+    Class<?> mapType = classModel.isRecord() || isMutable() ? Map.class : ImmutableMap.class;
+    classModel.addImport(mapType);
+    rootClassModel.addImport(mapType);
     Object additionalProps = schema.getAdditionalProperties();
 
     String valueType = "Object";
@@ -79,58 +86,100 @@ public final class AdditionalPropertyFieldGenerator extends FieldGenerator {
     if (additionalProps instanceof Schema && !(isJavaObject((Schema<?>) additionalProps))) {
       valueType =
           TypeGenerator.getOrGenerateType(
-              NameUtils.toJavaTypeNameFormat(javaClassSource.getName() + "_additionalProperties"),
+              context,
+              NameUtils.toJavaTypeNameFormat(classModel.getName() + "_additionalProperties"),
               (Schema<?>) additionalProps,
               components,
-              javaClassSource,
-              rootJavaClassSource);
+              classModel,
+              rootClassModel);
     }
 
-    propertySource.setType("ImmutableMap<String, %s>".formatted(valueType));
-    addConstructorParameter();
+    String type = "%s<String, %s>".formatted(mapType.getSimpleName(), valueType);
+    FieldModel fieldModel;
+    if (isMutable()) {
+      classModel.addImport(LinkedHashMap.class);
+      rootClassModel.addImport(LinkedHashMap.class);
+      fieldModel =
+          classModel.replaceField(
+              new FieldModel(
+                  type,
+                  generatedField.name(),
+                  generatedField.modifiers(),
+                  "new LinkedHashMap<>()",
+                  generatedField.annotations()));
+    } else {
+      fieldModel = classModel.replaceField(generatedField.withType(type));
+    }
+    if (classModel.isRecord()) {
+      generateRecordComponent(fieldModel);
+    } else {
+      if (isMutable()) {
+        addCollectionReset(fieldModel);
+      } else {
+        addConstructorParameter();
+        addAnnotation(fieldModel, Singular.class);
+        rootClassModel.addImport(Singular.class);
+      }
 
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
-    fieldSource.addAnnotation(Singular.class);
-    fieldSource.addAnnotation(JsonAnyGetter.class);
-    fieldSource.addAnnotation(JsonAnySetter.class);
-    rootJavaClassSource.addImport(Singular.class);
-    rootJavaClassSource.addImport(JsonAnyGetter.class);
-    rootJavaClassSource.addImport(JsonAnySetter.class);
+      addAnnotation(fieldModel, JsonAnyGetter.class);
+      addAnnotation(fieldModel, JsonAnySetter.class);
+      rootClassModel.addImport(JsonAnyGetter.class);
+      rootClassModel.addImport(JsonAnySetter.class);
 
-    MethodSource<JavaClassSource> getter = javaClassSource.addMethod();
-    getter.setName(ADDITIONAL_PROPERTIES_GETTER_NAME);
-    getter.setReturnType(fieldSource.getType());
-    getter.setBody("return this.%s;".formatted(ADDITIONAL_PROPERTIES_FIELD_NAME));
-    getter.addAnnotation(JsonIgnore.class);
-    rootJavaClassSource.addImport(JsonIgnore.class);
+      MethodModel getter = classModel.addMethod(ADDITIONAL_PROPERTIES_GETTER_NAME);
+      getter.setReturnType(fieldModel.type());
+      getter.setBody("return this.%s;".formatted(ADDITIONAL_PROPERTIES_FIELD_NAME));
+      classModel.addImport(JsonIgnore.class);
+      getter.addAnnotation(JsonIgnore.class);
+      rootClassModel.addImport(JsonIgnore.class);
+    }
 
-    if (Config.isBeanValidationEnabled()) {
+    if (context.getConfig().isBeanValidationEnabled()) {
       if (ObjectUtils.isNotEmpty(this.schema.getMinProperties())) {
-        if (!fieldSource.hasAnnotation(Size.class)) {
-          fieldSource.addAnnotation(Size.class);
-          rootJavaClassSource.addImport(Size.class);
+        if (!fieldModel.hasAnnotation(Size.class)) {
+          addAnnotation(fieldModel, Size.class);
+          rootClassModel.addImport(Size.class);
         }
-        fieldSource
+        fieldModel
             .getAnnotation(Size.class)
             .setLiteralValue("min", this.schema.getMinProperties().toString());
       }
       if (ObjectUtils.isNotEmpty(this.schema.getMaxProperties())) {
-        if (!fieldSource.hasAnnotation(Size.class)) {
-          fieldSource.addAnnotation(Size.class);
-          rootJavaClassSource.addImport(Size.class);
+        if (!fieldModel.hasAnnotation(Size.class)) {
+          addAnnotation(fieldModel, Size.class);
+          rootClassModel.addImport(Size.class);
         }
-        fieldSource
+        fieldModel
             .getAnnotation(Size.class)
             .setLiteralValue("max", this.schema.getMaxProperties().toString());
       }
     }
 
-    return propertySource;
+    return fieldModel;
+  }
+
+  @Override
+  protected void addStandardAnnotations(FieldModel fieldModel) {
+    // The component of a record is not a property, or Jackson would not pass it to the any setter
+    if (!classModel.isRecord()) {
+      super.addStandardAnnotations(fieldModel);
+    }
+  }
+
+  private void generateRecordComponent(FieldModel fieldModel) {
+    // Jackson 2.18 or later passes the properties its any setter collects to the constructor
+    addAnnotation(fieldModel, JsonAnyGetter.class);
+    addAnnotation(fieldModel, JsonAnySetter.class);
+    rootClassModel.addImport(JsonAnyGetter.class);
+    rootClassModel.addImport(JsonAnySetter.class);
+    getOrCreateConstructor()
+        .appendBody(RECORD_COMPONENT_TEMPLATE.formatted(ADDITIONAL_PROPERTIES_FIELD_NAME));
+    rootClassModel.addImport(Objects.class);
+    rootClassModel.addImport(Collections.class);
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     // No default for additional properties.
     return "";
   }
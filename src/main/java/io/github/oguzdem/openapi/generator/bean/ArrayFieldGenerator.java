@@ -2,24 +2,38 @@ package io.github.oguzdem.openapi.generator.bean;
 
 import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isObject;
 import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isRef;
+import static io.swagger.v3.parser.util.SchemaTypeUtil.FLOAT_FORMAT;
+import static io.swagger.v3.parser.util.SchemaTypeUtil.INTEGER32_FORMAT;
+import static io.swagger.v3.parser.util.SchemaTypeUtil.INTEGER64_FORMAT;
+import static io.swagger.v3.parser.util.SchemaTypeUtil.INTEGER_TYPE;
+import static io.swagger.v3.parser.util.SchemaTypeUtil.NUMBER_TYPE;
 
+import com.fasterxml.jackson.annotation.JsonMerge;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.RefIndex;
 import io.github.oguzdem.openapi.generator.TypeGenerator;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.util.PrimitiveType;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
 import lombok.Singular;
+import lombok.extern.jackson.Jacksonized;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the array field. The field is a list or set of objects. The field is
@@ -34,25 +48,30 @@ public final class ArrayFieldGenerator extends FieldGenerator {
 
   private static final String LIST_TYPE_TEMPLATE = "ImmutableList<%s>";
   private static final String SET_TYPE_TEMPLATE = "ImmutableSet<%s>";
+  private static final Set<String> PRIMITIVE_ARRAY_TYPES =
+      Set.of("int[]", "long[]", "float[]", "double[]");
+  private static final String COPY_TEMPLATE = "Objects.isNull(%1$s) ? null : %1$s.clone()";
 
   /**
    * Constructor for the ArrayFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public ArrayFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
@@ -61,64 +80,179 @@ public final class ArrayFieldGenerator extends FieldGenerator {
    * maxItems)} if minItems or maxItems are not null. The field is added to the constructor if it is
    * not already added.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
   @Override
-  public PropertySource<JavaClassSource> generateField() {
+  public FieldModel generateField() {
     Schema<?> itemsSchema = schema.getItems();
+    String primitiveArrayType = getPrimitiveArrayType(itemsSchema);
+    if (Objects.nonNull(primitiveArrayType)) {
+      FieldModel fieldModel = classModel.addField(primitiveArrayType, name);
+      addStandardAnnotations(fieldModel);
+      if (isMutable()) {
+        addConstructorParameter();
+      } else {
+        addDefensiveCopies(fieldModel);
+      }
+      addSizeAnnotation(fieldModel);
+      return fieldModel;
+    }
+
     String internalClass = getInternalObjectType(itemsSchema);
     if (StringUtils.isBlank(internalClass)) {
       internalClass = "Object";
     }
+    boolean uniqueItems = Objects.nonNull(schema.getUniqueItems()) && schema.getUniqueItems();
+    if (isMutable()) {
+      FieldModel fieldModel = generateMutableCollectionField(internalClass, uniqueItems);
+      addSizeAnnotation(fieldModel);
+      return fieldModel;
+    }
     String typeName;
-    if (Objects.nonNull(schema.getUniqueItems()) && schema.getUniqueItems()) {
+    Class<?> collectionType;
+    if (uniqueItems) {
       typeName = SET_TYPE_TEMPLATE.formatted(internalClass);
-      javaClassSource.addImport(ImmutableSet.class);
-      rootJavaClassSource.addImport(ImmutableSet.class);
+      collectionType = ImmutableSet.class;
     } else {
       typeName = LIST_TYPE_TEMPLATE.formatted(internalClass);
-      javaClassSource.addImport(ImmutableList.class);
-      rootJavaClassSource.addImport(ImmutableList.class);
+      collectionType = ImmutableList.class;
     }
+    classModel.addImport(collectionType);
+    rootClassModel.addImport(collectionType);
 
-    PropertySource<JavaClassSource> propertySource = javaClassSource.addProperty(typeName, name);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
-    fieldSource.getType().getTypeArguments();
-    fieldSource.addAnnotation(Singular.class).setStringValue(name);
-    rootJavaClassSource.addImport(Singular.class);
-    addStandardAnnotations(propertySource);
-    addConstructorParameter();
+    FieldModel fieldModel = classModel.addField(typeName, name);
+    if (classModel.isRecord()) {
+      addStandardAnnotations(fieldModel);
+      addCompactConstructorDefault(collectionType.getSimpleName() + ".of()");
+    } else {
+      addAnnotation(fieldModel, Singular.class).setStringValue(name);
+      rootClassModel.addImport(Singular.class);
+      addStandardAnnotations(fieldModel);
+      addConstructorParameter();
+    }
+    addSizeAnnotation(fieldModel);
+    return fieldModel;
+  }
 
-    if (Config.isBeanValidationEnabled()) {
+  /**
+   * Check if the given type is the type of a primitive numeric array field.
+   *
+   * @param type The type of the field
+   * @return true if the type is a primitive numeric array
+   */
+  public static boolean isPrimitiveArrayType(String type) {
+    return PRIMITIVE_ARRAY_TYPES.contains(type);
+  }
+
+  /**
+   * Copy the primitive array of an immutable class in its constructor and in its getter, so the
+   * array cannot be changed through the instance. The constructor of a value class is kept for the
+   * copy and Jackson creates the class through its builder.
+   *
+   * @param fieldModel Field model of the primitive array field
+   */
+  private void addDefensiveCopies(FieldModel fieldModel) {
+    String copy = COPY_TEMPLATE.formatted(this.name);
+    MethodModel getter;
+    if (classModel.isRecord()) {
+      getOrCreateConstructor().appendBody("%s = %s;".formatted(this.name, copy));
+      getter = classModel.addMethod(this.name);
+    } else {
+      MethodModel constructor = getOrCreateConstructor();
+      constructor.addParameter(fieldModel.type(), this.name);
+      constructor.appendBody("this.%s = %s;".formatted(this.name, copy));
+      if (constructor.getAnnotations().stream()
+          .noneMatch(annotation -> annotation.type().equals(Jacksonized.class.getSimpleName()))) {
+        classModel.addImport(Jacksonized.class);
+        rootClassModel.addImport(Jacksonized.class);
+        constructor.addAnnotation(Jacksonized.class);
+      }
+      getter = classModel.addMethod("get" + StringUtils.capitalize(this.name));
+    }
+    getter.addModifier(Modifier.PUBLIC).setReturnType(fieldModel.type());
+    getter.setBody("return %s;".formatted(COPY_TEMPLATE.formatted("this." + this.name)));
+    rootClassModel.addImport(Objects.class);
+  }
+
+  private FieldModel generateMutableCollectionField(String internalClass, boolean uniqueItems) {
+    Class<?> collectionType = uniqueItems ? Set.class : List.class;
+    Class<?> implementationType = uniqueItems ? LinkedHashSet.class : ArrayList.class;
+    for (Class<?> type : List.of(collectionType, implementationType)) {
+      classModel.addImport(type);
+      rootClassModel.addImport(type);
+    }
+    FieldModel fieldModel =
+        classModel.addField(
+            new FieldModel(
+                "%s<%s>".formatted(collectionType.getSimpleName(), internalClass),
+                name,
+                Set.of(),
+                "new %s<>()".formatted(implementationType.getSimpleName()),
+                new ArrayList<>()));
+    addStandardAnnotations(fieldModel);
+    addAnnotation(fieldModel, JsonMerge.class);
+    rootClassModel.addImport(JsonMerge.class);
+    addCollectionReset(fieldModel);
+    return fieldModel;
+  }
+
+  private void addSizeAnnotation(FieldModel fieldModel) {
+    if (context.getConfig().isBeanValidationEnabled()) {
       if (ObjectUtils.isNotEmpty(this.schema.getMinItems())) {
-        if (!fieldSource.hasAnnotation(Size.class)) {
-          fieldSource.addAnnotation(Size.class);
-          rootJavaClassSource.addImport(Size.class);
+        if (!fieldModel.hasAnnotation(Size.class)) {
+          addAnnotation(fieldModel, Size.class);
+          rootClassModel.addImport(Size.class);
         }
-        fieldSource
+        fieldModel
             .getAnnotation(Size.class)
             .setLiteralValue("min", this.schema.getMinItems().toString());
       }
       if (ObjectUtils.isNotEmpty(this.schema.getMaxItems())) {
-        if (!fieldSource.hasAnnotation(Size.class)) {
-          fieldSource.addAnnotation(Size.class);
-          rootJavaClassSource.addImport(Size.class);
+        if (!fieldModel.hasAnnotation(Size.class)) {
+          addAnnotation(fieldModel, Size.class);
+          rootClassModel.addImport(Size.class);
         }
-        fieldSource
+        fieldModel
             .getAnnotation(Size.class)
             .setLiteralValue("max", this.schema.getMaxItems().toString());
       }
     }
-    return propertySource;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     // Todo: it should be tested for arrays
     return "";
   }
 
+  /**
+   * Get the primitive array type of an array of integers or numbers, with the same format mapping
+   * as the numeric field generators. Sets keep their boxed items.
+   *
+   * @param itemsSchema The schema object of the items
+   * @return The primitive array type or null if the items are not primitive numbers or the
+   *     primitive numeric arrays are not enabled
+   */
+  private String getPrimitiveArrayType(Schema<?> itemsSchema) {
+    if (!context.getConfig().isPrimitiveNumericArraysEnabled()
+        || Objects.isNull(itemsSchema)
+        || Boolean.TRUE.equals(schema.getUniqueItems())) {
+      return null;
+    }
+    String format = Strings.nullToEmpty(itemsSchema.getFormat());
+    return switch (Strings.nullToEmpty(itemsSchema.getType())) {
+      case INTEGER_TYPE -> INTEGER64_FORMAT.equals(format) ? "long[]" : "int[]";
+      case NUMBER_TYPE ->
+          switch (format) {
+            case INTEGER32_FORMAT -> "int[]";
+            case INTEGER64_FORMAT -> "long[]";
+            case FLOAT_FORMAT -> "float[]";
+            default -> "double[]";
+          };
+      default -> null;
+    };
+  }
+
   /**
    * Get the internal object type of the array. If the array is an array of objects, the object type
    *
@@ -133,20 +267,20 @@ public final class ArrayFieldGenerator extends FieldGenerator {
           : LIST_TYPE_TEMPLATE.formatted(getInternalObjectType(schema.getItems()));
     } else if (isObject(schema)) {
       return TypeGenerator.getOrGenerateType(
-          NameUtils.toJavaTypeNameFormat(name), schema, components);
+          context, NameUtils.toJavaTypeNameFormat(name), schema, components);
     } else if (isRef(schema)) {
-      String referencedObjectName =
-          NameUtils.toJavaTypeNameFormat(
-              StringUtils.removeStart(schema.get$ref(), Components.COMPONENTS_SCHEMAS_REF));
-      if (javaClassSource.getName().equals(referencedObjectName)) {
-        return referencedObjectName;
+      RefIndex.ResolvedRef ref = RefIndex.of(components).resolve(schema.get$ref());
+      if (classModel.getName().equals(ref.typeName())) {
+        return ref.typeName();
       }
-      return TypeGenerator.getOrGenerateType(referencedObjectName, schema, components);
+      return TypeGenerator.getOrGenerateType(context, ref.typeName(), schema, components);
     }
 
     PrimitiveType itemsType = PrimitiveType.fromName(schema.getType());
     if (Objects.nonNull(itemsType)) {
-      return itemsType.getKeyClass().getName();
+      classModel.addImport(itemsType.getKeyClass());
+      rootClassModel.addImport(itemsType.getKeyClass());
+      return itemsType.getKeyClass().getSimpleName();
     }
     return null;
   }
@@ -1,12 +1,12 @@
 package io.github.oguzdem.openapi.generator.bean;
 
 import com.google.common.primitives.Bytes;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import joptsimple.internal.Strings;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the byte array field. The field is a byte array object. The field is added to
@@ -19,39 +19,40 @@ public final class ByteArrayFieldGenerator extends FieldGenerator {
    * Constructor for the ByteArrayFieldGenerator. The field is a byte array object. The field is
    * added to the constructor if it is not already added.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public ByteArrayFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
    * Generate the field for the byte array. The field is a byte array object. The field is added to
    * the constructor if it is not already added.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
   @Override
-  public PropertySource<JavaClassSource> generateField() {
-    PropertySource<JavaClassSource> propertySource = super.generateField();
+  public FieldModel generateField() {
+    FieldModel fieldModel = super.generateField();
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     if (defaultObject instanceof byte[]) {
       return "new byte[]{%s}"
           .formatted(
@@ -0,0 +1,139 @@
+package io.github.oguzdem.openapi.generator.bean;
+
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Data;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Kind of the class the fields are generated into. The kind decides how the constructor of the
+ * class sets a field and whether the constructor has a builder.
+ *
+ * @author Oguz Demirbasci
+ */
+enum ClassKind {
+
+  /**
+   * An immutable class annotated with @{@link Value}, which is created by the builder of its
+   * constructor. The constructor takes every field and sets a missing one to its default.
+   */
+  VALUE(true) {
+    @Override
+    void addConstructorParameter(FieldGenerator generator, FieldModel fieldModel) {
+      MethodModel constructor = generator.getOrCreateConstructor();
+      constructor.addParameter(fieldModel.type(), fieldModel.name());
+
+      // If default is set, initializer will be created by addDefaultInitializer()
+      if (Objects.isNull(generator.schema.getDefault())) {
+        constructor.appendBody(
+            String.format(CONSTRUCTOR_FIELD_SET_TEMPLATE, fieldModel.name(), fieldModel.name()));
+      } else {
+        String fieldInitiator =
+            String.format(
+                CONSTRUCTOR_FIELD_SET_TEMPLATE,
+                fieldModel.name(),
+                "Objects.isNull(%s) ? %s : %s"
+                    .formatted(
+                        fieldModel.name(),
+                        generator.getDefaultInitializerValue(
+                            generator.schema.getDefault(), fieldModel),
+                        fieldModel.name()));
+        constructor.appendBody(fieldInitiator);
+        generator.rootClassModel.addImport(Objects.class);
+      }
+    }
+  },
+
+  /**
+   * A record, which Jackson creates with its canonical constructor. The components are not declared
+   * as parameters, only their defaults are set in the compact constructor.
+   */
+  RECORD(false) {
+    @Override
+    void addConstructorParameter(FieldGenerator generator, FieldModel fieldModel) {
+      if (Objects.nonNull(generator.schema.getDefault())) {
+        generator.addCompactConstructorDefault(
+            generator.getDefaultInitializerValue(generator.schema.getDefault(), fieldModel));
+      }
+    }
+  },
+
+  /**
+   * A mutable class annotated with @{@link Data}, which is created without arguments and filled by
+   * its setters. The constructor sets every field to its default, or to the default value of its
+   * type without one, and it is turned into the reset method of the class. Collections and nested
+   * objects are kept and emptied instead, see {@link FieldGenerator#addNestedReset}.
+   */
+  MUTABLE(false) {
+    @Override
+    void addConstructorParameter(FieldGenerator generator, FieldModel fieldModel) {
+      String value =
+          Objects.isNull(generator.schema.getDefault())
+              ? null
+              : generator.getDefaultInitializerValue(generator.schema.getDefault(), fieldModel);
+      if (StringUtils.isEmpty(value)) {
+        value = getResetValue(fieldModel);
+      }
+      generator
+          .getOrCreateConstructor()
+          .appendBody(String.format(CONSTRUCTOR_FIELD_SET_TEMPLATE, fieldModel.name(), value));
+    }
+  };
+
+  private static final String CONSTRUCTOR_FIELD_SET_TEMPLATE = "this.%s = %s;";
+  private static final Set<String> NUMERIC_PRIMITIVES =
+      Set.of("byte", "short", "int", "long", "float", "double", "char");
+
+  private final boolean builder;
+
+  ClassKind(boolean builder) {
+    this.builder = builder;
+  }
+
+  /**
+   * Returns the kind of the given class.
+   *
+   * @param classModel the class model
+   * @return the kind of the class
+   */
+  static ClassKind of(ClassModel classModel) {
+    if (classModel.isRecord()) {
+      return RECORD;
+    }
+    return classModel.hasAnnotation(Data.class) ? MUTABLE : VALUE;
+  }
+
+  /**
+   * Checks if the constructor of the class is annotated with the Lombok builder.
+   *
+   * @return true if the constructor has a builder
+   */
+  boolean hasBuilder() {
+    return builder;
+  }
+
+  /**
+   * Adds the given field to the constructor of its class.
+   *
+   * @param generator the generator of the field
+   * @param fieldModel the field model
+   */
+  abstract void addConstructorParameter(FieldGenerator generator, FieldModel fieldModel);
+
+  /**
+   * Get the value a field without default is reset to, which is the default value of its type.
+   *
+   * @param fieldModel Field model of the field
+   * @return Reset value as it is written in the source
+   */
+  private static String getResetValue(FieldModel fieldModel) {
+    if ("boolean".equals(fieldModel.type())) {
+      return "false";
+    }
+    return NUMERIC_PRIMITIVES.contains(fieldModel.type()) ? "0" : "null";
+  }
+}
@@ -1,14 +1,17 @@
 package io.github.oguzdem.openapi.generator.bean;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
+import java.util.EnumSet;
+import javax.lang.model.element.Modifier;
 
 /**
  * Field generator for the date field. The field is a date object. The field is annotated
@@ -17,64 +20,65 @@ import org.jboss.forge.roaster.model.source.PropertySource;
  * @author Oguz Demirbasci
  */
 public final class DateFieldGenerator extends FieldGenerator {
+  private static final String FORMAT_FIELD_NAME = "FORMAT";
+
   /**
    * Constructor for the DateFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public DateFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
    * Generate the field for the date. The field is a date object. The field is annotated
    * with @{@link JsonFormat}. The field is added to the constructor if it is not already added.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
   @Override
-  public PropertySource<JavaClassSource> generateField() {
-    super.generateField();
-    PropertySource<JavaClassSource> propertySource = javaClassSource.getProperty(this.name);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
+  public FieldModel generateField() {
+    FieldModel fieldModel = super.generateField();
 
-    rootJavaClassSource.addImport(JsonFormat.class);
+    rootClassModel.addImport(JsonFormat.class);
 
-    fieldSource
-        .addAnnotation(JsonFormat.class)
-        .setEnumValue("shape", JsonFormat.Shape.STRING)
+    setEnumValue(addAnnotation(fieldModel, JsonFormat.class), "shape", JsonFormat.Shape.STRING)
         .setStringValue("pattern", "yyyy-MM-dd");
 
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     if (defaultObject instanceof Date) {
+      rootClassModel.addImport(ParseException.class);
       getOrCreateConstructor().addThrows(ParseException.class);
-      rootJavaClassSource.addImport(SimpleDateFormat.class);
-      javaClassSource
-          .addProperty(SimpleDateFormat.class, "FORMAT")
-          .removeAccessor()
-          .removeMutator()
-          .getField()
-          .setPrivate()
-          .setStatic(true)
-          .setFinal(true)
-          .setLiteralInitializer("new SimpleDateFormat(\"yyyy-MM-dd\")");
+      rootClassModel.addImport(SimpleDateFormat.class);
+      if (classModel.getField(FORMAT_FIELD_NAME).isEmpty()) {
+        classModel.addImport(SimpleDateFormat.class);
+        classModel.addField(
+            new FieldModel(
+                SimpleDateFormat.class.getSimpleName(),
+                FORMAT_FIELD_NAME,
+                EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL),
+                "new SimpleDateFormat(\"yyyy-MM-dd\")",
+                new ArrayList<>()));
+      }
       String time = ((Date) defaultObject).toInstant().toString();
       return "FORMAT.parse(\"%s\")".formatted(time.split("T")[0]);
     }
@@ -1,12 +1,12 @@
 package io.github.oguzdem.openapi.generator.bean;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import java.time.OffsetDateTime;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the date time field. The field is a date time object. The field is annotated
@@ -18,49 +18,46 @@ public final class DateTimeFieldGenerator extends FieldGenerator {
   /**
    * Constructor for the DateTimeFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public DateTimeFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
    * Generate the field for the date time. The field is a date time object. The field is annotated
    * with @{@link JsonFormat}. The field is added to the constructor if it is not already added.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
   @Override
-  public PropertySource<JavaClassSource> generateField() {
-    super.generateField();
-    PropertySource<JavaClassSource> propertySource = javaClassSource.getProperty(this.name);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
+  public FieldModel generateField() {
+    FieldModel fieldModel = super.generateField();
 
-    fieldSource
-        .addAnnotation(JsonFormat.class)
-        .setEnumValue("shape", JsonFormat.Shape.STRING)
+    setEnumValue(addAnnotation(fieldModel, JsonFormat.class), "shape", JsonFormat.Shape.STRING)
         .setStringValue("pattern", "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     if (defaultObject instanceof OffsetDateTime) {
-      this.javaClassSource.addImport(OffsetDateTime.class);
+      this.classModel.addImport(OffsetDateTime.class);
       return "OffsetDateTime.parse(\"%s\")".formatted(defaultObject.toString());
     }
     return null;
@@ -1,12 +1,12 @@
 package io.github.oguzdem.openapi.generator.bean;
 
+import io.github.oguzdem.openapi.generator.GenerationContext;
 import io.github.oguzdem.openapi.generator.TypeGenerator;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the enum field. The field is an enum const. The field is added to the
@@ -18,48 +18,46 @@ public final class EnumFieldGenerator extends FieldGenerator {
   /**
    * Constructor for the EnumFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public EnumFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
    * Generate the field for the enum. The field is an enum const. The field is added to the
    * constructor if it is not already added.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
   @Override
-  public PropertySource<JavaClassSource> generateField() {
+  public FieldModel generateField() {
     String objectType =
         TypeGenerator.getOrGenerateType(
-            NameUtils.toJavaTypeNameFormat(name + "_Enum"), schema, components);
-    PropertySource<JavaClassSource> propertySource =
-        javaClassSource.addProperty(objectType, NameUtils.toJavaFieldNameFormat(name));
-    addStandardAnnotations(propertySource);
+            context, NameUtils.toJavaTypeNameFormat(name + "_Enum"), schema, components);
+    FieldModel fieldModel = classModel.addField(objectType, NameUtils.toJavaFieldNameFormat(name));
+    addStandardAnnotations(fieldModel);
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     if (defaultObject instanceof String) {
-      return fieldSource.getType().getName()
-          + "."
-          + NameUtils.toEnumValueFormat(String.valueOf(defaultObject));
+      return fieldModel.type() + "." + NameUtils.toEnumValueFormat(String.valueOf(defaultObject));
     }
     return null;
   }
@@ -1,72 +1,74 @@
 package io.github.oguzdem.openapi.generator.bean;
 
-import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.fillEnumSourceBySchema;
 import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.fillJavaClassSourceBySchema;
-import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isEnum;
 import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isObject;
 
+import com.fasterxml.jackson.annotation.JsonMerge;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.google.common.base.Strings;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.AnnotationModel;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.util.PrimitiveType;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import java.util.Objects;
 import java.util.Optional;
+import javax.lang.model.element.Modifier;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Data;
 import lombok.NonNull;
+import lombok.Setter;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jboss.forge.roaster.Roaster;
-import org.jboss.forge.roaster.model.Type;
-import org.jboss.forge.roaster.model.Visibility;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.JavaEnumSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Base class for field generators. Field generators are used to generate fields for the given
- * schema and add them to the java class source object. Also, they add the fields to the constructor
- * if they are not already added. If the field is required, they add the NonNull annotation.
+ * schema and add them to the class model. Also, they add the fields to the constructor if they are
+ * not already added, the way the {@link ClassKind} of the class sets its fields. If the field is
+ * required, they add the NonNull annotation, except in a mutable class, whose reset method sets the
+ * fields back to null.
  *
  * @author Oguz Demirbasci
  */
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class FieldGenerator {
-  private static final String CONSTRUCTOR_FIELD_SET_TEMPLATE = "this.%s = %s;";
-  private static final boolean ACCESSIBLE = false;
-  private static final boolean MUTABLE = false;
-  protected JavaClassSource rootJavaClassSource;
-  protected JavaClassSource javaClassSource;
+  private static final String COMPACT_CONSTRUCTOR_DEFAULT_TEMPLATE =
+      "%1$s = Objects.isNull(%1$s) ? %2$s : %1$s;";
+  private static final String COLLECTION_RESET_TEMPLATE = "this.%s.clear();";
+  private static final String NESTED_RESET_TEMPLATE =
+      "if (Objects.nonNull(this.%1$s)) {this.%1$s.reset();}";
+  protected ClassModel rootClassModel;
+  protected ClassModel classModel;
   protected String name;
   protected Schema<?> schema;
   protected Boolean isRequired;
   protected Components components;
+  protected GenerationContext context;
 
   /**
-   * Generate field for the given schema and add it to the java class source object. Also add the
-   * field to the constructor if it is not already added. If the field is required, add the NonNull
-   * annotation.
+   * Generate field for the given schema and add it to the class model. Also add the field to the
+   * constructor if it is not already added. If the field is required and its class is not mutable,
+   * add the NonNull annotation.
    *
-   * @return {@link PropertySource} object of the generated field
+   * @return {@link FieldModel} of the generated field
    */
-  public PropertySource<JavaClassSource> generateField() {
+  public FieldModel generateField() {
 
     Class<?> typeClass = getPrimitiveTypeIfNotNullable(getTypeClass());
-    PropertySource<JavaClassSource> propertySource = javaClassSource.addProperty(typeClass, name);
-    addStandardAnnotations(propertySource);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
+    FieldModel fieldModel = classModel.addField(typeClass, name);
+    addStandardAnnotations(fieldModel);
 
-    if (isRequired) {
-      fieldSource.addAnnotation(NonNull.class);
-      rootJavaClassSource.addImport(NonNull.class);
+    if (isRequired && !isMutable()) {
+      addAnnotation(fieldModel, NonNull.class);
+      rootClassModel.addImport(NonNull.class);
     }
-    return propertySource;
+    return fieldModel;
   }
 
   /**
@@ -74,78 +76,107 @@ public abstract class FieldGenerator {
    * value, add the default initializer.
    */
   protected void addConstructorParameter() {
-    if (ObjectUtils.isEmpty(javaClassSource.getProperty(this.name))) {
-      return;
-    }
+    ClassKind classKind = ClassKind.of(classModel);
+    classModel
+        .getField(this.name)
+        .ifPresent(fieldModel -> classKind.addConstructorParameter(this, fieldModel));
+  }
 
-    MethodSource<JavaClassSource> constructor = getOrCreateConstructor();
-    Type<JavaClassSource> type = javaClassSource.getProperty(this.name).getType();
-    constructor.addParameter(getTypeString(type), this.name);
+  /**
+   * Add the statement that replaces a null component with the given value to the compact
+   * constructor of the record.
+   *
+   * @param value Default value of the component as it is written in the source
+   */
+  protected void addCompactConstructorDefault(String value) {
+    getOrCreateConstructor()
+        .appendBody(COMPACT_CONSTRUCTOR_DEFAULT_TEMPLATE.formatted(this.name, value));
+    rootClassModel.addImport(Objects.class);
+  }
 
-    // If default is set, initializer will be created by addDefaultInitializer()
-    if (Objects.isNull(schema.getDefault())) {
-      constructor.setBody(
-          Strings.nullToEmpty(constructor.getBody())
-              + String.format(CONSTRUCTOR_FIELD_SET_TEMPLATE, this.name, this.name));
-    } else {
-      String fieldInitiator =
-          String.format(
-              CONSTRUCTOR_FIELD_SET_TEMPLATE,
-              this.name,
-              "Objects.isNull(%s) ? %s : %s"
-                  .formatted(
-                      this.name,
-                      getDefaultInitializerValue(
-                          schema.getDefault(), javaClassSource.getProperty(this.name).getField()),
-                      this.name));
-      constructor.setBody(Strings.nullToEmpty(constructor.getBody()) + fieldInitiator);
-      rootJavaClassSource.addImport(Objects.class);
-    }
+  /**
+   * Keep the collection of the field of a mutable class across resets. The collection has no
+   * setter, so Jackson reads into the collection the field is created with, and it is cleared by
+   * the reset method.
+   *
+   * @param fieldModel Field model of the collection field
+   */
+  protected void addCollectionReset(FieldModel fieldModel) {
+    setEnumValue(
+        addAnnotation(fieldModel, Setter.class), AnnotationModel.DEFAULT_MEMBER, AccessLevel.NONE);
+    rootClassModel.addImport(Setter.class);
+    rootClassModel.addImport(AccessLevel.class);
+    getOrCreateConstructor().appendBody(COLLECTION_RESET_TEMPLATE.formatted(this.name));
+  }
+
+  /**
+   * Keep the nested object of the field of a mutable class across resets. The nested object is
+   * created by Jackson on the first read that has it. It is reset in place with the class instead
+   * of being set to null, and Jackson reads into it again instead of creating a new one.
+   *
+   * @param fieldModel Field model of the field of a nested mutable class
+   */
+  protected void addNestedReset(FieldModel fieldModel) {
+    addAnnotation(fieldModel, JsonMerge.class);
+    rootClassModel.addImport(JsonMerge.class);
+    rootClassModel.addImport(Objects.class);
+    getOrCreateConstructor().appendBody(NESTED_RESET_TEMPLATE.formatted(fieldModel.name()));
+  }
+
+  /**
+   * Check if the class of the field is a mutable class, which is annotated with @{@link Data}.
+   *
+   * @return true if the class of the field is mutable
+   */
+  protected boolean isMutable() {
+    return ClassKind.of(classModel) == ClassKind.MUTABLE;
   }
 
   /**
    * Get the default initializer value for the field to be used in the constructor.
    *
    * @param defaultObject Default value of the field
-   * @param fieldSource Field source of the field
+   * @param fieldModel Field model of the field
    * @return Default initializer value
    */
-  abstract String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource);
+  abstract String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel);
 
   /**
-   * Get the string representation of the type. Any type arguments will be included in the string.
+   * Add standard annotations to the field. These include Jackson annotations. The field is package
+   * private and not final, as it is made private and final by the Lombok annotations of the class.
    *
-   * @param type Type object
-   * @return String representation of the type
+   * @param fieldModel Field model of the field
    */
-  private String getTypeString(Type<?> type) {
-    StringBuilder builder = new StringBuilder(type.getName());
-    if (ObjectUtils.isNotEmpty(type.getTypeArguments())) {
-      builder
-          .append("<")
-          .append(
-              String.join(",", type.getTypeArguments().stream().map(this::getTypeString).toList()))
-          .append(">");
-    }
-    return builder.toString();
+  protected void addStandardAnnotations(FieldModel fieldModel) {
+    addAnnotation(fieldModel, JsonProperty.class).setStringValue(name);
+    rootClassModel.addImport(JsonProperty.class);
   }
 
   /**
-   * Add standard annotations to the field. These include Jackson annotations, accessibility and
-   * mutability.
+   * Annotate the field with the given type. The annotation type is imported by the class model of
+   * the field.
    *
-   * @param propertySource Property source of the field
+   * @param fieldModel Field model of the field
+   * @param type Annotation type
+   * @return Added annotation
    */
-  protected void addStandardAnnotations(PropertySource<JavaClassSource> propertySource) {
-    propertySource.setAccessible(ACCESSIBLE);
-    propertySource.setMutable(MUTABLE);
-
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
-    fieldSource.setVisibility(Visibility.PACKAGE_PRIVATE);
-    fieldSource.setFinal(false);
-    fieldSource.addAnnotation(JsonProperty.class).setStringValue(name);
-    rootJavaClassSource.addImport(JsonProperty.class);
+  protected AnnotationModel addAnnotation(FieldModel fieldModel, Class<?> type) {
+    classModel.addImport(type);
+    return fieldModel.addAnnotation(type);
+  }
+
+  /**
+   * Set the enum constant value of the annotation. The enum type is imported by the class model of
+   * the field.
+   *
+   * @param annotation Annotation to set the value of
+   * @param name Member name
+   * @param value Enum constant
+   * @return Given annotation
+   */
+  protected AnnotationModel setEnumValue(AnnotationModel annotation, String name, Enum<?> value) {
+    classModel.addImport(value.getDeclaringClass());
+    return annotation.setEnumValue(name, value);
   }
 
   /**
@@ -181,15 +212,14 @@ public abstract class FieldGenerator {
    *
    * @return Constructor of the class
    */
-  protected MethodSource<JavaClassSource> getOrCreateConstructor() {
-    Optional<MethodSource<JavaClassSource>> constructorOpt =
-        this.javaClassSource.getMethods().stream()
-            .filter(method -> method.getName().equals(javaClassSource.getName()))
-            .findFirst();
+  protected MethodModel getOrCreateConstructor() {
+    Optional<MethodModel> constructorOpt = classModel.getConstructor();
     if (constructorOpt.isEmpty()) {
-      MethodSource<JavaClassSource> constructor = javaClassSource.addMethod();
-      constructor.setConstructor(true).setPublic();
-      constructor.addAnnotation(Builder.class);
+      MethodModel constructor = classModel.addConstructor().addModifier(Modifier.PUBLIC);
+      if (ClassKind.of(classModel).hasBuilder()) {
+        classModel.addImport(Builder.class);
+        constructor.addAnnotation(Builder.class);
+      }
       return constructor;
     } else {
       return constructorOpt.get();
@@ -197,7 +227,8 @@ public abstract class FieldGenerator {
   }
 
   /**
-   * Generate inner type for the given schema and add it to the java class source object.
+   * Generate inner type for the given schema and add it to the root class model. Inline enums are
+   * not generated as inner types.
    *
    * @param propName Name of the property
    * @param schema Schema of the property
@@ -208,20 +239,10 @@ public abstract class FieldGenerator {
       return StringUtils.EMPTY;
     }
     String objectType = NameUtils.toJavaTypeNameFormat(propName);
-    if (isEnum(schema)) {
-      JavaEnumSource innerEnum = Roaster.create(JavaEnumSource.class);
-      innerEnum.setName(NameUtils.toJavaTypeNameFormat(name));
-      fillEnumSourceBySchema(innerEnum, schema);
-    } else if (isObject(schema)) {
-      JavaClassSource innerClass = Roaster.create(JavaClassSource.class);
-      innerClass.setName(NameUtils.toJavaTypeNameFormat(name));
-      innerClass.setStatic(true);
-      fillJavaClassSourceBySchema(rootJavaClassSource, innerClass, schema, components);
-      if (javaClassSource.equals(rootJavaClassSource)) {
-        javaClassSource.addNestedType(innerClass);
-      } else {
-        rootJavaClassSource.addNestedType(innerClass);
-      }
+    if (isObject(schema)) {
+      ClassModel innerClass = new ClassModel(NameUtils.toJavaTypeNameFormat(name)).setStatic(true);
+      fillJavaClassSourceBySchema(context, rootClassModel, innerClass, schema, components);
+      rootClassModel.addNestedType(innerClass);
     }
     return objectType;
   }
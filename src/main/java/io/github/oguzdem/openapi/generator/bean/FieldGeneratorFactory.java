@@ -15,15 +15,15 @@ import static io.swagger.v3.parser.util.SchemaTypeUtil.STRING_TYPE;
 import static io.swagger.v3.parser.util.SchemaTypeUtil.UUID_FORMAT;
 
 import com.google.common.base.Strings;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Factory class to create a new instance of the {@link FieldGenerator}.
@@ -37,15 +37,14 @@ public class FieldGeneratorFactory {
    * Null generator is used to generate null fields. It is used when the schema is not recognized.
    */
   public static final FieldGenerator NULL_GENERATOR =
-      new FieldGenerator(null, null, "null", null, false, null) {
+      new FieldGenerator(null, null, "null", null, false, null, null) {
         @Override
-        public PropertySource<JavaClassSource> generateField() {
+        public FieldModel generateField() {
           return null;
         }
 
         @Override
-        String getDefaultInitializerValue(
-            Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+        String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
           return null;
         }
       };
@@ -62,89 +61,91 @@ public class FieldGeneratorFactory {
   /**
    * Create a new instance of the {@link FieldGenerator} by the given schema type.
    *
-   * @param rootJavaClassSource the root java class source
-   * @param javaClassSource the java class source
+   * @param rootClassModel the root class model
+   * @param classModel the class model
    * @param name the name of the field
    * @param schema the schema object
    * @param isRequired the required flag (whether field name is included in the required list)
    * @param components the components object as look up for referenced schemas
+   * @param context the generation context that keeps the generated types
    * @return a new instance of the {@link FieldGenerator}
    */
   private static FieldGenerator createGeneratorByType(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
+      Components components,
+      GenerationContext context) {
 
     return switch (Strings.nullToEmpty(schema.getType())) {
       case INTEGER_TYPE ->
           switch (Strings.nullToEmpty(schema.getFormat())) {
             case INTEGER64_FORMAT ->
                 new LongFieldGenerator(
-                    rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                    rootClassModel, classModel, name, schema, isRequired, components, context);
             default ->
                 new IntFieldGenerator(
-                    rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                    rootClassModel, classModel, name, schema, isRequired, components, context);
           };
       case NUMBER_TYPE ->
           switch (Strings.nullToEmpty(schema.getFormat())) {
             case INTEGER32_FORMAT ->
                 new IntFieldGenerator(
-                    rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                    rootClassModel, classModel, name, schema, isRequired, components, context);
             case INTEGER64_FORMAT ->
                 new LongFieldGenerator(
-                    rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                    rootClassModel, classModel, name, schema, isRequired, components, context);
             case FLOAT_FORMAT ->
                 new FloatFieldGenerator(
-                    rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                    rootClassModel, classModel, name, schema, isRequired, components, context);
             default ->
                 new DoubleFieldGenerator(
-                    rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                    rootClassModel, classModel, name, schema, isRequired, components, context);
           };
       case STRING_TYPE -> {
         if (Objects.nonNull(schema.getEnum())) {
           yield new EnumFieldGenerator(
-              rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+              rootClassModel, classModel, name, schema, isRequired, components, context);
         }
         yield switch (Strings.nullToEmpty(schema.getFormat())) {
           case DATE_FORMAT ->
               new DateFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
           case DATE_TIME_FORMAT ->
               new DateTimeFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
           case BYTE_FORMAT, BINARY_FORMAT ->
               new ByteArrayFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
           case UUID_FORMAT ->
               new UuidFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
           case "uri" ->
               new UriFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
           case "url" ->
               new UrlFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
           default ->
               new StringFieldGenerator(
-                  rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+                  rootClassModel, classModel, name, schema, isRequired, components, context);
         };
       }
       case BOOLEAN_TYPE ->
           new BooleanFieldGenerator(
-              rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+              rootClassModel, classModel, name, schema, isRequired, components, context);
       case "array" ->
           new ArrayFieldGenerator(
-              rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+              rootClassModel, classModel, name, schema, isRequired, components, context);
       case OBJECT_TYPE ->
           new ObjectFieldGenerator(
-              rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+              rootClassModel, classModel, name, schema, isRequired, components, context);
       default -> {
         if (Objects.nonNull(schema.get$ref())) {
           yield new RefFieldGenerator(
-              rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+              rootClassModel, classModel, name, schema, isRequired, components, context);
         } else {
           yield NULL_GENERATOR;
         }
@@ -157,20 +158,22 @@ public class FieldGeneratorFactory {
    * schema has additional properties, create a new instance of the {@link
    * AdditionalPropertyFieldGenerator}. Otherwise, return the {@link #NULL_GENERATOR}.
    *
-   * @param rootJavaClassSource the root java class source
-   * @param javaClassSource the java class source
+   * @param rootClassModel the root class model
+   * @param classModel the class model
    * @param schema the schema object
    * @param components the components object as look up for referenced schemas
+   * @param context the generation context that keeps the generated types
    * @return a new instance of the {@link FieldGenerator}
    */
   private static FieldGenerator createAdditionalPropsGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       Schema<?> schema,
-      Components components) {
+      Components components,
+      GenerationContext context) {
     if (Objects.equals(schema.getAdditionalProperties(), Boolean.TRUE)) {
       return new AdditionalPropertyFieldGenerator(
-          rootJavaClassSource, javaClassSource, schema, components);
+          rootClassModel, classModel, schema, components, context);
     }
     return NULL_GENERATOR;
   }
@@ -178,20 +181,21 @@ public class FieldGeneratorFactory {
   /** Builder class to create a new instance of the {@link FieldGenerator}. */
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   public static class Builder {
-    private JavaClassSource rootJavaClassSource;
-    private JavaClassSource javaClassSource;
+    private ClassModel rootClassModel;
+    private ClassModel classModel;
     private String name;
     private Schema<?> schema;
     private Boolean isRequired;
     private Components components;
+    private GenerationContext context;
 
-    public Builder javaClassSource(JavaClassSource javaClassSource) {
-      this.javaClassSource = javaClassSource;
+    public Builder classModel(ClassModel classModel) {
+      this.classModel = classModel;
       return this;
     }
 
-    public Builder rootClassSource(JavaClassSource rootJavaClassSource) {
-      this.rootJavaClassSource = rootJavaClassSource;
+    public Builder rootClassModel(ClassModel rootClassModel) {
+      this.rootClassModel = rootClassModel;
       return this;
     }
 
@@ -215,6 +219,11 @@ public class FieldGeneratorFactory {
       return this;
     }
 
+    public Builder context(GenerationContext context) {
+      this.context = context;
+      return this;
+    }
+
     /**
      * Build a new instance of the {@link FieldGenerator}.
      *
@@ -222,7 +231,7 @@ public class FieldGeneratorFactory {
      */
     public FieldGenerator build() {
       return createGeneratorByType(
-          rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+          rootClassModel, classModel, name, schema, isRequired, components, context);
     }
 
     /**
@@ -232,7 +241,7 @@ public class FieldGeneratorFactory {
      */
     public FieldGenerator buildAdditionalPropertiesGenerator() {
       return createAdditionalPropsGenerator(
-          rootJavaClassSource, javaClassSource, schema, components);
+          rootClassModel, classModel, schema, components, context);
     }
   }
 }
@@ -1,17 +1,16 @@
 package io.github.oguzdem.openapi.generator.bean;
 
-import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.GenerationContext;
 import io.github.oguzdem.openapi.generator.constraints.MultipleOf;
+import io.github.oguzdem.openapi.generator.model.AnnotationModel;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.Objects;
 import org.apache.commons.lang3.ObjectUtils;
-import org.jboss.forge.roaster.model.source.AnnotationSource;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Abstract class for the number field generator. The field is a number object. The field is added
@@ -23,38 +22,38 @@ public abstract class NumberFieldGenerator extends FieldGenerator {
   /**
    * Base constructor for the NumberFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public NumberFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
    * Generates the field for the number field. Adds the field to the constructor if it is not
    * already added.
    *
-   * @return {@link PropertySource} object for the field
+   * @return {@link FieldModel} of the generated field
    */
-  public PropertySource<JavaClassSource> generateField() {
-    super.generateField();
-    PropertySource<JavaClassSource> propertySource = javaClassSource.getProperty(this.name);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
+  public FieldModel generateField() {
+    FieldModel fieldModel = super.generateField();
 
-    if (Config.isBeanValidationEnabled()) {
+    if (context.getConfig().isBeanValidationEnabled()) {
       if (ObjectUtils.isNotEmpty(this.schema.getMinimum())) {
-        AnnotationSource<JavaClassSource> minAnnotation = fieldSource.addAnnotation(Min.class);
-        rootJavaClassSource.addImport(Min.class);
+        AnnotationModel minAnnotation = addAnnotation(fieldModel, Min.class);
+        rootClassModel.addImport(Min.class);
         if (Objects.equals(this.schema.getExclusiveMinimum(), Boolean.TRUE)) {
           minAnnotation.setLiteralValue(
               "value", String.valueOf(this.schema.getMinimum().longValue() + 1));
@@ -64,8 +63,8 @@ public abstract class NumberFieldGenerator extends FieldGenerator {
         }
       }
       if (ObjectUtils.isNotEmpty(this.schema.getMaximum())) {
-        AnnotationSource<JavaClassSource> maxAnnotation = fieldSource.addAnnotation(Max.class);
-        rootJavaClassSource.addImport(Max.class);
+        AnnotationModel maxAnnotation = addAnnotation(fieldModel, Max.class);
+        rootClassModel.addImport(Max.class);
         if (Objects.equals(this.schema.getExclusiveMinimum(), Boolean.TRUE)) {
           maxAnnotation.setLiteralValue(
               "value", String.valueOf(this.schema.getMaximum().longValue() - 1));
@@ -75,14 +74,13 @@ public abstract class NumberFieldGenerator extends FieldGenerator {
         }
       }
       if (ObjectUtils.isNotEmpty(this.schema.getMultipleOf())) {
-        AnnotationSource<JavaClassSource> multipleOfAnnotation =
-            fieldSource.addAnnotation(MultipleOf.class);
-        rootJavaClassSource.addImport(MultipleOf.class);
+        AnnotationModel multipleOfAnnotation = addAnnotation(fieldModel, MultipleOf.class);
+        rootClassModel.addImport(MultipleOf.class);
         multipleOfAnnotation.setLiteralValue("value", this.schema.getMultipleOf().toString());
       }
     }
 
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
   }
 }
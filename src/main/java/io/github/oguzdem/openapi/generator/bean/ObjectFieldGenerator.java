@@ -1,18 +1,19 @@
 package io.github.oguzdem.openapi.generator.bean;
 
+import io.github.oguzdem.openapi.generator.GenerationContext;
 import io.github.oguzdem.openapi.generator.TypeGenerator;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.ObjectUtils;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the object field. The field is an object. The field is added to the
- * constructor if it is not already added.
+ * constructor if it is not already added. In a mutable class, the nested object is kept and reset
+ * with the class instead.
  *
  * @author Oguz Demirbasci
  */
@@ -20,25 +21,27 @@ public final class ObjectFieldGenerator extends FieldGenerator {
   /**
    * Constructor for the ObjectFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public ObjectFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   @Override
-  public PropertySource<JavaClassSource> generateField() {
+  public FieldModel generateField() {
     String objectType;
     if (JavaClassSourceUtils.isJavaObject(schema)) {
       objectType = "Object";
@@ -47,20 +50,23 @@ public final class ObjectFieldGenerator extends FieldGenerator {
     } else {
       objectType =
           TypeGenerator.getOrGenerateType(
-              NameUtils.toJavaTypeNameFormat(javaClassSource.getName() + "_" + name),
+              context,
+              NameUtils.toJavaTypeNameFormat(classModel.getName() + "_" + name),
               schema,
               components);
     }
-    PropertySource<JavaClassSource> propertySource =
-        javaClassSource.addProperty(objectType, NameUtils.toJavaFieldNameFormat(name));
-    addStandardAnnotations(propertySource);
-    addConstructorParameter();
-    return propertySource;
+    FieldModel fieldModel = classModel.addField(objectType, NameUtils.toJavaFieldNameFormat(name));
+    addStandardAnnotations(fieldModel);
+    if (isMutable() && !"Object".equals(objectType)) {
+      addNestedReset(fieldModel);
+    } else {
+      addConstructorParameter();
+    }
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     // Todo need to test what is loaded here
     return null;
   }
@@ -1,17 +1,26 @@
 package io.github.oguzdem.openapi.generator.bean;
 
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isAllOf;
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isAnyOf;
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isArray;
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isJavaObject;
+import static io.github.oguzdem.openapi.generator.utils.JavaClassSourceUtils.isObject;
+
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.RefIndex;
 import io.github.oguzdem.openapi.generator.TypeGenerator;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.github.oguzdem.openapi.generator.utils.NameUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
+import java.util.Objects;
 import lombok.NonNull;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the ref field. The field is a reference to another schema. The field is added
- * to the constructor if it is not already added.
+ * to the constructor if it is not already added. In a mutable class, a referenced mutable class is
+ * kept and reset with the class instead.
  *
  * @author Oguz Demirbasci
  */
@@ -19,45 +28,63 @@ public class RefFieldGenerator extends FieldGenerator {
   /**
    * Constructor for the RefFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public RefFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   @Override
-  public PropertySource<JavaClassSource> generateField() {
+  public FieldModel generateField() {
     String objectType =
         TypeGenerator.getOrGenerateType(
-            name, schema, components, javaClassSource, rootJavaClassSource);
-    PropertySource<JavaClassSource> propertySource =
-        javaClassSource.addProperty(objectType, NameUtils.toJavaFieldNameFormat(name));
-
-    addStandardAnnotations(propertySource);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
+            context, name, schema, components, classModel, rootClassModel);
+    FieldModel fieldModel = classModel.addField(objectType, NameUtils.toJavaFieldNameFormat(name));
 
-    if (isRequired) {
-      fieldSource.addAnnotation(NonNull.class);
+    addStandardAnnotations(fieldModel);
+    if (isMutable()) {
+      if (isMutableClass(RefIndex.of(components).resolve(schema.get$ref()).schema())) {
+        addNestedReset(fieldModel);
+        return fieldModel;
+      }
+    } else if (isRequired) {
+      addAnnotation(fieldModel, NonNull.class);
     }
 
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
+  }
+
+  /**
+   * Check if the referenced schema is generated as a class, which is mutable like the class of the
+   * field. Enums, interfaces of the oneOf schemas, array classes and plain objects are not.
+   *
+   * @param refSchema the referenced schema
+   * @return true if the referenced schema is generated as a mutable class
+   */
+  private static boolean isMutableClass(Schema<?> refSchema) {
+    return Objects.isNull(refSchema.getEnum())
+        && Objects.isNull(refSchema.getOneOf())
+        && !isArray(refSchema)
+        && !isJavaObject(refSchema)
+        && (isObject(refSchema) || isAllOf(refSchema) || isAnyOf(refSchema));
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     return "";
   }
 }
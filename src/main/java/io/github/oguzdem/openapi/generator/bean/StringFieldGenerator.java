@@ -2,7 +2,9 @@ package io.github.oguzdem.openapi.generator.bean;
 
 import static io.swagger.v3.parser.util.SchemaTypeUtil.EMAIL_FORMAT;
 
-import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.validation.constraints.Email;
@@ -10,9 +12,6 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the string field. The field is a string object. The field is added to the
@@ -24,21 +23,23 @@ public final class StringFieldGenerator extends FieldGenerator {
   /**
    * Constructor for the StringFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public StringFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   /**
@@ -51,65 +52,62 @@ public final class StringFieldGenerator extends FieldGenerator {
    * <li>Email: If the schema has a format and the format is email, the email annotation is added to
    *     the field.
    *
-   * @return {@link PropertySource} object for the field
+   * @return {@link FieldModel} of the generated field
    */
   @Override
-  public PropertySource<JavaClassSource> generateField() {
-    super.generateField();
-    PropertySource<JavaClassSource> propertySource = javaClassSource.getProperty(this.name);
-    FieldSource<JavaClassSource> fieldSource = propertySource.getField();
+  public FieldModel generateField() {
+    FieldModel fieldModel = super.generateField();
 
-    if (Config.isBeanValidationEnabled()) {
+    if (context.getConfig().isBeanValidationEnabled()) {
       if (StringUtils.isNotBlank(this.schema.getPattern())) {
-        if (!fieldSource.hasAnnotation(Pattern.class)) {
-          fieldSource.addAnnotation(Pattern.class);
-          rootJavaClassSource.addImport(Pattern.class);
+        if (!fieldModel.hasAnnotation(Pattern.class)) {
+          addAnnotation(fieldModel, Pattern.class);
+          rootClassModel.addImport(Pattern.class);
         }
-        fieldSource.getAnnotation(Pattern.class).setStringValue("regexp", this.schema.getPattern());
+        fieldModel.getAnnotation(Pattern.class).setStringValue("regexp", this.schema.getPattern());
       }
       if (ObjectUtils.isNotEmpty(this.schema.getMinLength())) {
-        if (!fieldSource.hasAnnotation(Size.class)) {
-          fieldSource.addAnnotation(Size.class);
-          rootJavaClassSource.addImport(Size.class);
+        if (!fieldModel.hasAnnotation(Size.class)) {
+          addAnnotation(fieldModel, Size.class);
+          rootClassModel.addImport(Size.class);
         }
-        fieldSource
+        fieldModel
             .getAnnotation(Size.class)
             .setLiteralValue("min", this.schema.getMinLength().toString());
       }
       if (ObjectUtils.isNotEmpty(this.schema.getMaxLength())) {
-        if (!fieldSource.hasAnnotation(Size.class)) {
-          fieldSource.addAnnotation(Size.class);
-          rootJavaClassSource.addImport(Size.class);
+        if (!fieldModel.hasAnnotation(Size.class)) {
+          addAnnotation(fieldModel, Size.class);
+          rootClassModel.addImport(Size.class);
         }
-        fieldSource
+        fieldModel
             .getAnnotation(Size.class)
             .setLiteralValue("max", this.schema.getMaxLength().toString());
       }
 
       if (ObjectUtils.isNotEmpty(this.schema.getFormat())
           && this.schema.getFormat().equals(EMAIL_FORMAT)) {
-        if (!fieldSource.hasAnnotation(Email.class)) {
-          fieldSource.addAnnotation(Email.class);
-          rootJavaClassSource.addImport(Email.class);
+        if (!fieldModel.hasAnnotation(Email.class)) {
+          addAnnotation(fieldModel, Email.class);
+          rootClassModel.addImport(Email.class);
         }
       }
 
       if (ObjectUtils.isNotEmpty(this.schema.getFormat())
           && this.schema.getFormat().equals(EMAIL_FORMAT)) {
-        if (!fieldSource.hasAnnotation(Email.class)) {
-          fieldSource.addAnnotation(Email.class);
-          rootJavaClassSource.addImport(Email.class);
+        if (!fieldModel.hasAnnotation(Email.class)) {
+          addAnnotation(fieldModel, Email.class);
+          rootClassModel.addImport(Email.class);
         }
       }
     }
 
     addConstructorParameter();
-    return propertySource;
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     if (defaultObject instanceof String) {
       return "\"%s\"".formatted(defaultObject);
     }
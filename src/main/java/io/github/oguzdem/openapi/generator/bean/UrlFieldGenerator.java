@@ -1,13 +1,13 @@
 package io.github.oguzdem.openapi.generator.bean;
 
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import java.net.MalformedURLException;
 import java.net.URL;
-import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 
 /**
  * Field generator for the URL field. The field is a URL object. The field is added to the
@@ -21,38 +21,39 @@ public final class UrlFieldGenerator extends FieldGenerator {
   /**
    * Constructor for the UrlFieldGenerator.
    *
-   * @param rootJavaClassSource The root java class source object
-   * @param javaClassSource The java class source object
+   * @param rootClassModel The root class model
+   * @param classModel The class model
    * @param name The name of the field
    * @param schema The schema object
    * @param isRequired The required flag (whether field name is included in the required list)
    * @param components The components object as look up for referenced schemas
+   * @param context The generation context that keeps the generated types
    */
   public UrlFieldGenerator(
-      JavaClassSource rootJavaClassSource,
-      JavaClassSource javaClassSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       String name,
       Schema<?> schema,
       Boolean isRequired,
-      Components components) {
-    super(rootJavaClassSource, javaClassSource, name, schema, isRequired, components);
+      Components components,
+      GenerationContext context) {
+    super(rootClassModel, classModel, name, schema, isRequired, components, context);
   }
 
   @Override
-  public PropertySource<JavaClassSource> generateField() {
-    PropertySource<JavaClassSource> propertySource = super.generateField();
+  public FieldModel generateField() {
+    FieldModel fieldModel = super.generateField();
     addConstructorParameter();
-    rootJavaClassSource.addImport(URL.class);
-    return propertySource;
+    rootClassModel.addImport(URL.class);
+    return fieldModel;
   }
 
   @Override
-  String getDefaultInitializerValue(
-      Object defaultObject, FieldSource<JavaClassSource> fieldSource) {
+  String getDefaultInitializerValue(Object defaultObject, FieldModel fieldModel) {
     if (defaultObject instanceof String) {
-      MethodSource<JavaClassSource> constructor = getOrCreateConstructor();
+      MethodModel constructor = getOrCreateConstructor();
       constructor.addThrows(MalformedURLException.class);
-      rootJavaClassSource.addImport(MalformedURLException.class);
+      rootClassModel.addImport(MalformedURLException.class);
       return String.format(LITERAL_INITIALIZER_TEMPLATE, defaultObject);
     }
     return null;
@@ -0,0 +1,157 @@
+package io.github.oguzdem.openapi.generator.cli;
+
+import io.github.oguzdem.openapi.generator.BatchModelGenerator;
+import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.ModelGenerator;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+/**
+ * Command line entry point of the generator. It builds a {@link Config} from an optional properties
+ * file and the given options, and generates the models of one specification with {@link
+ * ModelGenerator}, or of several specifications with {@link BatchModelGenerator}. The options
+ * override the properties file, and the options that are not given keep the defaults of {@link
+ * Config}.
+ *
+ * <p>The command has no dynamic state and its reflection configuration is generated by the picocli
+ * annotation processor, so it can be compiled into a native image for hooks and CI steps that
+ * cannot afford the start-up of a JVM.
+ *
+ * @author Oguz Demirbasci
+ */
+@Command(
+    name = "simple-openapi-generator",
+    mixinStandardHelpOptions = true,
+    description = "Generates Java models from OpenAPI specifications.")
+public class GenerateModelsCommand implements Callable<Integer> {
+
+  @Parameters(
+      arity = "1..*",
+      paramLabel = "SPEC",
+      description = "OpenAPI specifications; more than one are generated in batch mode.")
+  List<Path> specFiles;
+
+  @Option(
+      names = {"-c", "--config"},
+      paramLabel = "FILE",
+      description = "Properties file of the configuration.")
+  Path configFile;
+
+  @Option(
+      names = {"-p", "--package-name"},
+      description = "Package name of the generated models.")
+  String packageName;
+
+  @Option(
+      names = {"-o", "--output-path"},
+      description = "Source directory the models are generated into.")
+  String outputPath;
+
+  @Option(
+      names = "--shared-package-name",
+      description = "Package the schemas shared by a batch are generated into.")
+  String sharedPackageName;
+
+  @Option(
+      names = "--bean-validation",
+      negatable = true,
+      description = "Generate the bean validation annotations.")
+  Boolean beanValidation;
+
+  @Option(names = "--parallel", description = "Generate independent schemas in parallel.")
+  Boolean parallel;
+
+  @Option(names = "--skip-unchanged", description = "Leave unchanged sources as they are.")
+  Boolean skipUnchanged;
+
+  @Option(names = "--incremental", description = "Generate only the changed schemas again.")
+  Boolean incremental;
+
+  @Option(names = "--template-emitter", description = "Write the classes without Roaster.")
+  Boolean templateEmitter;
+
+  @Option(names = "--streaming", description = "Read the schemas as they are generated.")
+  Boolean streaming;
+
+  @Option(
+      names = "--primitive-numeric-arrays",
+      description = "Generate the arrays of numbers as primitive arrays.")
+  Boolean primitiveNumericArrays;
+
+  @Option(
+      names = "--jackson-codecs",
+      description = "Generate a Jackson serializer, deserializer and module for the models.")
+  Boolean jacksonCodecs;
+
+  @Option(names = "--records", description = "Generate the models as records.")
+  Boolean records;
+
+  @Option(
+      names = "--pooled",
+      description = "Generate the models as mutable classes with a reset method and a pool.")
+  Boolean pooled;
+
+  @Option(
+      names = "--json-views",
+      description = "Generate views that read the properties lazily out of the raw JSON.")
+  Boolean jsonViews;
+
+  /**
+   * Runs the command with the given arguments and exits with its exit code.
+   *
+   * @param args the command line arguments
+   */
+  public static void main(String[] args) {
+    System.exit(new CommandLine(new GenerateModelsCommand()).execute(args));
+  }
+
+  @Override
+  public Integer call() throws IOException {
+    Config config = Config.load(toProperties());
+    if (specFiles.size() == 1) {
+      ModelGenerator.generate(specFiles.get(0).toString(), config);
+    } else {
+      BatchModelGenerator.generate(specFiles.stream().map(Path::toString).toList(), config);
+    }
+    return CommandLine.ExitCode.OK;
+  }
+
+  Properties toProperties() throws IOException {
+    Properties properties = new Properties();
+    if (Objects.nonNull(configFile)) {
+      try (FileInputStream fileInputStream = new FileInputStream(configFile.toFile())) {
+        properties.load(fileInputStream);
+      }
+    }
+    setProperty(properties, Config.PACKAGE_NAME, packageName);
+    setProperty(properties, Config.OUTPUT_PATH, outputPath);
+    setProperty(properties, Config.SHARED_PACKAGE_NAME, sharedPackageName);
+    setProperty(properties, Config.ENABLE_BEAN_VALIDATION_SUPPORT, beanValidation);
+    setProperty(properties, Config.ENABLE_PARALLEL_GENERATION, parallel);
+    setProperty(properties, Config.SKIP_UNCHANGED_OUTPUT, skipUnchanged);
+    setProperty(properties, Config.ENABLE_INCREMENTAL_GENERATION, incremental);
+    setProperty(properties, Config.ENABLE_TEMPLATE_SOURCE_EMITTER, templateEmitter);
+    setProperty(properties, Config.ENABLE_STREAMING_INGESTION, streaming);
+    setProperty(properties, Config.ENABLE_PRIMITIVE_NUMERIC_ARRAYS, primitiveNumericArrays);
+    setProperty(properties, Config.ENABLE_JACKSON_CODECS, jacksonCodecs);
+    setProperty(properties, Config.ENABLE_RECORD_MODELS, records);
+    setProperty(properties, Config.ENABLE_POOLED_MODELS, pooled);
+    setProperty(properties, Config.ENABLE_JSON_VIEWS, jsonViews);
+    return properties;
+  }
+
+  private static void setProperty(Properties properties, String key, Object value) {
+    if (Objects.nonNull(value)) {
+      properties.setProperty(key, String.valueOf(value));
+    }
+  }
+}
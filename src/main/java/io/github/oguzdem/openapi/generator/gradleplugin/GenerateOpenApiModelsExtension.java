@@ -1,13 +1,67 @@
 package io.github.oguzdem.openapi.generator.gradleplugin;
 
-import lombok.AllArgsConstructor;
-import lombok.Value;
-
-@Value
-@AllArgsConstructor
-public class GenerateOpenApiModelsExtension {
-  String packageName;
-  String outputPath;
-  boolean enableBeanValidationSupport;
-  String inputFile;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * The {@code modelGenerator} extension of the plugin. It is created by Gradle, and its properties
+ * are wired into the generation task lazily, so they can be set anywhere in the build script.
+ *
+ * @author Oguz Demirbasci
+ */
+public abstract class GenerateOpenApiModelsExtension {
+
+  /** Creates the extension with the defaults of the generator. */
+  public GenerateOpenApiModelsExtension() {
+    getEnableBeanValidationSupport().convention(true);
+    getEnableParallelGeneration().convention(false);
+    getSkipUnchangedOutput().convention(false);
+    getEnableIncrementalGeneration().convention(false);
+    getEnableTemplateSourceEmitter().convention(false);
+    getEnableStreamingIngestion().convention(false);
+    getEnablePrimitiveNumericArrays().convention(false);
+    getEnableJacksonCodecs().convention(false);
+    getEnableRecordModels().convention(false);
+    getEnablePooledModels().convention(false);
+    getEnableJsonViews().convention(false);
+  }
+
+  public abstract Property<String> getPackageName();
+
+  /**
+   * Returns the directory the models are generated into, relative to the project directory. The
+   * models are generated into {@code build/generated/sources/openapi} if it is not set.
+   *
+   * @return the output path
+   */
+  public abstract Property<String> getOutputPath();
+
+  public abstract Property<Boolean> getEnableBeanValidationSupport();
+
+  public abstract Property<Boolean> getEnableParallelGeneration();
+
+  public abstract Property<Boolean> getSkipUnchangedOutput();
+
+  public abstract Property<Boolean> getEnableIncrementalGeneration();
+
+  public abstract Property<Boolean> getEnableTemplateSourceEmitter();
+
+  public abstract Property<Boolean> getEnableStreamingIngestion();
+
+  public abstract Property<Boolean> getEnablePrimitiveNumericArrays();
+
+  public abstract Property<Boolean> getEnableJacksonCodecs();
+
+  public abstract Property<Boolean> getEnableRecordModels();
+
+  public abstract Property<Boolean> getEnablePooledModels();
+
+  public abstract Property<Boolean> getEnableJsonViews();
+
+  public abstract RegularFileProperty getInputFile();
+
+  public abstract ConfigurableFileCollection getInputFiles();
+
+  public abstract Property<String> getSharedPackageName();
 }
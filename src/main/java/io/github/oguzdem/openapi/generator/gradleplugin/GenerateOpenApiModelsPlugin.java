@@ -1,24 +1,116 @@
 package io.github.oguzdem.openapi.generator.gradleplugin;
 
 import io.github.oguzdem.openapi.generator.Config;
-import io.github.oguzdem.openapi.generator.ModelGenerator;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.file.Directory;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.plugins.JavaPluginExtension;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskProvider;
 
 public class GenerateOpenApiModelsPlugin implements Plugin<Project> {
 
+  /** Directory the models are generated into by default, relative to the build directory. */
+  static final String DEFAULT_OUTPUT_DIRECTORY = "generated/sources/openapi";
+
   @Override
   public void apply(Project project) {
     GenerateOpenApiModelsExtension configExtension =
         project.getExtensions().create("modelGenerator", GenerateOpenApiModelsExtension.class);
 
-    Config.load(configExtension);
+    TaskProvider<GenerateOpenApiModelsTask> generateModels =
+        project
+            .getTasks()
+            .register(
+                "generateModels",
+                GenerateOpenApiModelsTask.class,
+                task -> {
+                  task.getInputFile().set(configExtension.getInputFile());
+                  task.getInputFiles().from(configExtension.getInputFiles());
+                  task.getReferencedFiles()
+                      .from(project.provider(() -> getReferencedFiles(configExtension)));
+                  task.getOutputDirectory().set(getOutputDirectory(project, configExtension));
+                  addOptions(task.getOptions(), configExtension);
+                });
 
+    // The generated models are compiled with the main sources, which also runs the task first
     project
-        .task("generateModels")
-        .doLast(
-            task -> {
-              ModelGenerator.generate(configExtension.getInputFile());
-            });
+        .getPlugins()
+        .withType(
+            JavaPlugin.class,
+            plugin ->
+                project
+                    .getExtensions()
+                    .getByType(JavaPluginExtension.class)
+                    .getSourceSets()
+                    .getByName(SourceSet.MAIN_SOURCE_SET_NAME)
+                    .getJava()
+                    .srcDir(generateModels.flatMap(GenerateOpenApiModelsTask::getOutputDirectory)));
+  }
+
+  // The default is a directory of its own, apart from the sources generated by the annotation
+  // processors into build/generated/sources, so the outputs of the tasks do not overlap
+  private static Provider<Directory> getOutputDirectory(
+      Project project, GenerateOpenApiModelsExtension configExtension) {
+    Directory projectDirectory = project.getLayout().getProjectDirectory();
+    return configExtension
+        .getOutputPath()
+        .map(projectDirectory::dir)
+        .orElse(project.getLayout().getBuildDirectory().dir(DEFAULT_OUTPUT_DIRECTORY));
+  }
+
+  private static void addOptions(
+      MapProperty<String, String> options, GenerateOpenApiModelsExtension configExtension) {
+    options.put(Config.PACKAGE_NAME, configExtension.getPackageName());
+    Map<String, Property<Boolean>> flags =
+        Map.ofEntries(
+            Map.entry(
+                Config.ENABLE_BEAN_VALIDATION_SUPPORT,
+                configExtension.getEnableBeanValidationSupport()),
+            Map.entry(
+                Config.ENABLE_PARALLEL_GENERATION, configExtension.getEnableParallelGeneration()),
+            Map.entry(Config.SKIP_UNCHANGED_OUTPUT, configExtension.getSkipUnchangedOutput()),
+            Map.entry(
+                Config.ENABLE_INCREMENTAL_GENERATION,
+                configExtension.getEnableIncrementalGeneration()),
+            Map.entry(
+                Config.ENABLE_TEMPLATE_SOURCE_EMITTER,
+                configExtension.getEnableTemplateSourceEmitter()),
+            Map.entry(
+                Config.ENABLE_STREAMING_INGESTION, configExtension.getEnableStreamingIngestion()),
+            Map.entry(
+                Config.ENABLE_PRIMITIVE_NUMERIC_ARRAYS,
+                configExtension.getEnablePrimitiveNumericArrays()),
+            Map.entry(Config.ENABLE_JACKSON_CODECS, configExtension.getEnableJacksonCodecs()),
+            Map.entry(Config.ENABLE_RECORD_MODELS, configExtension.getEnableRecordModels()),
+            Map.entry(Config.ENABLE_POOLED_MODELS, configExtension.getEnablePooledModels()),
+            Map.entry(Config.ENABLE_JSON_VIEWS, configExtension.getEnableJsonViews()));
+    flags.forEach((key, flag) -> options.put(key, flag.map(String::valueOf)));
+    options.putAll(
+        configExtension
+            .getSharedPackageName()
+            .map(name -> Map.of(Config.SHARED_PACKAGE_NAME, name))
+            .orElse(Map.of()));
+  }
+
+  private static List<File> getReferencedFiles(GenerateOpenApiModelsExtension configExtension) {
+    List<File> specFiles = new ArrayList<>(configExtension.getInputFiles().getFiles());
+    if (configExtension.getInputFile().isPresent()) {
+      specFiles.add(configExtension.getInputFile().get().getAsFile());
+    }
+    return specFiles.stream()
+        .flatMap(specFile -> SpecFileCollector.collect(specFile.toPath()).stream().skip(1))
+        .distinct()
+        .map(Path::toFile)
+        .toList();
   }
 }
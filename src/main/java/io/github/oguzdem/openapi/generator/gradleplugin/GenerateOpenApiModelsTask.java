@@ -0,0 +1,105 @@
+package io.github.oguzdem.openapi.generator.gradleplugin;
+
+import io.github.oguzdem.openapi.generator.Config;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * Gradle task that generates the models of an OpenAPI specification, or of a batch of
+ * specifications. The specification files, the files they reference and the generator options are
+ * the inputs of the task and the output directory is its output, so the task is up-to-date when
+ * none of them has changed and its output can be loaded from the build cache.
+ *
+ * @author Oguz Demirbasci
+ */
+@CacheableTask
+public abstract class GenerateOpenApiModelsTask extends DefaultTask {
+
+  /**
+   * Returns the OpenAPI specification file. It is not needed when the specifications are generated
+   * in batch mode.
+   *
+   * @return the specification file
+   */
+  @InputFile
+  @Optional
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public abstract RegularFileProperty getInputFile();
+
+  /**
+   * Returns the OpenAPI specification files that are generated together in batch mode. The schemas
+   * they share are generated once into the shared package.
+   *
+   * @return the specification files of the batch
+   */
+  @InputFiles
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public abstract ConfigurableFileCollection getInputFiles();
+
+  /**
+   * Returns the files referenced by the specification with a <b>$ref</b>.
+   *
+   * @return the referenced files
+   */
+  @InputFiles
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public abstract ConfigurableFileCollection getReferencedFiles();
+
+  /**
+   * Returns the generator options by their {@link Config} property names, such as the package name
+   * of the generated models and the enabled features.
+   *
+   * @return the generator options
+   */
+  @Input
+  public abstract MapProperty<String, String> getOptions();
+
+  /**
+   * Returns the directory the models are generated into.
+   *
+   * @return the output directory
+   */
+  @OutputDirectory
+  public abstract DirectoryProperty getOutputDirectory();
+
+  /**
+   * Returns the worker executor the generation is submitted to.
+   *
+   * @return the worker executor
+   */
+  @Inject
+  protected abstract WorkerExecutor getWorkerExecutor();
+
+  /**
+   * Generates the models of the specification into the output directory. The generation runs as a
+   * work item in an isolated classloader, so the generation tasks of different projects run in
+   * parallel.
+   */
+  @TaskAction
+  public void generate() {
+    getWorkerExecutor()
+        .classLoaderIsolation()
+        .submit(
+            GenerateOpenApiModelsWorkAction.class,
+            parameters -> {
+              parameters.getInputFile().set(getInputFile());
+              parameters.getInputFiles().from(getInputFiles());
+              parameters.getOptions().set(getOptions());
+              parameters.getOutputDirectory().set(getOutputDirectory());
+            });
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.oguzdem.openapi.generator.gradleplugin;
+
+import io.github.oguzdem.openapi.generator.BatchModelGenerator;
+import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.ModelGenerator;
+import java.io.File;
+import java.util.List;
+import java.util.Properties;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * Gradle work action that generates the models of a single OpenAPI specification, or of a batch of
+ * specifications with {@link BatchModelGenerator}. Every work item builds its own {@link Config}
+ * from the options it is given, so the work items of different projects can run at the same time in
+ * one worker JVM.
+ *
+ * @author Oguz Demirbasci
+ */
+public abstract class GenerateOpenApiModelsWorkAction
+    implements WorkAction<GenerateOpenApiModelsWorkAction.Parameters> {
+
+  /** Parameters of a model generation work item. */
+  public interface Parameters extends WorkParameters {
+
+    RegularFileProperty getInputFile();
+
+    ConfigurableFileCollection getInputFiles();
+
+    MapProperty<String, String> getOptions();
+
+    DirectoryProperty getOutputDirectory();
+  }
+
+  @Override
+  public void execute() {
+    Parameters parameters = getParameters();
+    String inputFile =
+        parameters.getInputFile().isPresent()
+            ? parameters.getInputFile().get().getAsFile().getAbsolutePath()
+            : null;
+    List<String> inputFiles =
+        parameters.getInputFiles().getFiles().stream().map(File::getAbsolutePath).toList();
+    Properties properties = new Properties();
+    properties.putAll(parameters.getOptions().get());
+    properties.setProperty(
+        Config.OUTPUT_PATH, parameters.getOutputDirectory().get().getAsFile().getAbsolutePath());
+    Config config = Config.load(properties);
+    if (!inputFiles.isEmpty()) {
+      BatchModelGenerator.generate(inputFiles, config);
+    } else {
+      ModelGenerator.generate(inputFile, config);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package io.github.oguzdem.openapi.generator.gradleplugin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Yaml;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Collects the files an OpenAPI specification consists of. Besides the specification file itself,
+ * every local file that is referenced with a relative <b>$ref</b>, directly or through another
+ * referenced file, is part of the specification. Remote references and references inside the same
+ * document are ignored.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class SpecFileCollector {
+
+  private static final String REF = "$ref";
+
+  private SpecFileCollector() {}
+
+  /**
+   * Collects the given specification file and the local files it references.
+   *
+   * @param specFile the specification file
+   * @return the specification file followed by the referenced files in discovery order
+   */
+  public static Set<Path> collect(@NonNull Path specFile) {
+    Set<Path> files = new LinkedHashSet<>();
+    Deque<Path> queue = new ArrayDeque<>();
+    queue.add(specFile.toAbsolutePath().normalize());
+    while (!queue.isEmpty()) {
+      Path file = queue.poll();
+      if (!files.add(file) || !Files.isRegularFile(file)) {
+        continue;
+      }
+      Set<String> refs = new LinkedHashSet<>();
+      collectRefs(readTree(file), refs);
+      for (String ref : refs) {
+        String location = StringUtils.substringBefore(ref, "#");
+        if (StringUtils.isNotBlank(location) && !location.contains("://")) {
+          queue.add(file.resolveSibling(location).normalize());
+        }
+      }
+    }
+    return files;
+  }
+
+  private static JsonNode readTree(Path file) {
+    try {
+      return Yaml.mapper().readTree(file.toFile());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Specification file cannot be read: " + file, e);
+    }
+  }
+
+  private static void collectRefs(JsonNode node, Set<String> refs) {
+    if (node == null) {
+      return;
+    }
+    if (node.isObject() && node.path(REF).isTextual()) {
+      refs.add(node.get(REF).asText());
+    }
+    node.forEach(child -> collectRefs(child, refs));
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Annotation of a generated class, field or method. The values are kept in the order they are set,
+ * and a value set again keeps its first position.
+ *
+ * @param type the simple name of the annotation type
+ * @param values the values of the annotation by member name
+ * @author Oguz Demirbasci
+ */
+public record AnnotationModel(String type, Map<String, Value> values) {
+
+  /** Name of the annotation member that can be omitted in the source. */
+  public static final String DEFAULT_MEMBER = "value";
+
+  /**
+   * Value of an annotation member.
+   *
+   * @param literal the value as it is written in the source, or the unquoted string
+   * @param string true if the value is a string to be quoted
+   */
+  public record Value(String literal, boolean string) {}
+
+  /**
+   * Creates an annotation of the given type without values.
+   *
+   * @param type the annotation type
+   * @return the annotation model
+   */
+  public static AnnotationModel of(Class<?> type) {
+    return new AnnotationModel(type.getSimpleName(), new LinkedHashMap<>());
+  }
+
+  /**
+   * Sets the string value of the default member.
+   *
+   * @param value the unquoted string
+   * @return this annotation
+   */
+  public AnnotationModel setStringValue(String value) {
+    return setStringValue(DEFAULT_MEMBER, value);
+  }
+
+  /**
+   * Sets the string value of the given member.
+   *
+   * @param name the member name
+   * @param value the unquoted string
+   * @return this annotation
+   */
+  public AnnotationModel setStringValue(String name, String value) {
+    values.put(name, new Value(value, true));
+    return this;
+  }
+
+  /**
+   * Sets the literal value of the default member.
+   *
+   * @param value the value as it is written in the source
+   * @return this annotation
+   */
+  public AnnotationModel setLiteralValue(String value) {
+    return setLiteralValue(DEFAULT_MEMBER, value);
+  }
+
+  /**
+   * Sets the literal value of the given member.
+   *
+   * @param name the member name
+   * @param value the value as it is written in the source
+   * @return this annotation
+   */
+  public AnnotationModel setLiteralValue(String name, String value) {
+    values.put(name, new Value(value, false));
+    return this;
+  }
+
+  /**
+   * Sets the enum constant value of the given member. The enum type is referred to by its simple
+   * name, so it has to be imported by the class.
+   *
+   * @param name the member name
+   * @param value the enum constant
+   * @return this annotation
+   */
+  public AnnotationModel setEnumValue(String name, Enum<?> value) {
+    return setLiteralValue(
+        name, "%s.%s".formatted(value.getDeclaringClass().getSimpleName(), value.name()));
+  }
+}
@@ -0,0 +1,281 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Class to be generated, kept as plain lists of imports, annotations, fields and members until it
+ * is rendered. The field generators fill the model while the schema is analyzed, and the model is
+ * rendered into a source once it is complete, see {@link RoasterRenderer}.
+ *
+ * <p>The imports, annotations, fields and members are rendered in the order they are added. The
+ * imports of a nested class are not rendered, so they have to be added to the root class as well.
+ *
+ * <p>A record is rendered with its instance fields as its components and its constructor as its
+ * compact canonical constructor, which takes no parameters and declares no exceptions.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class ClassModel implements MemberModel {
+  private final String name;
+  private boolean isStatic;
+  private boolean isRecord;
+  private String javadoc;
+  private String superType;
+  private final Set<String> imports = new LinkedHashSet<>();
+  private final List<AnnotationModel> annotations = new ArrayList<>();
+  private final List<FieldModel> fields = new ArrayList<>();
+  private final Map<String, FieldModel> fieldsByName = new HashMap<>();
+  private final List<MemberModel> members = new ArrayList<>();
+  private MethodModel constructor;
+
+  /**
+   * Creates an empty class model.
+   *
+   * @param name the simple name of the class
+   */
+  public ClassModel(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isStatic() {
+    return isStatic;
+  }
+
+  public ClassModel setStatic(boolean isStatic) {
+    this.isStatic = isStatic;
+    return this;
+  }
+
+  public boolean isRecord() {
+    return isRecord;
+  }
+
+  /**
+   * Makes the class a record. The super type of a record is not rendered.
+   *
+   * @param isRecord true for a record
+   * @return this class model
+   */
+  public ClassModel setRecord(boolean isRecord) {
+    this.isRecord = isRecord;
+    return this;
+  }
+
+  public String getJavadoc() {
+    return javadoc;
+  }
+
+  public ClassModel setJavadoc(String javadoc) {
+    this.javadoc = javadoc;
+    return this;
+  }
+
+  public String getSuperType() {
+    return superType;
+  }
+
+  /**
+   * Sets the class the class extends. The type has to be imported by the class.
+   *
+   * @param superType the super type as it is written in the source, with its type arguments
+   * @return this class model
+   */
+  public ClassModel setSuperType(String superType) {
+    this.superType = superType;
+    return this;
+  }
+
+  public Set<String> getImports() {
+    return Collections.unmodifiableSet(imports);
+  }
+
+  /**
+   * Imports the given type. Primitive types, arrays of them and the types of the {@code java.lang}
+   * package are not imported.
+   *
+   * @param type the type to import
+   */
+  public void addImport(Class<?> type) {
+    Class<?> importedType = type.isArray() ? type.getComponentType() : type;
+    if (importedType.isPrimitive() || "java.lang".equals(importedType.getPackageName())) {
+      return;
+    }
+    imports.add(importedType.getCanonicalName());
+  }
+
+  /**
+   * Imports the type with the given qualified name.
+   *
+   * @param qualifiedName the qualified name of the type
+   */
+  public void addImport(String qualifiedName) {
+    imports.add(qualifiedName);
+  }
+
+  public List<AnnotationModel> getAnnotations() {
+    return annotations;
+  }
+
+  /**
+   * Imports the given annotation type and annotates the class with it.
+   *
+   * @param type the annotation type
+   * @return the added annotation
+   */
+  public AnnotationModel addAnnotation(Class<?> type) {
+    addImport(type);
+    AnnotationModel annotation = AnnotationModel.of(type);
+    annotations.add(annotation);
+    return annotation;
+  }
+
+  /**
+   * Checks if the class is annotated with the given type.
+   *
+   * @param type the annotation type
+   * @return true if the class has the annotation
+   */
+  public boolean hasAnnotation(Class<?> type) {
+    return annotations.stream()
+        .anyMatch(annotation -> annotation.type().equals(type.getSimpleName()));
+  }
+
+  public List<FieldModel> getFields() {
+    return Collections.unmodifiableList(fields);
+  }
+
+  /**
+   * Returns the field with the given name.
+   *
+   * @param name the name of the field
+   * @return the field if the class has it
+   */
+  public Optional<FieldModel> getField(String name) {
+    return Optional.ofNullable(fieldsByName.get(name));
+  }
+
+  /**
+   * Adds a package private field of the given type. The type is imported unless it does not need to
+   * be.
+   *
+   * @param type the type of the field
+   * @param name the name of the field
+   * @return the added field
+   */
+  public FieldModel addField(Class<?> type, String name) {
+    addImport(type);
+    return addField(FieldModel.of(type.getSimpleName(), name));
+  }
+
+  /**
+   * Adds a package private field of the given type. The type has to be imported by the class.
+   *
+   * @param type the type of the field as it is written in the source
+   * @param name the name of the field
+   * @return the added field
+   */
+  public FieldModel addField(String type, String name) {
+    return addField(FieldModel.of(type, name));
+  }
+
+  /**
+   * Adds the given field.
+   *
+   * @param field the field to add
+   * @return the added field
+   */
+  public FieldModel addField(FieldModel field) {
+    fields.add(field);
+    fieldsByName.putIfAbsent(field.name(), field);
+    return field;
+  }
+
+  /**
+   * Replaces the field with the same name with the given field, keeping its position.
+   *
+   * @param field the field that replaces the existing one
+   * @return the given field
+   */
+  public FieldModel replaceField(FieldModel field) {
+    FieldModel existingField = fieldsByName.get(field.name());
+    if (existingField == null) {
+      return addField(field);
+    }
+    fields.set(fields.indexOf(existingField), field);
+    fieldsByName.put(field.name(), field);
+    return field;
+  }
+
+  public List<MemberModel> getMembers() {
+    return Collections.unmodifiableList(members);
+  }
+
+  /**
+   * Adds a package private method.
+   *
+   * @param name the name of the method
+   * @return the added method
+   */
+  public MethodModel addMethod(String name) {
+    MethodModel method = new MethodModel(name, false);
+    members.add(method);
+    return method;
+  }
+
+  /**
+   * Adds a constructor without modifiers, parameters and body. The class keeps a single
+   * constructor, so an existing constructor is replaced.
+   *
+   * @return the added constructor
+   */
+  public MethodModel addConstructor() {
+    if (constructor != null) {
+      members.remove(constructor);
+    }
+    constructor = new MethodModel(name, true);
+    members.add(constructor);
+    return constructor;
+  }
+
+  /**
+   * Returns the constructor of the class. The constructor is kept by the class, so it is not looked
+   * up among the members.
+   *
+   * @return the constructor if the class has one
+   */
+  public Optional<MethodModel> getConstructor() {
+    return Optional.ofNullable(constructor);
+  }
+
+  /**
+   * Removes the given method or constructor.
+   *
+   * @param method the method to remove
+   */
+  public void removeMethod(MethodModel method) {
+    members.remove(method);
+    if (method == constructor) {
+      constructor = null;
+    }
+  }
+
+  /**
+   * Adds the given class as a nested type.
+   *
+   * @param nestedType the nested class
+   */
+  public void addNestedType(ClassModel nestedType) {
+    members.add(nestedType);
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Field of a generated class. The type is written as it is in the source, with its type arguments
+ * and simple names that are imported by the class. A field without modifiers is package private and
+ * not final.
+ *
+ * @param type the type of the field
+ * @param name the name of the field
+ * @param modifiers the modifiers of the field
+ * @param initializer the initializer as it is written in the source, null if there is none
+ * @param annotations the annotations of the field in declaration order
+ * @author Oguz Demirbasci
+ */
+public record FieldModel(
+    String type,
+    String name,
+    Set<Modifier> modifiers,
+    String initializer,
+    List<AnnotationModel> annotations) {
+
+  /**
+   * Creates a package private field without initializer and annotations.
+   *
+   * @param type the type of the field
+   * @param name the name of the field
+   * @return the field model
+   */
+  public static FieldModel of(String type, String name) {
+    return new FieldModel(type, name, Set.of(), null, new ArrayList<>());
+  }
+
+  /**
+   * Returns a copy of the field with the given type. The annotations are shared with the copy.
+   *
+   * @param type the type of the copy
+   * @return the field model of the given type
+   */
+  public FieldModel withType(String type) {
+    return new FieldModel(type, name, modifiers, initializer, annotations);
+  }
+
+  /**
+   * Adds an annotation of the given type. The annotation type has to be imported by the class.
+   *
+   * @param type the annotation type
+   * @return the added annotation
+   */
+  public AnnotationModel addAnnotation(Class<?> type) {
+    AnnotationModel annotation = AnnotationModel.of(type);
+    annotations.add(annotation);
+    return annotation;
+  }
+
+  /**
+   * Returns the annotation of the given type.
+   *
+   * @param type the annotation type
+   * @return the annotation, null if the field is not annotated with the type
+   */
+  public AnnotationModel getAnnotation(Class<?> type) {
+    return annotations.stream()
+        .filter(annotation -> annotation.type().equals(type.getSimpleName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Checks if the field is annotated with the given type.
+   *
+   * @param type the annotation type
+   * @return true if the field has the annotation
+   */
+  public boolean hasAnnotation(Class<?> type) {
+    return getAnnotation(type) != null;
+  }
+}
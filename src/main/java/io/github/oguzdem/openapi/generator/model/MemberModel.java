@@ -0,0 +1,9 @@
+package io.github.oguzdem.openapi.generator.model;
+
+/**
+ * Method or nested type of a generated class. Members are rendered after the fields, in the order
+ * they are added to the class.
+ *
+ * @author Oguz Demirbasci
+ */
+public sealed interface MemberModel permits MethodModel, ClassModel {}
@@ -0,0 +1,146 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Method or constructor of a generated class. A method without modifiers is package private. The
+ * types are written as they are in the source, with simple names that are imported by the class.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class MethodModel implements MemberModel {
+  private final String name;
+  private final boolean constructor;
+  private final Set<Modifier> modifiers = EnumSet.noneOf(Modifier.class);
+  private final List<AnnotationModel> annotations = new ArrayList<>();
+  private final List<ParameterModel> parameters = new ArrayList<>();
+  private final List<String> thrownTypes = new ArrayList<>();
+  private final StringBuilder body = new StringBuilder();
+  private String returnType;
+  private String javadoc;
+
+  /**
+   * Creates a method or a constructor.
+   *
+   * @param name the name of the method, or of the class for a constructor
+   * @param constructor true for a constructor
+   */
+  MethodModel(String name, boolean constructor) {
+    this.name = name;
+    this.constructor = constructor;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isConstructor() {
+    return constructor;
+  }
+
+  public Set<Modifier> getModifiers() {
+    return modifiers;
+  }
+
+  public MethodModel addModifier(Modifier modifier) {
+    modifiers.add(modifier);
+    return this;
+  }
+
+  public List<AnnotationModel> getAnnotations() {
+    return annotations;
+  }
+
+  /**
+   * Adds an annotation of the given type. The annotation type has to be imported by the class.
+   *
+   * @param type the annotation type
+   * @return the added annotation
+   */
+  public AnnotationModel addAnnotation(Class<?> type) {
+    AnnotationModel annotation = AnnotationModel.of(type);
+    annotations.add(annotation);
+    return annotation;
+  }
+
+  public List<ParameterModel> getParameters() {
+    return parameters;
+  }
+
+  public MethodModel addParameter(String type, String name) {
+    parameters.add(new ParameterModel(type, name));
+    return this;
+  }
+
+  public List<String> getThrownTypes() {
+    return thrownTypes;
+  }
+
+  /**
+   * Adds the given exception to the throws clause if it is not added yet. The exception type has to
+   * be imported by the class.
+   *
+   * @param type the exception type
+   * @return this method
+   */
+  public MethodModel addThrows(Class<? extends Exception> type) {
+    if (!thrownTypes.contains(type.getSimpleName())) {
+      thrownTypes.add(type.getSimpleName());
+    }
+    return this;
+  }
+
+  public String getJavadoc() {
+    return javadoc;
+  }
+
+  public MethodModel setJavadoc(String javadoc) {
+    this.javadoc = javadoc;
+    return this;
+  }
+
+  public String getReturnType() {
+    return returnType;
+  }
+
+  public MethodModel setReturnType(String returnType) {
+    this.returnType = returnType;
+    return this;
+  }
+
+  /**
+   * Returns the body of the method.
+   *
+   * @return the statements of the body, null if the body is empty
+   */
+  public String getBody() {
+    return body.isEmpty() ? null : body.toString();
+  }
+
+  /**
+   * Replaces the body of the method.
+   *
+   * @param body the statements of the body
+   * @return this method
+   */
+  public MethodModel setBody(String body) {
+    this.body.setLength(0);
+    return appendBody(body);
+  }
+
+  /**
+   * Appends the given statements to the end of the body, so a body built by several field
+   * generators is not copied for every field.
+   *
+   * @param statements the statements to append
+   * @return this method
+   */
+  public MethodModel appendBody(String statements) {
+    body.append(statements);
+    return this;
+  }
+}
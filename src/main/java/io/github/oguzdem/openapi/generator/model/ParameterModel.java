@@ -0,0 +1,10 @@
+package io.github.oguzdem.openapi.generator.model;
+
+/**
+ * Parameter of a generated method or constructor.
+ *
+ * @param type the type of the parameter as it is written in the source
+ * @param name the name of the parameter
+ * @author Oguz Demirbasci
+ */
+public record ParameterModel(String type, String name) {}
@@ -0,0 +1,130 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.Visibility;
+import org.jboss.forge.roaster.model.source.AnnotationSource;
+import org.jboss.forge.roaster.model.source.AnnotationTargetSource;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+
+/**
+ * Renders {@link ClassModel}s into Roaster sources. A class model is rendered once it is complete,
+ * so every import, annotation, field and method is added to the Roaster source in a single pass
+ * instead of being looked up and changed in the syntax tree while the schema is analyzed.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class RoasterRenderer {
+
+  private RoasterRenderer() {}
+
+  /**
+   * Renders the given class model into the given source. The package and name of the source are
+   * kept as they are.
+   *
+   * @param classModel the class model to render
+   * @param javaClass the source to render into
+   * @return the given source
+   * @throws IllegalArgumentException if the class model is a record, which a class source cannot
+   *     declare
+   */
+  public static JavaClassSource render(ClassModel classModel, JavaClassSource javaClass) {
+    if (classModel.isRecord()) {
+      throw new IllegalArgumentException(
+          "record %s cannot be rendered into a class source".formatted(classModel.getName()));
+    }
+    if (classModel.getJavadoc() != null) {
+      javaClass.getJavaDoc().setFullText(classModel.getJavadoc());
+    }
+    classModel.getImports().forEach(javaClass::addImport);
+    renderType(classModel, javaClass);
+    return javaClass;
+  }
+
+  private static void renderType(ClassModel classModel, JavaClassSource javaClass) {
+    if (classModel.isStatic()) {
+      javaClass.setStatic(true);
+    }
+    if (classModel.getSuperType() != null) {
+      javaClass.setSuperType(classModel.getSuperType());
+    }
+    renderAnnotations(classModel.getAnnotations(), javaClass);
+    for (FieldModel field : classModel.getFields()) {
+      renderField(field, javaClass.addField());
+    }
+    for (MemberModel member : classModel.getMembers()) {
+      if (member instanceof MethodModel method) {
+        renderMethod(method, javaClass.addMethod());
+      } else if (member instanceof ClassModel nestedType) {
+        JavaClassSource nestedClass = Roaster.create(JavaClassSource.class);
+        nestedClass.setName(nestedType.getName());
+        if (nestedType.getJavadoc() != null) {
+          nestedClass.getJavaDoc().setFullText(nestedType.getJavadoc());
+        }
+        renderType(nestedType, nestedClass);
+        javaClass.addNestedType(nestedClass);
+      }
+    }
+  }
+
+  private static void renderField(FieldModel field, FieldSource<JavaClassSource> fieldSource) {
+    fieldSource.setType(field.type()).setName(field.name());
+    fieldSource.setVisibility(toVisibility(field.modifiers()));
+    fieldSource.setStatic(field.modifiers().contains(Modifier.STATIC));
+    fieldSource.setFinal(field.modifiers().contains(Modifier.FINAL));
+    if (field.initializer() != null) {
+      fieldSource.setLiteralInitializer(field.initializer());
+    }
+    renderAnnotations(field.annotations(), fieldSource);
+  }
+
+  private static void renderMethod(MethodModel method, MethodSource<JavaClassSource> methodSource) {
+    if (method.isConstructor()) {
+      methodSource.setConstructor(true);
+    } else {
+      methodSource.setName(method.getName());
+      methodSource.setReturnType(method.getReturnType());
+    }
+    methodSource.setVisibility(toVisibility(method.getModifiers()));
+    methodSource.setStatic(method.getModifiers().contains(Modifier.STATIC));
+    method.getParameters().forEach(param -> methodSource.addParameter(param.type(), param.name()));
+    method.getThrownTypes().forEach(methodSource::addThrows);
+    if (method.getBody() != null) {
+      methodSource.setBody(method.getBody());
+    }
+    if (method.getJavadoc() != null) {
+      methodSource.getJavaDoc().setFullText(method.getJavadoc());
+    }
+    renderAnnotations(method.getAnnotations(), methodSource);
+  }
+
+  private static void renderAnnotations(
+      List<AnnotationModel> annotations, AnnotationTargetSource<JavaClassSource, ?> target) {
+    for (AnnotationModel annotation : annotations) {
+      AnnotationSource<JavaClassSource> annotationSource = target.addAnnotation(annotation.type());
+      for (Map.Entry<String, AnnotationModel.Value> value : annotation.values().entrySet()) {
+        if (value.getValue().string()) {
+          annotationSource.setStringValue(value.getKey(), value.getValue().literal());
+        } else {
+          annotationSource.setLiteralValue(value.getKey(), value.getValue().literal());
+        }
+      }
+    }
+  }
+
+  private static Visibility toVisibility(Set<Modifier> modifiers) {
+    if (modifiers.contains(Modifier.PUBLIC)) {
+      return Visibility.PUBLIC;
+    } else if (modifiers.contains(Modifier.PROTECTED)) {
+      return Visibility.PROTECTED;
+    } else if (modifiers.contains(Modifier.PRIVATE)) {
+      return Visibility.PRIVATE;
+    }
+    return Visibility.PACKAGE_PRIVATE;
+  }
+}
@@ -0,0 +1,235 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import static io.github.oguzdem.openapi.generator.utils.JavaLiteralUtils.toStringLiteral;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Renders {@link ClassModel}s directly into Java source text. Unlike {@link RoasterRenderer}, no
+ * syntax tree is built and no formatter runs, so a class is written in a single pass over its
+ * model.
+ *
+ * <p>The text has the same declarations in the same order as the source rendered by Roaster, and
+ * string values of annotations are escaped the same way. Only the whitespace differs, for example
+ * long lines are not wrapped. Records, which Roaster does not render, are written with their
+ * components on the line of their name.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class TemplateRenderer {
+  private static final String INDENT = "\t";
+  // Modifiers in the order Roaster writes them
+  private static final List<Modifier> MODIFIER_ORDER =
+      List.of(
+          Modifier.PUBLIC, Modifier.PROTECTED, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+
+  private TemplateRenderer() {}
+
+  /**
+   * Renders the given class model as a public top level class or record.
+   *
+   * @param classModel the class model to render
+   * @param packageName the package of the class, null for the default package
+   * @param interfaces the simple names of the interfaces the class implements
+   * @return the source text of the class
+   */
+  public static String render(ClassModel classModel, String packageName, List<String> interfaces) {
+    StringBuilder source = new StringBuilder(1024);
+    if (StringUtils.isNotBlank(packageName)) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    if (!classModel.getImports().isEmpty()) {
+      for (String importName : classModel.getImports()) {
+        source.append("import ").append(importName).append(";\n");
+      }
+      source.append('\n');
+    }
+    renderJavadoc(classModel.getJavadoc(), "", source);
+    renderType(classModel, interfaces, "", source);
+    return source.toString();
+  }
+
+  private static void renderJavadoc(String javadoc, String indent, StringBuilder source) {
+    if (StringUtils.isBlank(javadoc)) {
+      return;
+    }
+    source.append(indent).append("/**\n");
+    for (String line : javadoc.split("\\R", -1)) {
+      source.append(indent).append(" * ").append(line).append('\n');
+    }
+    source.append(indent).append(" */\n");
+  }
+
+  private static void renderType(
+      ClassModel classModel, List<String> interfaces, String indent, StringBuilder source) {
+    renderAnnotations(classModel.getAnnotations(), indent, source);
+    source.append(indent).append("public ");
+    List<FieldModel> fields = classModel.getFields();
+    if (classModel.isRecord()) {
+      // The instance fields are the components, so only the static fields are left in the body
+      source.append("record ").append(classModel.getName()).append('(');
+      List<FieldModel> components =
+          fields.stream().filter(field -> !field.modifiers().contains(Modifier.STATIC)).toList();
+      for (int i = 0; i < components.size(); i++) {
+        if (i > 0) {
+          source.append(", ");
+        }
+        for (AnnotationModel annotation : components.get(i).annotations()) {
+          renderAnnotation(annotation, source);
+          source.append(' ');
+        }
+        source.append(components.get(i).type()).append(' ').append(components.get(i).name());
+      }
+      source.append(')');
+      fields =
+          fields.stream().filter(field -> field.modifiers().contains(Modifier.STATIC)).toList();
+    } else {
+      if (classModel.isStatic()) {
+        source.append("static ");
+      }
+      source.append("class ").append(classModel.getName());
+      if (StringUtils.isNotBlank(classModel.getSuperType())) {
+        source.append(" extends ").append(classModel.getSuperType());
+      }
+    }
+    if (!interfaces.isEmpty()) {
+      source.append(" implements ").append(String.join(", ", interfaces));
+    }
+    source.append(" {\n");
+    if (!fields.isEmpty()) {
+      source.append('\n');
+    }
+    String memberIndent = indent + INDENT;
+    for (FieldModel field : fields) {
+      renderField(field, memberIndent, source);
+    }
+    for (MemberModel member : classModel.getMembers()) {
+      source.append('\n');
+      if (member instanceof MethodModel method) {
+        renderMethod(method, classModel.isRecord() && method.isConstructor(), memberIndent, source);
+      } else if (member instanceof ClassModel nestedType) {
+        renderJavadoc(nestedType.getJavadoc(), memberIndent, source);
+        renderType(nestedType, List.of(), memberIndent, source);
+        source.append('\n');
+      }
+    }
+    source.append(indent).append('}');
+  }
+
+  private static void renderField(FieldModel field, String indent, StringBuilder source) {
+    renderAnnotations(field.annotations(), indent, source);
+    source.append(indent);
+    renderModifiers(field.modifiers(), source);
+    source.append(field.type()).append(' ').append(field.name());
+    if (field.initializer() != null) {
+      source.append(" = ").append(field.initializer());
+    }
+    source.append(";\n");
+  }
+
+  private static void renderMethod(
+      MethodModel method, boolean compact, String indent, StringBuilder source) {
+    renderJavadoc(method.getJavadoc(), indent, source);
+    renderAnnotations(method.getAnnotations(), indent, source);
+    source.append(indent);
+    renderModifiers(method.getModifiers(), source);
+    if (!method.isConstructor()) {
+      source.append(method.getReturnType()).append(' ');
+    }
+    source.append(method.getName());
+    // A compact constructor takes the components of the record implicitly
+    if (!compact) {
+      source.append('(');
+      List<ParameterModel> parameters = method.getParameters();
+      for (int i = 0; i < parameters.size(); i++) {
+        if (i > 0) {
+          source.append(", ");
+        }
+        source.append(parameters.get(i).type()).append(' ').append(parameters.get(i).name());
+      }
+      source.append(')');
+    }
+    if (!method.getThrownTypes().isEmpty()) {
+      source.append(" throws ").append(String.join(", ", method.getThrownTypes()));
+    }
+    source.append(" {\n");
+    if (method.getBody() != null) {
+      for (String statement : toStatements(method.getBody())) {
+        source.append(indent).append(INDENT).append(statement).append('\n');
+      }
+    }
+    source.append(indent).append("}\n");
+  }
+
+  private static void renderModifiers(Set<Modifier> modifiers, StringBuilder source) {
+    for (Modifier modifier : MODIFIER_ORDER) {
+      if (modifiers.contains(modifier)) {
+        source.append(modifier).append(' ');
+      }
+    }
+  }
+
+  private static void renderAnnotations(
+      List<AnnotationModel> annotations, String indent, StringBuilder source) {
+    for (AnnotationModel annotation : annotations) {
+      source.append(indent);
+      renderAnnotation(annotation, source);
+      source.append('\n');
+    }
+  }
+
+  private static void renderAnnotation(AnnotationModel annotation, StringBuilder source) {
+    source.append('@').append(annotation.type());
+    Map<String, AnnotationModel.Value> values = annotation.values();
+    if (values.size() == 1 && values.containsKey(AnnotationModel.DEFAULT_MEMBER)) {
+      source.append('(').append(toSource(values.get(AnnotationModel.DEFAULT_MEMBER))).append(')');
+    } else if (!values.isEmpty()) {
+      source.append('(');
+      boolean first = true;
+      for (Map.Entry<String, AnnotationModel.Value> value : values.entrySet()) {
+        if (!first) {
+          source.append(", ");
+        }
+        source.append(value.getKey()).append(" = ").append(toSource(value.getValue()));
+        first = false;
+      }
+      source.append(')');
+    }
+  }
+
+  private static String toSource(AnnotationModel.Value value) {
+    return value.string() ? toStringLiteral(value.literal()) : value.literal();
+  }
+
+  // The field generators write a method body as statements that follow each other on one line, so
+  // the body is split at the semicolons that are not in a string or character literal.
+  private static List<String> toStatements(String body) {
+    List<String> statements = new ArrayList<>();
+    int start = 0;
+    char quote = 0;
+    for (int i = 0; i < body.length(); i++) {
+      char c = body.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == ';') {
+        statements.add(body.substring(start, i + 1).strip());
+        start = i + 1;
+      }
+    }
+    if (StringUtils.isNotBlank(body.substring(start))) {
+      statements.add(body.substring(start).strip());
+    }
+    return statements;
+  }
+}
@@ -6,27 +6,29 @@ import static io.swagger.v3.parser.util.SchemaTypeUtil.STRING_TYPE;
 import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
-import io.github.oguzdem.openapi.generator.PojoGenerator;
+import io.github.oguzdem.openapi.generator.FlattenedSchema;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.RefIndex;
 import io.github.oguzdem.openapi.generator.TypeGenerator;
 import io.github.oguzdem.openapi.generator.bean.FieldGeneratorFactory;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import lombok.Data;
 import lombok.NonNull;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.InterfaceCapableSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
-import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
 import org.jboss.forge.roaster.model.source.PropertySource;
 
@@ -129,139 +131,74 @@ public class JavaClassSourceUtils {
   }
 
   /**
-   * Fills the properties of the java class source with the schema.
+   * Fills the properties of the class model with the schema.
    *
-   * @param javaClass java class source
+   * @param context generation context
+   * @param classModel class model
    * @param schema schema
    * @param components openapi components object
    */
   public static void fillJavaClassSourceBySchema(
-      JavaSource<?> javaClass, Schema<?> schema, Components components) {
-    fillJavaClassSourceBySchema(javaClass, javaClass, schema, components);
+      GenerationContext context, ClassModel classModel, Schema<?> schema, Components components) {
+    fillJavaClassSourceBySchema(context, classModel, classModel, schema, components);
   }
 
   /**
-   * Fills the properties of the java class source with the schema.
+   * Fills the properties of the class model with the schema. The allOf and anyOf schemas are merged
+   * into the class through the {@link FlattenedSchema} of the schema, which is resolved once per
+   * generation context. The class is made a record if the record models are enabled, a mutable
+   * Lombok data class if the pooled models are enabled, and a Lombok value class otherwise.
    *
-   * @param rootClassSource root class source
-   * @param javaClass java class source
+   * @param context generation context
+   * @param rootClassModel root class model
+   * @param classModel class model
    * @param schema schema
    * @param components components
    */
   public static void fillJavaClassSourceBySchema(
-      @NonNull JavaSource<?> rootClassSource,
-      @NonNull JavaSource<?> javaClass,
+      @NonNull GenerationContext context,
+      @NonNull ClassModel rootClassModel,
+      @NonNull ClassModel classModel,
       @NonNull Schema<?> schema,
       @NonNull Components components) {
 
-    if (!javaClass.hasAnnotation(Value.class)) {
-      javaClass.addAnnotation(Value.class);
-    }
-
-    if (Objects.nonNull(schema.getProperties())) {
-      schema
-          .getProperties()
-          .forEach(
-              (propertyName, propertySchema) -> {
-                FieldGeneratorFactory.factory()
-                    .schema(propertySchema)
-                    .name(NameUtils.toJavaFieldNameFormat(propertyName))
-                    .rootClassSource((JavaClassSource) rootClassSource)
-                    .javaClassSource((JavaClassSource) javaClass)
-                    .isRequired(
-                        schema.getRequired() != null && schema.getRequired().contains(propertyName))
-                    .components(components)
-                    .build()
-                    .generateField();
-              });
-    }
-
-    fillJavaSourceForAllOf(rootClassSource, javaClass, schema, components);
-    fillJavaSourceForAnyOf(rootClassSource, javaClass, schema, components);
-    fillJavaSourceForOneOf(javaClass, schema, components);
-
-    FieldGeneratorFactory.factory()
-        .schema(schema)
-        .rootClassSource((JavaClassSource) rootClassSource)
-        .javaClassSource((JavaClassSource) javaClass)
-        .components(components)
-        .buildAdditionalPropertiesGenerator()
-        .generateField();
-  }
-
-  /**
-   * Fills the properties of the java class source with the allOf schemas. If the schema is an allOf
-   * schema, it creates a class and adds the allOf schemas as its properties. It also adds the
-   * JsonSubTypes annotation to the class.
-   *
-   * @param rootClassSource root class source
-   * @param javaClass java class source
-   * @param schema schema
-   * @param components components
-   */
-  private static void fillJavaSourceForAllOf(
-      JavaSource<?> rootClassSource,
-      JavaSource<?> javaClass,
-      Schema<?> schema,
-      Components components) {
-    if (ObjectUtils.isNotEmpty(schema.getAllOf())) {
-      schema
-          .getAllOf()
-          .forEach(
-              allOfSchema -> {
-                if (isRef(allOfSchema)) {
-                  if (Objects.nonNull(components.getSchemas())) {
-                    String refName =
-                        StringUtils.removeStart(
-                            allOfSchema.get$ref(), Components.COMPONENTS_SCHEMAS_REF);
-                    if (Objects.nonNull(components.getSchemas().get(refName))) {
-                      Schema<?> referencedSchema = components.getSchemas().get(refName);
-                      fillJavaClassSourceBySchema(
-                          rootClassSource, javaClass, referencedSchema, components);
-                    }
-                  }
-                } else {
-                  fillJavaClassSourceBySchema(rootClassSource, javaClass, allOfSchema, components);
-                }
-              });
+    if (context.getConfig().isRecordModelsEnabled()) {
+      classModel.setRecord(true);
+    } else if (context.getConfig().isPooledModelsEnabled()) {
+      if (!classModel.hasAnnotation(Data.class)) {
+        classModel.addAnnotation(Data.class);
+      }
+    } else if (!classModel.hasAnnotation(Value.class)) {
+      classModel.addAnnotation(Value.class);
     }
-  }
 
-  /**
-   * AnyOf behaviour is the same as {@link #fillJavaSourceForAllOf(JavaSource, JavaSource, Schema,
-   * Components)} because of the java Pojo and jackson limitations.
-   *
-   * @param rootClassSource root class source
-   * @param javaClass java class source
-   * @param schema schema
-   * @param components components
-   */
-  private static void fillJavaSourceForAnyOf(
-      JavaSource<?> rootClassSource,
-      JavaSource<?> javaClass,
-      Schema<?> schema,
-      Components components) {
-
-    if (ObjectUtils.isNotEmpty(schema.getAnyOf())) {
-      schema
-          .getAnyOf()
-          .forEach(
-              allOfSchema -> {
-                if (isRef(allOfSchema)) {
-                  if (Objects.nonNull(components.getSchemas())) {
-                    String refName =
-                        StringUtils.removeStart(
-                            allOfSchema.get$ref(), Components.COMPONENTS_SCHEMAS_REF);
-                    if (Objects.nonNull(components.getSchemas().get(refName))) {
-                      Schema<?> referencedSchema = components.getSchemas().get(refName);
-                      fillJavaClassSourceBySchema(
-                          rootClassSource, javaClass, referencedSchema, components);
-                    }
-                  }
-                } else {
-                  fillJavaClassSourceBySchema(rootClassSource, javaClass, allOfSchema, components);
-                }
-              });
+    FlattenedSchema flattenedSchema = FlattenedSchema.of(context, schema, components);
+    for (FlattenedSchema.Member member : flattenedSchema.members()) {
+      switch (member.kind()) {
+        case PROPERTY ->
+            FieldGeneratorFactory.factory()
+                .schema(member.schema())
+                .name(NameUtils.toJavaFieldNameFormat(member.name()))
+                .rootClassModel(rootClassModel)
+                .classModel(classModel)
+                .isRequired(member.required())
+                .components(components)
+                .context(context)
+                .build()
+                .generateField();
+        case ONE_OF ->
+            fillJavaSourceForOneOf(context, classModel.getName(), member.schema(), components);
+        case ADDITIONAL_PROPERTIES ->
+            FieldGeneratorFactory.factory()
+                .schema(member.schema())
+                .rootClassModel(rootClassModel)
+                .classModel(classModel)
+                .components(components)
+                .context(context)
+                .buildAdditionalPropertiesGenerator()
+                .generateField();
+        default -> throw new IllegalStateException("Unknown member kind: " + member.kind());
+      }
     }
   }
 
@@ -270,55 +207,48 @@ public class JavaClassSourceUtils {
    * interface and adds the oneOf schemas as its subtypes. It also adds the JsonSubTypes annotation
    * to the interface.
    *
-   * @param javaClass java class source
+   * @param context generation context
+   * @param name name of the class or interface the schema belongs to
    * @param schema schema
    * @param components components
    */
   private static void fillJavaSourceForOneOf(
-      JavaSource<?> javaClass, Schema<?> schema, Components components) {
+      GenerationContext context, String name, Schema<?> schema, Components components) {
 
     if (ObjectUtils.isNotEmpty(schema.getOneOf())) {
-      JavaSource<?> javasource = Roaster.create(JavaInterfaceSource.class);
-      javasource.setName(javaClass.getName());
-      String interfaceName =
-          TypeGenerator.getOrGenerateType(javaClass.getName(), schema, components);
+      String interfaceName = TypeGenerator.getOrGenerateType(context, name, schema, components);
       List<String> oneOfList = new ArrayList<>();
       schema
           .getOneOf()
           .forEach(
               oneOfSchema -> {
                 if (isRef(oneOfSchema)) {
-                  if (Objects.nonNull(components.getSchemas())) {
-                    String refName =
-                        StringUtils.removeStart(
-                            oneOfSchema.get$ref(), Components.COMPONENTS_SCHEMAS_REF);
-                    if (!isArray(components.getSchemas().get(refName))) {
-                      String typeName =
-                          TypeGenerator.getOrGenerateType(refName, oneOfSchema, components);
-                      oneOfList.add(typeName);
-                      InterfaceCapableSource<?> oneOfJavaClass =
-                          (InterfaceCapableSource<?>) PojoGenerator.getJavaSource(typeName);
-                      if (Objects.nonNull(oneOfJavaClass)) {
-                        oneOfJavaClass.addInterface(interfaceName);
-                      }
+                  RefIndex.ResolvedRef ref = RefIndex.of(components).resolve(oneOfSchema.get$ref());
+                  if (!isArray(ref.schema())) {
+                    String typeName =
+                        TypeGenerator.getOrGenerateType(
+                            context, ref.name(), ref.schema(), components);
+                    oneOfList.add(typeName);
+                    InterfaceCapableSource<?> oneOfJavaClass =
+                        (InterfaceCapableSource<?>) context.getJavaSource(typeName);
+                    if (Objects.nonNull(oneOfJavaClass)) {
+                      oneOfJavaClass.addInterface(interfaceName);
                     }
                   }
                 } else if (StringUtils.isNotBlank(oneOfSchema.getTitle())) {
                   String typeName =
                       TypeGenerator.getOrGenerateType(
-                          javaClass.getName() + "_" + oneOfSchema.getTitle(),
-                          oneOfSchema,
-                          components);
+                          context, name + "_" + oneOfSchema.getTitle(), oneOfSchema, components);
                   oneOfList.add(typeName);
                   InterfaceCapableSource<?> oneOfJavaClass =
-                      (InterfaceCapableSource<?>) PojoGenerator.getJavaSource(typeName);
+                      (InterfaceCapableSource<?>) context.getJavaSource(typeName);
                   if (Objects.nonNull(oneOfJavaClass)) {
                     oneOfJavaClass.addInterface(interfaceName);
                   }
                 }
               });
       JavaInterfaceSource interfaceSource =
-          (JavaInterfaceSource) PojoGenerator.getJavaSource(interfaceName);
+          (JavaInterfaceSource) context.getJavaSource(interfaceName);
       if (!interfaceSource.hasAnnotation(JsonSubTypes.class)) {
         interfaceSource.addAnnotation(JsonSubTypes.class);
       }
@@ -338,13 +268,17 @@ public class JavaClassSourceUtils {
    * interface and adds the oneOf schemas as its subtypes. It also adds the JsonSubTypes annotation
    * to the interface.
    *
+   * @param context generation context
    * @param javaInterface java interface source
    * @param schema schema
    * @param components components
    */
   public static void fillInterfaceSourceBySchema(
-      JavaInterfaceSource javaInterface, Schema<?> schema, Components components) {
-    fillJavaSourceForOneOf(javaInterface, schema, components);
+      GenerationContext context,
+      JavaInterfaceSource javaInterface,
+      Schema<?> schema,
+      Components components) {
+    fillJavaSourceForOneOf(context, javaInterface.getName(), schema, components);
   }
 
   /**
@@ -0,0 +1,41 @@
+package io.github.oguzdem.openapi.generator.utils;
+
+/**
+ * Utility class for writing values into Java source as literals.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class JavaLiteralUtils {
+
+  private JavaLiteralUtils() {}
+
+  /**
+   * Escapes the given string into a Java string literal the way Roaster does for annotation values.
+   *
+   * @param value the unquoted string
+   * @return the quoted and escaped string literal
+   */
+  public static String toStringLiteral(String value) {
+    StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\b' -> literal.append("\\b");
+        case '\t' -> literal.append("\\t");
+        case '\n' -> literal.append("\\n");
+        case '\f' -> literal.append("\\f");
+        case '\r' -> literal.append("\\r");
+        case '"' -> literal.append("\\\"");
+        case '\\' -> literal.append("\\\\");
+        default -> {
+          if (c < 8) {
+            literal.append('\\').append((int) c);
+          } else {
+            literal.append(c);
+          }
+        }
+      }
+    }
+    return literal.append('"').toString();
+  }
+}
@@ -0,0 +1,191 @@
+package io.github.oguzdem.openapi.generator.utils;
+
+import com.google.common.base.CaseFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Single pass name converters behind {@link NameUtils}. A name is converted by scanning its
+ * characters once into a {@link StringBuilder}. Names with non-ASCII characters fall back to the
+ * regular expression based conversion with precompiled patterns, as upper casing and matching of
+ * those characters depend on the code points rather than single chars.
+ *
+ * @author Oguz Demirbasci
+ */
+final class NameConverter {
+
+  private static final Pattern LOWER_UPPER = Pattern.compile("([a-z])([A-Z])");
+  private static final Pattern UPPER_UPPER_LOWER = Pattern.compile("([A-Z])([A-Z][a-z])");
+  private static final Pattern NON_ENUM_CHARS = Pattern.compile("[^A-Z0-9$_]");
+  private static final Pattern NON_FIELD_CHARS = Pattern.compile("[^a-zA-Z0-9_$]");
+  private static final Pattern LEADING_DIGITS = Pattern.compile("^(?:_+(\\d+)|(\\d+))");
+  private static final Pattern LEADING_UNDERSCORES = Pattern.compile("^_+");
+  private static final Pattern REPEATING_UNDERSCORES = Pattern.compile("_+");
+
+  private NameConverter() {}
+
+  static String toEnumValue(String input) {
+    if (!isAscii(input)) {
+      return toEnumValueByPatterns(input);
+    }
+    StringBuilder out = new StringBuilder(input.length() + 8);
+    for (int i = 0; i < input.length(); i++) {
+      char c = input.charAt(i);
+      if (isWordBoundary(input, i)) {
+        appendUnderscore(out);
+      }
+      if (isLower(c)) {
+        out.append((char) (c - ('a' - 'A')));
+      } else if (isUpper(c) || isDigit(c) || c == '$') {
+        out.append(c);
+      } else {
+        appendUnderscore(out);
+      }
+    }
+    if (!out.isEmpty() && isDigit(out.charAt(0))) {
+      out.insert(0, '$');
+    }
+    return out.toString();
+  }
+
+  static String toJavaFieldName(String input) {
+    if (!isAscii(input)) {
+      return toJavaFieldNameByPatterns(input);
+    }
+    StringBuilder sanitized = new StringBuilder(input.length() + 8);
+    for (int i = 0; i < input.length(); i++) {
+      char c = input.charAt(i);
+      if (isWordBoundary(input, i)) {
+        sanitized.append('_');
+      }
+      sanitized.append(isLetter(c) || isDigit(c) || c == '$' ? c : '_');
+    }
+
+    int start = 0;
+    while (start < sanitized.length() && sanitized.charAt(start) == '_') {
+      start++;
+    }
+    int digitsEnd = start;
+    while (digitsEnd < sanitized.length() && isDigit(sanitized.charAt(digitsEnd))) {
+      digitsEnd++;
+    }
+    boolean hasLeadingDigits = digitsEnd > start;
+    boolean preserveUnderscore = start > 0 && !hasLeadingDigits;
+
+    StringBuilder out = new StringBuilder(sanitized.length() + 2);
+    if (preserveUnderscore) {
+      out.append('_');
+    }
+    if (hasLeadingDigits) {
+      out.append('$');
+    }
+    boolean firstWord = true;
+    boolean wordStart = true;
+    for (int i = start; i < sanitized.length(); i++) {
+      char c = sanitized.charAt(i);
+      if (c == '_') {
+        firstWord = false;
+        wordStart = true;
+      } else if (wordStart && !firstWord) {
+        out.append(toUpper(c));
+        wordStart = false;
+      } else {
+        out.append(toLower(c));
+        wordStart = false;
+      }
+    }
+    if (preserveUnderscore && out.length() > 1) {
+      out.setCharAt(1, toUpper(out.charAt(1)));
+    }
+    return out.toString();
+  }
+
+  static String toJavaTypeName(String fieldName) {
+    int start = fieldName.startsWith("_") ? 1 : 0;
+    if (fieldName.length() <= start) {
+      return fieldName.substring(start);
+    }
+    return toUpper(fieldName.charAt(start)) + fieldName.substring(start + 1);
+  }
+
+  private static String toEnumValueByPatterns(String input) {
+    String camelCaseHandled = splitCamelCase(input);
+    String withUnderscores = NON_ENUM_CHARS.matcher(camelCaseHandled.toUpperCase()).replaceAll("_");
+    if (!withUnderscores.isEmpty() && isDigit(withUnderscores.charAt(0))) {
+      withUnderscores = "$" + withUnderscores;
+    }
+    return REPEATING_UNDERSCORES.matcher(withUnderscores).replaceAll("_");
+  }
+
+  private static String toJavaFieldNameByPatterns(String input) {
+    String sanitized = NON_FIELD_CHARS.matcher(splitCamelCase(input)).replaceAll("_");
+    sanitized = LEADING_DIGITS.matcher(sanitized).replaceFirst("\\$$1$2");
+    boolean preserveUnderscore = !sanitized.isEmpty() && sanitized.charAt(0) == '_';
+    String leadingUnderscoreRemoved = LEADING_UNDERSCORES.matcher(sanitized).replaceFirst("");
+    String camelCased =
+        CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, leadingUnderscoreRemoved);
+    if (!preserveUnderscore) {
+      return camelCased;
+    }
+    return camelCased.isEmpty()
+        ? "_"
+        : "_" + camelCased.substring(0, 1).toUpperCase() + camelCased.substring(1);
+  }
+
+  private static String splitCamelCase(String input) {
+    String lowerUpperSplit = LOWER_UPPER.matcher(input).replaceAll("$1_$2");
+    return UPPER_UPPER_LOWER.matcher(lowerUpperSplit).replaceAll("$1_$2");
+  }
+
+  /**
+   * Checks if a word starts at the given index. A word starts at an upper case letter that follows
+   * a lower case letter, as in <b>fieldName</b>, or at the last upper case letter of an acronym
+   * that is followed by a lower case letter, as in <b>XMLHttpRequest</b>.
+   */
+  private static boolean isWordBoundary(String input, int index) {
+    if (index == 0 || !isUpper(input.charAt(index))) {
+      return false;
+    }
+    char previous = input.charAt(index - 1);
+    return isLower(previous)
+        || isUpper(previous) && index + 1 < input.length() && isLower(input.charAt(index + 1));
+  }
+
+  private static void appendUnderscore(StringBuilder out) {
+    if (out.isEmpty() || out.charAt(out.length() - 1) != '_') {
+      out.append('_');
+    }
+  }
+
+  private static boolean isAscii(String input) {
+    for (int i = 0; i < input.length(); i++) {
+      if (input.charAt(i) > 0x7F) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLetter(char c) {
+    return isLower(c) || isUpper(c);
+  }
+
+  private static boolean isLower(char c) {
+    return c >= 'a' && c <= 'z';
+  }
+
+  private static boolean isUpper(char c) {
+    return c >= 'A' && c <= 'Z';
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static char toUpper(char c) {
+    return isLower(c) ? (char) (c - ('a' - 'A')) : c;
+  }
+
+  private static char toLower(char c) {
+    return isUpper(c) ? (char) (c + ('a' - 'A')) : c;
+  }
+}
@@ -1,12 +1,14 @@
 package io.github.oguzdem.openapi.generator.utils;
 
-import com.google.common.base.CaseFormat;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import joptsimple.internal.Strings;
+import java.util.function.Function;
 import lombok.NonNull;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -20,6 +22,16 @@ public class NameUtils {
 
   private static final String JSON_SUB_TYPE_ANNOTATION_TEMPLATE =
       "@JsonSubTypes.Type(value = %s.class)";
+  private static final long NAME_CACHE_SIZE = 16_384;
+
+  // The same schema and property names are converted many times in a run, so the conversions are
+  // memoized in bounded caches.
+  private static final LoadingCache<String, String> ENUM_VALUE_CACHE =
+      createNameCache(NameConverter::toEnumValue);
+  private static final LoadingCache<String, String> JAVA_FIELD_NAME_CACHE =
+      createNameCache(NameConverter::toJavaFieldName);
+  private static final LoadingCache<String, String> JAVA_TYPE_NAME_CACHE =
+      createNameCache(input -> NameConverter.toJavaTypeName(toJavaFieldNameFormat(input)));
 
   /**
    * Converts the input string to a format that is suitable for enum values. It replaces all
@@ -30,20 +42,7 @@ public class NameUtils {
    * @return the formatted string
    */
   public static String toEnumValueFormat(@NonNull String input) {
-    String camelCaseHandled =
-        input
-            .replaceAll("([a-z])([A-Z])", "$1_$2") // Insert underscore before each uppercase letter
-            .replaceAll("([A-Z])([A-Z][a-z])", "$1_$2"); // Handle cases like "XMLHttpRequest"
-
-    // Convert to uppercase
-    String upperCased = camelCaseHandled.toUpperCase();
-    // Replace all non-alphanumeric characters with underscores
-    String withUnderscores = upperCased.replaceAll("[^A-Z0-9$_]", "_");
-    if (withUnderscores.matches("^[0-9].*+")) {
-      withUnderscores = "$" + withUnderscores;
-    }
-    // Remove repeating underscores
-    return withUnderscores.replaceAll("_+", "_");
+    return ENUM_VALUE_CACHE.getUnchecked(input);
   }
 
   /**
@@ -55,21 +54,7 @@ public class NameUtils {
    * @return the formatted string
    */
   public static String toJavaFieldNameFormat(@NonNull String input) {
-    // Insert underscore before each uppercase letter
-    String camelCaseHandled =
-        input.replaceAll("([a-z])([A-Z])", "$1_$2").replaceAll("([A-Z])([A-Z][a-z])", "$1_$2");
-    // Replace non-alphanumeric or $ characters with underscore
-    String sanitized = camelCaseHandled.replaceAll("[^a-zA-Z0-9_$]", "_");
-    // Add $ prefix to leading digits or leading digits followed by _
-    sanitized = sanitized.replaceAll("^(?:_+(\\d+)|(\\d+))", "\\$$1$2");
-    String preservedFirstChar =
-        !sanitized.isEmpty() && sanitized.charAt(0) == '_' ? "_" : Strings.EMPTY;
-    String leadingUnderscoreRemoved = sanitized.replaceFirst("^_+", "");
-    String camelCased =
-        CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, leadingUnderscoreRemoved);
-    return StringUtils.isNotBlank(preservedFirstChar)
-        ? preservedFirstChar + camelCased.substring(0, 1).toUpperCase() + camelCased.substring(1)
-        : camelCased;
+    return JAVA_FIELD_NAME_CACHE.getUnchecked(input);
   }
 
   /**
@@ -81,17 +66,13 @@ public class NameUtils {
    * @return the formatted string
    */
   public static String toJavaTypeNameFormat(@NonNull String input) {
-    String fieldNameFormatted = toJavaFieldNameFormat(input);
+    return JAVA_TYPE_NAME_CACHE.getUnchecked(input);
+  }
 
-    if (StringUtils.isBlank(fieldNameFormatted)) {
-      return fieldNameFormatted;
-    }
-    if (fieldNameFormatted.startsWith("_")) {
-      fieldNameFormatted = fieldNameFormatted.substring(1);
-    }
-    return StringUtils.isNotBlank(fieldNameFormatted)
-        ? fieldNameFormatted.substring(0, 1).toUpperCase() + fieldNameFormatted.substring(1)
-        : fieldNameFormatted;
+  private static LoadingCache<String, String> createNameCache(Function<String, String> converter) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(NAME_CACHE_SIZE)
+        .build(CacheLoader.from(converter::apply));
   }
 
   public static String toJsonSubTypesList(List<String> subTypes, String existingSubTypesVal) {
@@ -0,0 +1,137 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class BatchModelGeneratorTest {
+
+  private static final String PACKAGE_NAME = "io.github.oguzdem.openapi.batch";
+  private static final String SHARED_SCHEMAS =
+      """
+          Error:
+            type: object
+            properties:
+              message:
+                type: string
+          Money:
+            type: object
+            properties:
+              amount:
+                type: number
+              currency:
+                type: string
+      """;
+
+  @TempDir Path workDirectory;
+
+  @Test
+  void sharedSchemasAreGeneratedOnceTest() throws IOException {
+    Path petSpec =
+        writeSpec(
+            "pet-service.yaml",
+            """
+                Pet:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                    price:
+                      $ref: '#/components/schemas/Money'
+                Order:
+                  type: object
+                  properties:
+                    id:
+                      type: integer
+            """);
+    Path invoiceSpec =
+        writeSpec(
+            "invoice-service.yaml",
+            """
+                Invoice:
+                  type: object
+                  properties:
+                    total:
+                      $ref: '#/components/schemas/Money'
+                Order:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+            """);
+    Path outputPath = workDirectory.resolve("generated");
+    Properties properties = new Properties();
+    properties.setProperty(Config.PACKAGE_NAME, PACKAGE_NAME);
+    properties.setProperty(Config.OUTPUT_PATH, outputPath.toString());
+    Config config = Config.load(properties);
+
+    BatchModelGenerator.generate(List.of(petSpec.toString(), invoiceSpec.toString()), config);
+
+    Path packagePath = outputPath.resolve(PACKAGE_NAME.replace(".", "/"));
+    assertEquals(Set.of("Error.java", "Money.java"), list(packagePath.resolve("common")));
+    assertEquals(Set.of("Order.java", "Pet.java"), list(packagePath.resolve("petservice")));
+    assertEquals(Set.of("Invoice.java", "Order.java"), list(packagePath.resolve("invoiceservice")));
+    assertTrue(
+        Files.readString(packagePath.resolve("petservice/Pet.java"))
+            .contains(PACKAGE_NAME + ".common.Money"));
+  }
+
+  @Test
+  void specificationIsNotGeneratedIntoSharedPackageTest() throws IOException {
+    String petSchema =
+        """
+            Pet:
+              type: object
+              properties:
+                name:
+                  type: string
+        """;
+    Path commonSpec = writeSpec("common.yaml", petSchema);
+    Path petSpec = writeSpec("pet-service.yaml", "");
+    Path outputPath = workDirectory.resolve("generated");
+    Properties properties = new Properties();
+    properties.setProperty(Config.PACKAGE_NAME, PACKAGE_NAME);
+    properties.setProperty(Config.OUTPUT_PATH, outputPath.toString());
+    Config config = Config.load(properties);
+
+    BatchModelGenerator.generate(List.of(commonSpec.toString(), petSpec.toString()), config);
+
+    Path packagePath = outputPath.resolve(PACKAGE_NAME.replace(".", "/"));
+    assertEquals(Set.of("Error.java", "Money.java"), list(packagePath.resolve("common")));
+    assertEquals(Set.of("Pet.java"), list(packagePath.resolve("common2")));
+  }
+
+  private Path writeSpec(String fileName, String schemas) throws IOException {
+    return Files.writeString(
+        workDirectory.resolve(fileName),
+        """
+        openapi: 3.0.0
+        info:
+          title: %s
+          version: 1.0.0
+        paths: {}
+        components:
+          schemas:
+        %s%s"""
+            .formatted(fileName, SHARED_SCHEMAS, schemas));
+  }
+
+  private static Set<String> list(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class FlattenedSchemaTest {
+
+  @Test
+  void flattenAllOfAndAnyOfTest() {
+    Schema<?> base =
+        new ObjectSchema().addProperty("id", new IntegerSchema()).addRequiredItem("id");
+    Schema<?> named = new ObjectSchema().addProperty("name", new StringSchema());
+    Components components = new Components().addSchemas("Base", base);
+    Schema<?> pet =
+        new ComposedSchema()
+            .addAllOfItem(new Schema<>().$ref(Components.COMPONENTS_SCHEMAS_REF + "Base"))
+            .addAnyOfItem(named)
+            .addAnyOfItem(new ObjectSchema().addProperty("id", new StringSchema()))
+            .addProperty("tag", new StringSchema());
+    pet.setAdditionalProperties(true);
+    GenerationContext context = new GenerationContext(Config.defaults());
+
+    FlattenedSchema flattened = FlattenedSchema.of(context, pet, components);
+
+    List<FlattenedSchema.Member> members = flattened.members();
+    assertEquals(4, members.size());
+    assertEquals("tag", members.get(0).name());
+    assertEquals("id", members.get(1).name());
+    assertTrue(members.get(1).required());
+    assertTrue(members.get(1).schema() instanceof IntegerSchema);
+    assertEquals("name", members.get(2).name());
+    assertFalse(members.get(2).required());
+    assertEquals(FlattenedSchema.Kind.ADDITIONAL_PROPERTIES, members.get(3).kind());
+    assertSame(flattened, FlattenedSchema.of(context, pet, components));
+    assertSame(
+        FlattenedSchema.of(context, base, components),
+        FlattenedSchema.of(context, base, components));
+  }
+
+  @Test
+  void flattenCyclicAllOfTest() {
+    Schema<?> node =
+        new ComposedSchema()
+            .addAllOfItem(new Schema<>().$ref(Components.COMPONENTS_SCHEMAS_REF + "Node"))
+            .addProperty("value", new StringSchema());
+    Components components = new Components().addSchemas("Node", node);
+
+    FlattenedSchema flattened =
+        FlattenedSchema.of(new GenerationContext(Config.defaults()), node, components);
+
+    assertEquals(1, flattened.members().size());
+    assertEquals("value", flattened.members().get(0).name());
+  }
+
+  @Test
+  void flattenMutualAllOfTest() {
+    Schema<?> first =
+        new ComposedSchema()
+            .addAllOfItem(new Schema<>().$ref(Components.COMPONENTS_SCHEMAS_REF + "B"))
+            .addProperty("a", new StringSchema());
+    Schema<?> second =
+        new ComposedSchema()
+            .addAllOfItem(new Schema<>().$ref(Components.COMPONENTS_SCHEMAS_REF + "A"))
+            .addProperty("b", new StringSchema());
+    Components components = new Components().addSchemas("A", first).addSchemas("B", second);
+    GenerationContext context = new GenerationContext(Config.defaults());
+
+    FlattenedSchema flattenedFirst = FlattenedSchema.of(context, first, components);
+    // B is flattened without A while A is in progress, which must not be cached as B
+    FlattenedSchema flattenedSecond = FlattenedSchema.of(context, second, components);
+
+    assertEquals(
+        List.of("a", "b"),
+        flattenedFirst.members().stream().map(FlattenedSchema.Member::name).toList());
+    assertEquals(
+        List.of("b", "a"),
+        flattenedSecond.members().stream().map(FlattenedSchema.Member::name).toList());
+    assertSame(flattenedFirst, FlattenedSchema.of(context, first, components));
+    assertSame(flattenedSecond, FlattenedSchema.of(context, second, components));
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.swagger.v3.oas.models.Components;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates the models of the given components into a directory and compiles them with the system
+ * Java compiler, so the tests use the generated classes the way a consumer does.
+ *
+ * @author Oguz Demirbasci
+ */
+final class GeneratedSources {
+
+  /** Package of the generated classes. */
+  static final String PACKAGE_NAME = "io.github.oguzdem.openapi.compiled";
+
+  private GeneratedSources() {}
+
+  /**
+   * Generates and compiles the models of the given components.
+   *
+   * @param properties the properties of the configuration, without the package and output path
+   * @param components the components to generate the models of
+   * @param directory the directory to write the sources and classes into
+   * @return the class loader of the compiled classes, which the caller closes
+   * @throws IOException if the sources cannot be read or the classes cannot be written
+   */
+  static URLClassLoader compile(Properties properties, Components components, Path directory)
+      throws IOException {
+    Path sourceDirectory = directory.resolve("sources");
+    properties.setProperty(Config.PACKAGE_NAME, PACKAGE_NAME);
+    properties.setProperty(Config.OUTPUT_PATH, sourceDirectory.toString());
+    GenerationContext context = new GenerationContext(Config.load(properties));
+    ModelGenerator.generateComponentTypes(context, components);
+    PojoGenerator.writeJavaSources(context);
+
+    List<Path> sources;
+    try (Stream<Path> files = Files.walk(sourceDirectory)) {
+      sources = files.filter(file -> file.toString().endsWith(".java")).toList();
+    }
+    Path classDirectory = Files.createDirectories(directory.resolve("classes"));
+    // Lombok is on the class path of the tests, so it is found as the annotation processor
+    String classPath = System.getProperty("java.class.path");
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, null)) {
+      boolean compiled =
+          compiler
+              .getTask(
+                  null,
+                  fileManager,
+                  diagnostics,
+                  List.of(
+                      "-d",
+                      classDirectory.toString(),
+                      "-classpath",
+                      classPath,
+                      "-processorpath",
+                      classPath),
+                  null,
+                  fileManager.getJavaFileObjectsFromPaths(sources))
+              .call();
+      assertTrue(compiled, diagnostics.getDiagnostics().toString());
+    }
+    return new URLClassLoader(
+        new URL[] {classDirectory.toUri().toURL()}, GeneratedSources.class.getClassLoader());
+  }
+}
@@ -0,0 +1,118 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.oguzdem.openapi.generator.JavaSourceWriter.WriteOptions;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class IncrementalSchemaGeneratorTest {
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void incrementalGenerationTest() {
+    OpenAPI openapi = new OpenAPI().components(createComponents());
+
+    GenerationContext fullContext = new GenerationContext();
+    ModelGenerator.generateComponentTypes(fullContext, openapi);
+    GenerationContext firstContext = generate(openapi);
+
+    assertEquals(render(fullContext), render(firstContext));
+    assertTrue(firstContext.getRetainedSourceNames().isEmpty());
+
+    GenerationContext unchangedContext = generate(openapi);
+
+    assertTrue(unchangedContext.getJavaSources().isEmpty());
+    assertEquals(Set.of("Pet", "Owner", "Error"), unchangedContext.getRetainedSourceNames());
+
+    openapi.getComponents().getSchemas().get("Error").addProperty("code", new IntegerSchema());
+    GenerationContext changedContext = generate(openapi);
+
+    assertEquals(Set.of("Error"), changedContext.getJavaSources().keySet());
+    assertEquals(Set.of("Pet", "Owner"), changedContext.getRetainedSourceNames());
+  }
+
+  @Test
+  void incrementalGenerationRegeneratesReferrersTest() {
+    OpenAPI openapi = new OpenAPI().components(createComponents());
+    generate(openapi);
+
+    openapi.getComponents().getSchemas().get("Pet").addProperty("name", new StringSchema());
+    GenerationContext petContext = generate(openapi);
+
+    assertEquals(Set.of("Pet"), petContext.getJavaSources().keySet());
+    assertEquals(Set.of("Owner", "Error"), petContext.getRetainedSourceNames());
+
+    openapi.getComponents().getSchemas().get("Owner").addProperty("age", new IntegerSchema());
+    GenerationContext ownerContext = generate(openapi);
+
+    GenerationContext fullContext = new GenerationContext();
+    ModelGenerator.generateComponentTypes(fullContext, openapi);
+    assertEquals(Set.of("Pet", "Owner"), ownerContext.getJavaSources().keySet());
+    assertEquals(Set.of("Error"), ownerContext.getRetainedSourceNames());
+    assertEquals(render(fullContext).get("Pet"), ownerContext.getJavaSource("Pet").toString());
+  }
+
+  @Test
+  void incrementalGenerationDeletesRemovedSchemasTest() {
+    OpenAPI openapi = new OpenAPI().components(createComponents());
+    generate(openapi);
+    assertTrue(Files.exists(outputDirectory.resolve("Error.java")));
+
+    openapi.getComponents().getSchemas().remove("Error");
+    GenerationContext removedContext = generate(openapi);
+
+    assertEquals(Set.of("Pet", "Owner"), removedContext.getRetainedSourceNames());
+    assertFalse(Files.exists(outputDirectory.resolve("Error.java")));
+  }
+
+  private GenerationContext generate(OpenAPI openapi) {
+    GenerationContext context = new GenerationContext();
+    SchemaFingerprintCache cache =
+        IncrementalSchemaGenerator.generate(context, openapi, outputDirectory);
+    JavaSourceWriter.write(
+        context.getJavaSources(),
+        outputDirectory,
+        WriteOptions.builder()
+            .skipUnchanged(true)
+            .retainedNames(context.getRetainedSourceNames())
+            .build());
+    cache.write(outputDirectory);
+    return context;
+  }
+
+  private static Components createComponents() {
+    return new Components()
+        .addSchemas(
+            "Pet",
+            new ObjectSchema()
+                .addProperty(
+                    "owner", new ObjectSchema().$ref(Components.COMPONENTS_SCHEMAS_REF + "Owner")))
+        .addSchemas("Error", new ObjectSchema().addProperty("message", new StringSchema()))
+        .addSchemas("Owner", new ObjectSchema().addProperty("name", new StringSchema()));
+  }
+
+  private static Map<String, String> render(GenerationContext context) {
+    Map<String, String> sources = new TreeMap<>();
+    context
+        .getJavaSources()
+        .forEach((name, javaSource) -> sources.put(name, javaSource.toString()));
+    return sources;
+  }
+}
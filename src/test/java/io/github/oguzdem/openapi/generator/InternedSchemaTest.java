@@ -0,0 +1,53 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class InternedSchemaTest {
+
+  @Test
+  void structurallyEqualSchemasAreInternedTogetherTest() {
+    // The interner is shared by the whole JVM, so the structures are not used by any other test
+    Schema<?> schema = createSchema("internedName");
+    Schema<?> equalSchema = createSchema("internedName");
+    Schema<?> otherSchema = createSchema("internedTitle");
+
+    InternedSchema interned = InternedSchema.of(schema);
+
+    assertSame(interned, InternedSchema.of(schema));
+    assertSame(interned, InternedSchema.of(equalSchema));
+    assertSame(schema, InternedSchema.of(equalSchema).schema());
+    assertNotSame(interned, InternedSchema.of(otherSchema));
+  }
+
+  @Test
+  void structurallyEqualInlineSchemasShareGeneratedTypeTest() {
+    GenerationContext context = new GenerationContext();
+    Components components = new Components();
+
+    String type = TypeGenerator.getOrGenerateType(context, "", createSchema("name"), components);
+    String equalType =
+        TypeGenerator.getOrGenerateType(context, "", createSchema("name"), components);
+
+    assertEquals(type, equalType);
+    assertEquals(1, context.getJavaSources().size());
+  }
+
+  private static Schema<?> createSchema(String propertyName) {
+    return new ObjectSchema()
+        .title("Inline")
+        .addProperty(propertyName, new StringSchema())
+        .addProperty("nested", new ObjectSchema().addProperty("count", new IntegerSchema()));
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class JacksonCodecGeneratorTest {
+
+  private static final String PET_JSON =
+      """
+      {"name": "Rex \\"the\\" dog", "age": 3, "nickname": null, "birthDate": "2020-02-29",
+       "createdAt": "2024-01-02T03:04:05.678Z", "tags": ["a", "b"], "owner": {"name": "Ann"},
+       "previousOwners": [{"name": "Bob"}, {"name": "Eve"}], "collar": {"color": "red"}}""";
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void generatedCodecsRoundTripTest() throws Exception {
+    try (URLClassLoader classLoader = compile()) {
+      Class<?> petClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Pet");
+      ObjectMapper mapper = createMapper(classLoader);
+
+      assertEquals(
+          "PetSerializer",
+          mapper
+              .getSerializerProviderInstance()
+              .findValueSerializer(petClass)
+              .getClass()
+              .getSimpleName());
+      Object pet = mapper.readValue(PET_JSON, petClass);
+      assertEquals(mapper.readTree(PET_JSON), mapper.readTree(mapper.writeValueAsString(pet)));
+      assertEquals(pet, mapper.readValue(mapper.writeValueAsString(pet), petClass));
+    }
+  }
+
+  @Test
+  void generatedCodecsRejectMissingRequiredPropertiesTest() throws Exception {
+    try (URLClassLoader classLoader = compile()) {
+      Class<?> petClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Pet");
+      ObjectMapper mapper = createMapper(classLoader);
+
+      assertThrows(
+          MismatchedInputException.class,
+          () -> mapper.readValue("{\"owner\": {\"name\": \"Ann\"}}", petClass));
+      assertThrows(
+          MismatchedInputException.class,
+          () -> mapper.readValue("{\"name\": null, \"owner\": {\"name\": \"Ann\"}}", petClass));
+      assertThrows(
+          MismatchedInputException.class,
+          () -> mapper.readValue("{\"name\": \"Rex\", \"owner\": {}}", petClass));
+    }
+  }
+
+  private URLClassLoader compile() throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(Config.ENABLE_JACKSON_CODECS, "true");
+    return GeneratedSources.compile(properties, createComponents(), outputDirectory);
+  }
+
+  private static ObjectMapper createMapper(ClassLoader classLoader) throws Exception {
+    Module module =
+        (Module)
+            classLoader
+                .loadClass(GeneratedSources.PACKAGE_NAME + "." + JacksonCodecGenerator.MODULE_NAME)
+                .getConstructor()
+                .newInstance();
+    return new ObjectMapper().registerModule(module);
+  }
+
+  private static Components createComponents() {
+    Schema<?> owner = new ObjectSchema().addProperty("name", new StringSchema());
+    owner.setRequired(List.of("name"));
+    Schema<?> ownerRef = new Schema<>().$ref("#/components/schemas/Owner");
+    Schema<?> pet =
+        new ObjectSchema()
+            .addProperty("name", new StringSchema())
+            .addProperty("age", new IntegerSchema())
+            .addProperty("nickname", new StringSchema())
+            .addProperty("birthDate", new DateSchema())
+            .addProperty("createdAt", new DateTimeSchema())
+            .addProperty("tags", new ArraySchema().items(new StringSchema()))
+            .addProperty("owner", ownerRef)
+            .addProperty("previousOwners", new ArraySchema().items(ownerRef))
+            .addProperty("collar", new ObjectSchema().addProperty("color", new StringSchema()));
+    pet.setRequired(List.of("name", "owner"));
+    return new Components().addSchemas("Owner", owner).addSchemas("Pet", pet);
+  }
+}
@@ -0,0 +1,162 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.oguzdem.openapi.generator.JavaSourceWriter.WriteOptions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class JavaSourceWriterTest {
+  private static final WriteOptions DEFAULT_OPTIONS = WriteOptions.builder().build();
+  private static final WriteOptions SKIP_UNCHANGED_OPTIONS =
+      WriteOptions.builder().skipUnchanged(true).build();
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void writeTest() throws IOException {
+    Map<String, JavaSource<?>> javaSources = new LinkedHashMap<>();
+    javaSources.put("Pet", createClass("Pet"));
+    javaSources.put("Owner", createClass("Owner"));
+
+    JavaSourceWriter.write(javaSources, outputDirectory.resolve("models"), DEFAULT_OPTIONS);
+
+    for (Map.Entry<String, JavaSource<?>> entry : javaSources.entrySet()) {
+      Path file = outputDirectory.resolve("models").resolve(entry.getKey() + ".java");
+      assertEquals(
+          entry.getValue().toString() + System.lineSeparator(),
+          Files.readString(file, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void writeFailuresAreAggregatedTest() throws IOException {
+    Files.createDirectories(outputDirectory.resolve("Pet.java"));
+    Files.createDirectories(outputDirectory.resolve("Owner.java"));
+    Map<String, JavaSource<?>> javaSources = new LinkedHashMap<>();
+    javaSources.put("Pet", createClass("Pet"));
+    javaSources.put("Owner", createClass("Owner"));
+    javaSources.put("Error", createClass("Error"));
+
+    JavaSourceWriteException exception =
+        assertThrows(
+            JavaSourceWriteException.class,
+            () -> JavaSourceWriter.write(javaSources, outputDirectory, DEFAULT_OPTIONS));
+
+    assertEquals(List.of("Owner", "Pet"), List.copyOf(exception.getFailures().keySet()));
+    assertEquals(2, exception.getSuppressed().length);
+    assertTrue(Files.isRegularFile(outputDirectory.resolve("Error.java")));
+  }
+
+  @Test
+  void writeSkipUnchangedTest() throws IOException {
+    Map<String, JavaSource<?>> javaSources = new LinkedHashMap<>();
+    javaSources.put("Pet", createClass("Pet"));
+    javaSources.put("Owner", createClass("Owner"));
+    JavaSourceWriter.write(javaSources, outputDirectory, SKIP_UNCHANGED_OPTIONS);
+
+    FileTime lastModifiedTime = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+    Files.setLastModifiedTime(outputDirectory.resolve("Pet.java"), lastModifiedTime);
+    Files.setLastModifiedTime(outputDirectory.resolve("Owner.java"), lastModifiedTime);
+    JavaClassSource changedOwner = createClass("Owner");
+    changedOwner.addProperty(Integer.class, "age");
+    Map<String, JavaSource<?>> changedJavaSources = new LinkedHashMap<>();
+    changedJavaSources.put("Owner", changedOwner);
+    changedJavaSources.put("Error", createClass("Error"));
+    JavaSourceWriter.write(changedJavaSources, outputDirectory, SKIP_UNCHANGED_OPTIONS);
+
+    assertFalse(Files.exists(outputDirectory.resolve("Pet.java")));
+    assertNotEquals(
+        lastModifiedTime, Files.getLastModifiedTime(outputDirectory.resolve("Owner.java")));
+    assertEquals(
+        changedOwner.toString() + System.lineSeparator(),
+        Files.readString(outputDirectory.resolve("Owner.java"), StandardCharsets.UTF_8));
+    assertTrue(Files.isRegularFile(outputDirectory.resolve("Error.java")));
+
+    Files.setLastModifiedTime(outputDirectory.resolve("Owner.java"), lastModifiedTime);
+    JavaSourceWriter.write(changedJavaSources, outputDirectory, SKIP_UNCHANGED_OPTIONS);
+
+    assertEquals(
+        lastModifiedTime, Files.getLastModifiedTime(outputDirectory.resolve("Owner.java")));
+  }
+
+  @Test
+  void writeEmitterFailuresAreAggregatedTest() {
+    Map<String, JavaSource<?>> javaSources = new LinkedHashMap<>();
+    javaSources.put("Pet", createClass("Pet"));
+    javaSources.put("Owner", createClass("Owner"));
+    WriteOptions options =
+        WriteOptions.builder()
+            .emitter(
+                name -> {
+                  if (name.equals("Pet")) {
+                    throw new IllegalStateException("Pet cannot be emitted");
+                  }
+                  return javaSources.get(name).toString();
+                })
+            .build();
+
+    JavaSourceWriteException exception =
+        assertThrows(
+            JavaSourceWriteException.class,
+            () -> JavaSourceWriter.write(javaSources, outputDirectory, options));
+
+    assertEquals(List.of("Pet"), List.copyOf(exception.getFailures().keySet()));
+    assertTrue(Files.isRegularFile(outputDirectory.resolve("Owner.java")));
+  }
+
+  @Test
+  void writeSkipUnchangedRewritesEditedFileTest() throws IOException {
+    JavaClassSource pet = createClass("Pet");
+    JavaSourceWriter.write(Map.of("Pet", pet), outputDirectory, SKIP_UNCHANGED_OPTIONS);
+    Files.writeString(outputDirectory.resolve("Pet.java"), "// edited", StandardCharsets.UTF_8);
+
+    JavaSourceWriter.write(Map.of("Pet", pet), outputDirectory, SKIP_UNCHANGED_OPTIONS);
+
+    assertEquals(
+        pet.toString() + System.lineSeparator(),
+        Files.readString(outputDirectory.resolve("Pet.java"), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void writeSkipUnchangedWithoutManifestTest() throws IOException {
+    JavaClassSource pet = createClass("Pet");
+    Files.writeString(
+        outputDirectory.resolve("Pet.java"),
+        pet.toString() + System.lineSeparator(),
+        StandardCharsets.UTF_8);
+    FileTime lastModifiedTime = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+    Files.setLastModifiedTime(outputDirectory.resolve("Pet.java"), lastModifiedTime);
+
+    JavaSourceWriter.write(Map.of("Pet", pet), outputDirectory, SKIP_UNCHANGED_OPTIONS);
+
+    assertEquals(lastModifiedTime, Files.getLastModifiedTime(outputDirectory.resolve("Pet.java")));
+    assertTrue(Files.isRegularFile(outputDirectory.resolve(JavaSourceWriter.MANIFEST_FILE_NAME)));
+  }
+
+  private static JavaClassSource createClass(String name) {
+    JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+    javaClass.setPackage("io.github.oguzdem.openapi.generated").setName(name);
+    javaClass.addProperty(String.class, "name");
+    return javaClass;
+  }
+}
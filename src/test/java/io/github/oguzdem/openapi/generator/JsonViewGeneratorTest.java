@@ -0,0 +1,142 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class JsonViewGeneratorTest {
+
+  // Compact, so the numbers are directly followed by the delimiters
+  private static final String PET_JSON =
+      """
+      {"name":"Rex \\"the\\" \\\\dog\\n\\u00e9","age":3,"tags":["a","b,c"],"scores":[1,2,3],\
+      "createdAt":"2024-01-02T03:04:05.678Z","collar":{"color":"red \\"x\\"","size":2},\
+      "weight":4.5,"owner":{"name":"Ann"}}""";
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void generatedViewsReadBytesTest() throws Exception {
+    try (URLClassLoader classLoader = compile()) {
+      Class<?> viewClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Pet$PetView");
+      byte[] bytes = PET_JSON.getBytes(StandardCharsets.UTF_8);
+
+      assertView(viewClass.getMethod("of", byte[].class).invoke(null, bytes));
+    }
+  }
+
+  @Test
+  void generatedViewsReadSliceTest() throws Exception {
+    try (URLClassLoader classLoader = compile()) {
+      Class<?> viewClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Pet$PetView");
+      int length = PET_JSON.getBytes(StandardCharsets.UTF_8).length;
+      byte[] bytes = ("[1," + PET_JSON + ",2]").getBytes(StandardCharsets.UTF_8);
+
+      assertView(
+          viewClass
+              .getConstructor(byte[].class, int.class, int.class)
+              .newInstance(bytes, 3, length));
+      assertView(
+          viewClass
+              .getMethod("of", ByteBuffer.class)
+              .invoke(null, ByteBuffer.wrap(bytes, 3, length)));
+    }
+  }
+
+  @Test
+  void constantNamesDoNotCollideTest() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(Config.ENABLE_JSON_VIEWS, "true");
+    properties.setProperty(Config.ENABLE_JACKSON_CODECS, "true");
+    // The type of status and the index of statusType, and the type of propertyStatus and the
+    // index of statusType with the prefix, have the same constant names
+    ObjectSchema order = new ObjectSchema();
+    order
+        .addProperty("status", new StringSchema()._enum(List.of("open", "closed")))
+        .addProperty("statusType", new StringSchema())
+        .addProperty("propertyStatus", new StringSchema()._enum(List.of("new", "old")));
+    byte[] bytes =
+        "{\"status\":\"closed\",\"statusType\":\"final\",\"propertyStatus\":\"old\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    try (URLClassLoader classLoader =
+        GeneratedSources.compile(
+            properties, new Components().addSchemas("Order", order), outputDirectory)) {
+      Class<?> viewClass =
+          classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Order$OrderView");
+      Object view = viewClass.getMethod("of", byte[].class).invoke(null, bytes);
+
+      assertEquals("CLOSED", String.valueOf(get(view, "getStatus")));
+      assertEquals("final", get(view, "getStatusType"));
+      assertEquals("OLD", String.valueOf(get(view, "getPropertyStatus")));
+    }
+  }
+
+  private static void assertView(Object view) throws Exception {
+    assertEquals("Rex \"the\" \\dog\n\u00e9", get(view, "getName")); // e acute
+    assertEquals(3, get(view, "getAge"));
+    assertEquals(4.5, get(view, "getWeight"));
+    assertNull(get(view, "getNickname"));
+    assertEquals(List.of("a", "b,c"), get(view, "getTags"));
+    assertEquals(List.of(1, 2, 3), get(view, "getScores"));
+    assertEquals(
+        OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 678_000_000, ZoneOffset.UTC),
+        get(view, "getCreatedAt"));
+    // A referenced class is read with the mapper of the base view
+    assertEquals("Ann", get(get(view, "getOwner"), "getName"));
+
+    Object collarView = get(view, "getCollarView");
+    assertEquals("red \"x\"", get(collarView, "getColor"));
+    assertEquals(2, get(collarView, "getSize"));
+  }
+
+  private static Object get(Object target, String getterName) throws Exception {
+    return target.getClass().getMethod(getterName).invoke(target);
+  }
+
+  private URLClassLoader compile() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(Config.ENABLE_JSON_VIEWS, "true");
+    ObjectSchema pet = new ObjectSchema();
+    pet.addProperty("name", new StringSchema())
+        .addProperty("nickname", new StringSchema())
+        .addProperty("age", new IntegerSchema())
+        .addProperty("tags", new ArraySchema().items(new StringSchema()))
+        .addProperty("scores", new ArraySchema().items(new IntegerSchema()))
+        .addProperty("createdAt", new DateTimeSchema())
+        .addProperty(
+            "collar",
+            new ObjectSchema()
+                .addProperty("color", new StringSchema())
+                .addProperty("size", new IntegerSchema()))
+        .addProperty("weight", new NumberSchema())
+        .addProperty("owner", new Schema<>().$ref("#/components/schemas/Owner"));
+    ObjectSchema owner = new ObjectSchema();
+    owner.addProperty("name", new StringSchema());
+    return GeneratedSources.compile(
+        properties,
+        new Components().addSchemas("Owner", owner).addSchemas("Pet", pet),
+        outputDirectory);
+  }
+}
@@ -20,14 +20,16 @@ public class OpenApiToJavaTest {
     OpenAPIParser parser = new OpenAPIParser();
     SwaggerParseResult result = parser.readLocation(input.getPath(), null, null);
     OpenAPI openapi = result.getOpenAPI();
+    GenerationContext context = new GenerationContext();
     if (Objects.nonNull(openapi.getComponents())
         && Objects.nonNull(openapi.getComponents().getSchemas())) {
       openapi
           .getComponents()
           .getSchemas()
           .forEach(
-              (s, schema) -> TypeGenerator.getOrGenerateType(s, schema, openapi.getComponents()));
+              (s, schema) ->
+                  TypeGenerator.getOrGenerateType(context, s, schema, openapi.getComponents()));
     }
-    PojoGenerator.writeJavaSources();
+    PojoGenerator.writeJavaSources(context);
   }
 }
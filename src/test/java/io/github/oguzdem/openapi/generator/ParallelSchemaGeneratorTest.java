@@ -0,0 +1,83 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class ParallelSchemaGeneratorTest {
+
+  public static Stream<Arguments> parallelGenerationTestArgsProvider() {
+    return Stream.of(
+        Arguments.of("src/test/resources/specs/basic-ref.yaml"),
+        Arguments.of("src/test/resources/specs/petstore-expanded.yaml"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("parallelGenerationTestArgsProvider")
+  void parallelGenerationTest(String specPath) {
+    Components components =
+        new OpenAPIParser().readLocation(specPath, null, null).getOpenAPI().getComponents();
+
+    GenerationContext sequentialContext = new GenerationContext();
+    components
+        .getSchemas()
+        .forEach(
+            (name, schema) ->
+                TypeGenerator.getOrGenerateType(sequentialContext, name, schema, components));
+    GenerationContext parallelContext = new GenerationContext();
+    ParallelSchemaGenerator.generate(parallelContext, components);
+
+    Map<String, String> expected = render(sequentialContext);
+    Map<String, String> actual = render(parallelContext);
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void independentSubgraphsTest() {
+    Components components =
+        new Components()
+            .addSchemas(
+                "Pet",
+                new ObjectSchema()
+                    .addProperty(
+                        "owner",
+                        new ObjectSchema().$ref(Components.COMPONENTS_SCHEMAS_REF + "Owner")))
+            .addSchemas("Error", new ObjectSchema().addProperty("message", new StringSchema()))
+            .addSchemas("Owner", new ObjectSchema().addProperty("name", new StringSchema()));
+
+    SchemaDependencyGraph graph = SchemaDependencyGraph.of(components);
+
+    assertEquals(List.of("Owner"), List.copyOf(graph.getReferences("Pet")));
+    assertEquals(
+        List.of(List.of("Pet", "Owner"), List.of("Error")), graph.getIndependentSubgraphs());
+    assertEquals(Set.of("Pet"), graph.getReferrers("Owner"));
+    assertEquals(Set.of("Owner", "Pet"), graph.getTransitiveReferrers(List.of("Owner")));
+    assertEquals(
+        List.of(List.of("Pet"), List.of("Error"), List.of("Owner")), graph.getOneOfGroups());
+  }
+
+  private static Map<String, String> render(GenerationContext context) {
+    Map<String, String> sources = new TreeMap<>();
+    context
+        .getJavaSources()
+        .forEach((name, javaSource) -> sources.put(name, javaSource.toString()));
+    return sources;
+  }
+}
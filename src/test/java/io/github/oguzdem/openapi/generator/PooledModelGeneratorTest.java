@@ -0,0 +1,65 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class PooledModelGeneratorTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void releasedInstanceKeepsNestedObjectTest() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(Config.ENABLE_POOLED_MODELS, "true");
+    ObjectSchema pet = new ObjectSchema();
+    pet.addProperty("name", new StringSchema())
+        .addProperty("collar", new ObjectSchema().addProperty("color", new StringSchema()));
+
+    try (URLClassLoader classLoader =
+        GeneratedSources.compile(
+            properties, new Components().addSchemas("Pet", pet), outputDirectory)) {
+      Class<?> petClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Pet");
+      Class<?> poolClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Pet$PetPool");
+      Object pool = poolClass.getConstructor(int.class).newInstance(1);
+
+      Object first = read(pool, "{\"name\":\"Rex\",\"collar\":{\"color\":\"red\"}}");
+      Object collar = get(first, "getCollar");
+      assertEquals("red", get(collar, "getColor"));
+      poolClass.getMethod("release", petClass).invoke(pool, first);
+      Object second = read(pool, "{\"name\":\"Max\"}");
+
+      // The reset collar is kept and not read again, so it is empty rather than null
+      assertSame(first, second);
+      assertEquals("Max", get(second, "getName"));
+      assertSame(collar, get(second, "getCollar"));
+      assertNotNull(get(second, "getCollar"));
+      assertNull(get(collar, "getColor"));
+    }
+  }
+
+  private static Object read(Object pool, String json) throws Exception {
+    Object instance = pool.getClass().getMethod("acquire").invoke(pool);
+    return MAPPER.readerForUpdating(instance).readValue(json);
+  }
+
+  private static Object get(Object target, String getterName) throws Exception {
+    return target.getClass().getMethod(getterName).invoke(target);
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class RecordModelsTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void primitiveArrayRecordsEqualByContentTest() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(Config.ENABLE_RECORD_MODELS, "true");
+    properties.setProperty(Config.ENABLE_PRIMITIVE_NUMERIC_ARRAYS, "true");
+    ObjectSchema sample = new ObjectSchema();
+    sample
+        .addProperty("name", new StringSchema())
+        .addProperty("values", new ArraySchema().items(new IntegerSchema()))
+        .addProperty(
+            "point",
+            new ObjectSchema()
+                .addProperty("coordinates", new ArraySchema().items(new NumberSchema())));
+    String json = "{\"name\":\"a\",\"values\":[1,2,3],\"point\":{\"coordinates\":[1.5,2.5]}}";
+
+    try (URLClassLoader classLoader =
+        GeneratedSources.compile(
+            properties, new Components().addSchemas("Sample", sample), outputDirectory)) {
+      Class<?> sampleClass = classLoader.loadClass(GeneratedSources.PACKAGE_NAME + ".Sample");
+      Object first = MAPPER.readValue(json, sampleClass);
+      Object second = MAPPER.readValue(json, sampleClass);
+      Object other = MAPPER.readValue(json.replace("[1,2,3]", "[1,2,4]"), sampleClass);
+
+      assertNotSame(first, second);
+      assertEquals(first, second);
+      assertEquals(first.hashCode(), second.hashCode());
+      assertEquals(first.toString(), second.toString());
+      assertEquals(
+          "Sample[name=a, values=[1, 2, 3], point=Point[coordinates=[1.5, 2.5]]]",
+          first.toString());
+      assertNotEquals(first, other);
+    }
+  }
+}
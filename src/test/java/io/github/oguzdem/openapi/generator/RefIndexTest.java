@@ -0,0 +1,89 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class RefIndexTest {
+
+  private static final String JSON = "application/json";
+
+  @Test
+  void componentRefsTest() {
+    Schema<?> pet = new ObjectSchema().addProperty("name", new StringSchema());
+    Schema<?> error = new ObjectSchema().addProperty("message", new StringSchema());
+    Schema<?> filter = new StringSchema();
+    Components components =
+        new Components()
+            .addSchemas("pet_item", pet)
+            .addResponses("NotFound", jsonResponse(error))
+            .addResponses(
+                "Gone", new ApiResponse().$ref(RefIndex.COMPONENTS_RESPONSES_REF + "NotFound"))
+            .addParameters("filter", new Parameter().name("filter").schema(filter))
+            .addRequestBodies(
+                "NewPet",
+                new RequestBody()
+                    .content(new Content().addMediaType(JSON, new MediaType().schema(pet))));
+
+    RefIndex refIndex = RefIndex.of(components);
+
+    assertSame(refIndex, RefIndex.of(components));
+    RefIndex.ResolvedRef petRef = refIndex.resolve(Components.COMPONENTS_SCHEMAS_REF + "pet_item");
+    assertSame(pet, petRef.schema());
+    assertEquals("pet_item", petRef.name());
+    assertEquals("PetItem", petRef.typeName());
+    assertTrue(petRef.isComponentSchema());
+    assertSame(error, refIndex.resolve(RefIndex.COMPONENTS_RESPONSES_REF + "NotFound").schema());
+    assertSame(error, refIndex.resolve(RefIndex.COMPONENTS_RESPONSES_REF + "Gone").schema());
+    assertSame(filter, refIndex.resolve(RefIndex.COMPONENTS_PARAMETERS_REF + "filter").schema());
+    RefIndex.ResolvedRef bodyRef =
+        refIndex.resolve(RefIndex.COMPONENTS_REQUEST_BODIES_REF + "NewPet");
+    assertSame(pet, bodyRef.schema());
+    assertFalse(bodyRef.isComponentSchema());
+    assertTrue(refIndex.find(Components.COMPONENTS_SCHEMAS_REF + "Missing").isEmpty());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> refIndex.resolve(Components.COMPONENTS_SCHEMAS_REF + "Missing"));
+  }
+
+  @Test
+  void responseRefTypeTest() {
+    Components components =
+        new Components()
+            .addResponses(
+                "NotFound",
+                jsonResponse(new ObjectSchema().addProperty("message", new StringSchema())));
+    GenerationContext context = new GenerationContext();
+
+    String type =
+        TypeGenerator.getOrGenerateType(
+            context,
+            "",
+            new Schema<>().$ref(RefIndex.COMPONENTS_RESPONSES_REF + "NotFound"),
+            components);
+
+    assertEquals("NotFound", type);
+    assertTrue(context.hasJavaSource("NotFound"));
+  }
+
+  private static ApiResponse jsonResponse(Schema<?> schema) {
+    return new ApiResponse()
+        .content(new Content().addMediaType(JSON, new MediaType().schema(schema)));
+  }
+}
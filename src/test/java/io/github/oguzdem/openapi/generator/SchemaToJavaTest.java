@@ -4,6 +4,7 @@ import static io.swagger.v3.parser.util.SchemaTypeUtil.DOUBLE_FORMAT;
 import static io.swagger.v3.parser.util.SchemaTypeUtil.INTEGER64_FORMAT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.io.Resources;
 import io.swagger.v3.oas.models.Components;
@@ -21,9 +22,13 @@ import io.swagger.v3.oas.models.media.UUIDSchema;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -31,7 +36,10 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -42,6 +50,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 @Slf4j
 public class SchemaToJavaTest {
   private static final String JAVA_FILE_RESOURCE_PATH_TEMPLATE = "java/%s.java";
+  private static final String RECORD_FILE_RESOURCE_PATH_TEMPLATE = "java/records/%s.java";
+  private static final Config TEMPLATE_SOURCE_EMITTER_CONFIG =
+      enabledConfig(Config.ENABLE_TEMPLATE_SOURCE_EMITTER);
+
+  private static final Config PRIMITIVE_NUMERIC_ARRAYS_CONFIG =
+      enabledConfig(Config.ENABLE_PRIMITIVE_NUMERIC_ARRAYS);
+
+  private static final Config JACKSON_CODECS_CONFIG = enabledConfig(Config.ENABLE_JACKSON_CODECS);
+
+  private static final Config RECORD_MODELS_CONFIG = enabledConfig(Config.ENABLE_RECORD_MODELS);
+
+  private static final Config POOLED_MODELS_CONFIG = enabledConfig(Config.ENABLE_POOLED_MODELS);
+
+  private static final Config JSON_VIEWS_CONFIG = enabledConfig(Config.ENABLE_JSON_VIEWS);
 
   private static final SchemaClassFilePathTestPair BASIC_SCHEMA_WITH_ADDITIONAL_PROPS =
       SchemaClassFilePathTestPair.of("BasicAdditionalProps");
@@ -99,6 +121,10 @@ public class SchemaToJavaTest {
       SchemaClassFilePathTestPair.of("DefaultUrls");
   private static final SchemaClassFilePathTestPair BASIC_ARRAY_SCHEMA =
       SchemaClassFilePathTestPair.of("BasicArrays");
+  private static final SchemaClassFilePathTestPair PRIMITIVE_NUMERIC_ARRAY_SCHEMA =
+      SchemaClassFilePathTestPair.of("PrimitiveNumericArrays");
+  private static final SchemaClassFilePathTestPair POOLED_SCHEMA =
+      SchemaClassFilePathTestPair.of("PooledPets");
   private static final SchemaClassFilePathTestPair BASIC_SET_SCHEMA =
       SchemaClassFilePathTestPair.of("BasicSets");
   private static final SchemaClassFilePathTestPair DEFAULT_ARRAY_SCHEMA =
@@ -108,6 +134,12 @@ public class SchemaToJavaTest {
   private static final SchemaClassFilePathTestPair DEFAULT_ENUM_SCHEMA =
       SchemaClassFilePathTestPair.of("DefaultEnums");
 
+  private static Config enabledConfig(String property) {
+    Properties properties = new Properties();
+    properties.setProperty(property, "true");
+    return Config.load(properties);
+  }
+
   private static NumberSchema newFloatSchema() {
     NumberSchema schema = new NumberSchema();
     schema.setFormat("float");
@@ -596,6 +628,28 @@ public class SchemaToJavaTest {
                 .items(new ObjectSchema().type("").addProperty("dateField", new DateSchema())));
   }
 
+  @BeforeAll
+  public static void setUpPrimitiveNumericArraysSchema() {
+    PRIMITIVE_NUMERIC_ARRAY_SCHEMA
+        .schema()
+        .addProperty("intArray", new ArraySchema().items(new IntegerSchema()))
+        .addProperty("longArray", new ArraySchema().items(newLongIntSchema()))
+        .addProperty("floatArray", new ArraySchema().items(newFloatSchema()))
+        .addProperty("doubleArray", new ArraySchema().items(new NumberSchema()));
+  }
+
+  @BeforeAll
+  public static void setUpPooledSchema() {
+    POOLED_SCHEMA.schema().addRequiredItem("name");
+    POOLED_SCHEMA
+        .schema()
+        .addProperty("name", new StringSchema())
+        .addProperty("count", new IntegerSchema()._default(5))
+        .addProperty("tags", new ArraySchema().items(new StringSchema()))
+        .addProperty("collar", new ObjectSchema().addProperty("color", new StringSchema()))
+        .additionalProperties(Boolean.TRUE);
+  }
+
   @BeforeAll
   public static void setUpSetsSchema() {
     BASIC_SET_SCHEMA
@@ -678,7 +732,9 @@ public class SchemaToJavaTest {
     String expectedFile = Roaster.format(expectedClass.toUnformattedString());
     String generatedFile =
         Roaster.format(
-            PojoGenerator.generate(schema.getTitle(), schema, new Components()).toString());
+            PojoGenerator.generate(
+                    new GenerationContext(), schema.getTitle(), schema, new Components())
+                .toString());
     assertNotNull(expectedFile);
     assertNotNull(generatedFile);
     assertEquals(
@@ -686,6 +742,125 @@ public class SchemaToJavaTest {
         generatedFile.replaceAll("[\\r\\n\\t\\s]", ""));
   }
 
+  @ParameterizedTest
+  @MethodSource("objectSchemaToJavaTestArgProvider")
+  void objectSchemaToJavaWithTemplateSourceEmitterTest(
+      ObjectSchema schema, URL expectedJavaFilePath) throws IOException {
+    JavaType<?> expectedClass = Roaster.parse(expectedJavaFilePath);
+    assertNotNull(expectedClass);
+    String expectedFile = Roaster.format(expectedClass.toUnformattedString());
+    GenerationContext context = new GenerationContext(TEMPLATE_SOURCE_EMITTER_CONFIG);
+    PojoGenerator.generate(context, schema.getTitle(), schema, new Components());
+    String generatedFile = Roaster.format(context.emitJavaSource(schema.getTitle()));
+    assertNotNull(generatedFile);
+    assertEquals(
+        expectedFile.replaceAll("[\\r\\n\\t\\s]", ""),
+        generatedFile.replaceAll("[\\r\\n\\t\\s]", ""));
+  }
+
+  @Test
+  void primitiveNumericArraysToJavaTest() throws IOException {
+    JavaType<?> expectedClass = Roaster.parse(PRIMITIVE_NUMERIC_ARRAY_SCHEMA.classFilePath());
+    assertNotNull(expectedClass);
+    String expectedFile = Roaster.format(expectedClass.toUnformattedString());
+    ObjectSchema schema = PRIMITIVE_NUMERIC_ARRAY_SCHEMA.schema();
+    String generatedFile =
+        Roaster.format(
+            PojoGenerator.generate(
+                    new GenerationContext(PRIMITIVE_NUMERIC_ARRAYS_CONFIG),
+                    schema.getTitle(),
+                    schema,
+                    new Components())
+                .toString());
+    assertEquals(
+        expectedFile.replaceAll("[\\r\\n\\t\\s]", ""),
+        generatedFile.replaceAll("[\\r\\n\\t\\s]", ""));
+  }
+
+  @Test
+  void pooledModelsToJavaTest() throws IOException {
+    JavaType<?> expectedClass = Roaster.parse(POOLED_SCHEMA.classFilePath());
+    assertNotNull(expectedClass);
+    String expectedFile = Roaster.format(expectedClass.toUnformattedString());
+    ObjectSchema schema = POOLED_SCHEMA.schema();
+    String generatedFile =
+        Roaster.format(
+            PojoGenerator.generate(
+                    new GenerationContext(POOLED_MODELS_CONFIG),
+                    schema.getTitle(),
+                    schema,
+                    new Components())
+                .toString());
+    assertEquals(
+        expectedFile.replaceAll("[\\r\\n\\t\\s]", ""),
+        generatedFile.replaceAll("[\\r\\n\\t\\s]", ""));
+  }
+
+  @Test
+  void jacksonCodecsToJavaTest() {
+    GenerationContext context = new GenerationContext(JACKSON_CODECS_CONFIG);
+    ObjectSchema schema = BASIC_INT_SCHEMA.schema();
+    JavaClassSource javaClass =
+        (JavaClassSource)
+            PojoGenerator.generate(context, schema.getTitle(), schema, new Components());
+    assertEquals(
+        List.of("BasicIntegersSerializer", "BasicIntegersDeserializer"),
+        javaClass.getNestedTypes().stream().map(JavaSource::getName).toList());
+    assertEquals(Set.of("BasicIntegers"), JacksonCodecGenerator.getCodecTypeNames(context));
+
+    JacksonCodecGenerator.generateModule(context);
+    String module =
+        context.emitJavaSource(JacksonCodecGenerator.MODULE_NAME).replaceAll("[\\r\\n\\t\\s]", "");
+    assertTrue(
+        module.contains(
+            "addDeserializer(BasicIntegers.class,newBasicIntegers.BasicIntegersDeserializer());"));
+  }
+
+  @Test
+  void jsonViewsToJavaTest() {
+    GenerationContext context = new GenerationContext(JSON_VIEWS_CONFIG);
+    ObjectSchema schema = BASIC_INT_SCHEMA.schema();
+    JavaClassSource javaClass =
+        (JavaClassSource)
+            PojoGenerator.generate(context, schema.getTitle(), schema, new Components());
+    assertEquals(
+        List.of("BasicIntegersView"),
+        javaClass.getNestedTypes().stream().map(JavaSource::getName).toList());
+    String view = context.emitJavaSource(schema.getTitle()).replaceAll("[\\r\\n\\t\\s]", "");
+    assertTrue(
+        view.contains(
+            "publicIntegergetPrimitiveInt(){returnreadInteger(PROPERTY_PRIMITIVE_INT);}"));
+    assertTrue(view.contains("case\"minMaxInt\":returnPROPERTY_MIN_MAX_INT;"));
+
+    JsonViewGenerator.generateBaseView(context);
+    String baseView =
+        context.emitJavaSource(JsonViewGenerator.BASE_VIEW_NAME).replaceAll("[\\r\\n\\t\\s]", "");
+    assertTrue(baseView.contains("protectedIntegerreadInteger(intproperty){"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("recordModelsToJavaTestArgProvider")
+  void recordModelsToJavaTest(ObjectSchema schema, URL expectedJavaFilePath) throws IOException {
+    String expectedFile = Resources.toString(expectedJavaFilePath, StandardCharsets.UTF_8);
+    GenerationContext context = new GenerationContext(RECORD_MODELS_CONFIG);
+    PojoGenerator.generate(context, schema.getTitle(), schema, new Components());
+    String generatedFile = context.emitJavaSource(schema.getTitle());
+    assertNotNull(generatedFile);
+    assertEquals(
+        expectedFile.replaceAll("[\\r\\n\\t\\s]", ""),
+        generatedFile.replaceAll("[\\r\\n\\t\\s]", ""));
+  }
+
+  public static Stream<Arguments> recordModelsToJavaTestArgProvider() {
+    return Stream.of(DEFAULT_STRING_SCHEMA.schema(), BASIC_SCHEMA_WITH_ADDITIONAL_PROPS.schema())
+        .map(
+            schema ->
+                Arguments.of(
+                    schema,
+                    Resources.getResource(
+                        RECORD_FILE_RESOURCE_PATH_TEMPLATE.formatted(schema.getTitle()))));
+  }
+
   private record SchemaClassFilePathTestPair(ObjectSchema schema, URL classFilePath) {
     static SchemaClassFilePathTestPair of(@NonNull String objectName) {
       ObjectSchema schema = new ObjectSchema();
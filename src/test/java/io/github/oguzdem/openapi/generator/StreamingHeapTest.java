@@ -0,0 +1,118 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.oguzdem.openapi.generator.spec.SyntheticSpecGenerator;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Measures the heap a generation keeps, with and without the streaming ingestion. The heap is
+ * measured after the component schemas are generated and before the sources are written, which is
+ * when a generation keeps the most.
+ *
+ * @author Oguz Demirbasci
+ */
+@Tag("perf")
+class StreamingHeapTest {
+
+  private static final int BASE_SCHEMA_COUNT = 500;
+  private static final int SCALE_FACTOR = 4;
+  private static final int GC_RUNS = 5;
+  private static final double MAX_STREAMING_RATIO = 1.1;
+
+  @TempDir Path workDirectory;
+
+  @Test
+  void streamingHeapGrowsWithSchemaCountTest(TestReporter reporter) throws IOException {
+    Path baseSpec = writeSpec(BASE_SCHEMA_COUNT);
+    Path scaledSpec = writeSpec(BASE_SCHEMA_COUNT * SCALE_FACTOR);
+    retainedStreamingHeap(baseSpec);
+
+    long baseStreaming = retainedStreamingHeap(baseSpec);
+    long scaledStreaming = retainedStreamingHeap(scaledSpec);
+    long scaledParsed = retainedParsedHeap(scaledSpec);
+    reporter.publishEntry(
+        Map.of(
+            "streamed%d".formatted(BASE_SCHEMA_COUNT), toKibibytes(baseStreaming),
+            "streamed%d".formatted(BASE_SCHEMA_COUNT * SCALE_FACTOR), toKibibytes(scaledStreaming),
+            "parsed%d".formatted(BASE_SCHEMA_COUNT * SCALE_FACTOR), toKibibytes(scaledParsed)));
+
+    // The generation context keeps every generated schema, so the heap is not bounded
+    assertTrue(
+        scaledStreaming > baseStreaming * SCALE_FACTOR / 2,
+        "Streaming keeps %d bytes for %d schemas and %d bytes for %d schemas"
+            .formatted(
+                baseStreaming,
+                BASE_SCHEMA_COUNT,
+                scaledStreaming,
+                BASE_SCHEMA_COUNT * SCALE_FACTOR));
+    // Once every schema is generated, the generated sources take most of the heap either way
+    assertTrue(
+        scaledStreaming < scaledParsed * MAX_STREAMING_RATIO,
+        "Streaming keeps %d bytes and parsing keeps %d bytes"
+            .formatted(scaledStreaming, scaledParsed));
+  }
+
+  private long retainedStreamingHeap(Path specFile) throws IOException {
+    GenerationContext context = new GenerationContext(createConfig());
+    long before = usedHeap();
+    try (StreamingSpecReader spec = StreamingSpecReader.open(specFile)) {
+      ModelGenerator.generateComponentTypes(context, spec.getComponents());
+      long after = usedHeap();
+      Reference.reachabilityFence(spec);
+      Reference.reachabilityFence(context);
+      return after - before;
+    }
+  }
+
+  private long retainedParsedHeap(Path specFile) {
+    GenerationContext context = new GenerationContext(createConfig());
+    long before = usedHeap();
+    OpenAPI openapi =
+        new OpenAPIParser().readLocation(specFile.toString(), null, null).getOpenAPI();
+    ModelGenerator.generateComponentTypes(context, openapi);
+    long after = usedHeap();
+    Reference.reachabilityFence(openapi);
+    Reference.reachabilityFence(context);
+    return after - before;
+  }
+
+  private Path writeSpec(int schemaCount) {
+    return SyntheticSpecGenerator.builder()
+        .schemaCount(schemaCount)
+        .build()
+        .write(workDirectory.resolve("spec-%d.yaml".formatted(schemaCount)));
+  }
+
+  private Config createConfig() {
+    Properties properties = new Properties();
+    properties.setProperty(Config.PACKAGE_NAME, "io.github.oguzdem.openapi.heap");
+    properties.setProperty(Config.OUTPUT_PATH, workDirectory.resolve("output").toString());
+    return Config.load(properties);
+  }
+
+  private static String toKibibytes(long bytes) {
+    return "%d KiB".formatted(bytes / 1024);
+  }
+
+  // The smallest used heap of a few collections, as a single collection may leave some garbage
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    long used = Long.MAX_VALUE;
+    for (int run = 0; run < GC_RUNS; run++) {
+      System.gc();
+      used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+    }
+    return used;
+  }
+}
@@ -0,0 +1,129 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.github.oguzdem.openapi.generator.spec.SyntheticSpecGenerator;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class StreamingSpecReaderTest {
+
+  private static final int LARGE_SCHEMA_COUNT = 4_000;
+
+  @TempDir Path workDirectory;
+
+  public static Stream<Arguments> streamingIngestionTestArgsProvider() {
+    return Stream.of(
+        Arguments.of("src/test/resources/specs/basic-ref.yaml"),
+        Arguments.of("src/test/resources/specs/petstore-expanded.yaml"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("streamingIngestionTestArgsProvider")
+  void streamingIngestionTest(String specPath) throws IOException {
+    Map<String, String> expected = renderParsed(specPath);
+
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, renderStreamed(Path.of(specPath)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("streamingIngestionTestArgsProvider")
+  void streamingJsonIngestionTest(String specPath) throws IOException {
+    Path jsonSpec = workDirectory.resolve("spec.json");
+    JsonNode spec = new ObjectMapper(new YAMLFactory()).readTree(Path.of(specPath).toFile());
+    new ObjectMapper().writeValue(jsonSpec.toFile(), spec);
+
+    assertEquals(renderParsed(specPath), renderStreamed(jsonSpec));
+  }
+
+  @Test
+  void schemasAreReadAsTheyAreUsedTest() throws IOException {
+    try (StreamingSpecReader spec =
+        StreamingSpecReader.open(Path.of("src/test/resources/specs/petstore-expanded.yaml"))) {
+      Map<String, Schema> schemas = spec.getComponents().getSchemas();
+
+      assertEquals(0, spec.getReadSchemaCount());
+      Schema<?> pet = schemas.get("Pet");
+      assertSame(pet, schemas.get("Pet"));
+      assertEquals(1, spec.getReadSchemaCount());
+
+      WeakReference<Schema<?>> petReference = new WeakReference<>(pet);
+      pet = null;
+      for (int i = 0; i < 10 && Objects.nonNull(petReference.get()); i++) {
+        System.gc();
+      }
+      assertNull(petReference.get());
+      assertNotNull(schemas.get("Pet"));
+      assertEquals(2, spec.getReadSchemaCount());
+    }
+  }
+
+  @Test
+  void largeYamlSpecTest() throws IOException {
+    // SnakeYAML refuses documents of more than 3 MB unless its limit is raised
+    Path specFile =
+        SyntheticSpecGenerator.builder()
+            .schemaCount(LARGE_SCHEMA_COUNT)
+            .build()
+            .write(workDirectory.resolve("large.yaml"));
+    assertTrue(Files.size(specFile) > 3 * 1024 * 1024);
+
+    try (StreamingSpecReader spec = StreamingSpecReader.open(specFile)) {
+      Map<String, Schema> schemas = spec.getComponents().getSchemas();
+
+      assertEquals(LARGE_SCHEMA_COUNT, schemas.size());
+      assertTrue(schemas.values().stream().allMatch(Objects::nonNull));
+    }
+  }
+
+  private static Map<String, String> renderParsed(String specPath) {
+    OpenAPI openapi = new OpenAPIParser().readLocation(specPath, null, null).getOpenAPI();
+    GenerationContext context = new GenerationContext();
+    ModelGenerator.generateComponentTypes(context, openapi);
+    ModelGenerator.generatePathTypes(context, openapi);
+    return render(context);
+  }
+
+  private static Map<String, String> renderStreamed(Path specPath) throws IOException {
+    try (StreamingSpecReader spec = StreamingSpecReader.open(specPath)) {
+      GenerationContext context = new GenerationContext();
+      ModelGenerator.generateComponentTypes(context, spec.getComponents());
+      ModelGenerator.generatePathTypes(context, spec.getPaths(), spec.getComponents());
+      return render(context);
+    }
+  }
+
+  private static Map<String, String> render(GenerationContext context) {
+    Map<String, String> sources = new TreeMap<>();
+    context
+        .getJavaSources()
+        .forEach((name, javaSource) -> sources.put(name, javaSource.toString()));
+    return sources;
+  }
+}
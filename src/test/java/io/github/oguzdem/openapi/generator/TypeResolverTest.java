@@ -0,0 +1,131 @@
+package io.github.oguzdem.openapi.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.github.oguzdem.openapi.generator.spec.SyntheticSpecGenerator;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class TypeResolverTest {
+
+  @Test
+  void linkedListTest() {
+    Components components =
+        new Components()
+            .addSchemas(
+                "Node",
+                new ObjectSchema()
+                    .addProperty("value", new StringSchema())
+                    .addProperty("next", ref("Node")));
+    GenerationContext context = new GenerationContext();
+
+    String type = generate(context, "Node", components);
+
+    assertEquals("Node", type);
+    assertEquals(1, context.getJavaSources().size());
+    assertEquals("Node", fieldType(context, "Node", "next"));
+  }
+
+  @Test
+  void treeTest() {
+    Components components =
+        new Components()
+            .addSchemas(
+                "Tree",
+                new ObjectSchema()
+                    .addProperty("parent", ref("Tree"))
+                    .addProperty("children", new ArraySchema().items(ref("Tree"))));
+    GenerationContext context = new GenerationContext();
+
+    generate(context, "Tree", components);
+
+    assertEquals(1, context.getJavaSources().size());
+    assertEquals("Tree", fieldType(context, "Tree", "parent"));
+    assertEquals("ImmutableList", fieldType(context, "Tree", "children"));
+    assertEquals(
+        "Tree", field(context, "Tree", "children").getType().getTypeArguments().get(0).toString());
+  }
+
+  @Test
+  void mutualRecursionTest() {
+    Components components =
+        new Components()
+            .addSchemas("Owner", new ObjectSchema().addProperty("pet", ref("Pet")))
+            .addSchemas("Pet", new ObjectSchema().addProperty("owner", ref("Owner")));
+    GenerationContext context = new GenerationContext();
+
+    generate(context, "Owner", components);
+    generate(context, "Pet", components);
+
+    assertEquals(2, context.getJavaSources().size());
+    assertEquals("Pet", fieldType(context, "Owner", "pet"));
+    assertEquals("Owner", fieldType(context, "Pet", "owner"));
+  }
+
+  @Test
+  void deepChainTest() {
+    int depth = 10_000;
+    Components components = new Components();
+    for (int i = 0; i < depth; i++) {
+      // An object without properties is a plain Object, so every link has a value
+      Schema<?> schema = new ObjectSchema().addProperty("value", new StringSchema());
+      if (i + 1 < depth) {
+        schema.addProperty("next", ref("Link" + (i + 1)));
+      }
+      components.addSchemas("Link" + i, schema);
+    }
+    GenerationContext context = new GenerationContext();
+
+    generate(context, "Link0", components);
+
+    assertEquals(depth, context.getJavaSources().size());
+    assertEquals("Link" + (depth - 1), fieldType(context, "Link" + (depth - 2), "next"));
+  }
+
+  @Test
+  void everyTypeIsFilledOnceTest() {
+    OpenAPI openapi =
+        SyntheticSpecGenerator.builder().schemaCount(300).propertyFanOut(12).build().generate();
+    GenerationContext context = new GenerationContext();
+
+    ModelGenerator.generateComponentTypes(context, openapi);
+
+    long resolvedTypeCount =
+        context.getJavaSources().values().stream()
+            .filter(javaSource -> !(javaSource instanceof JavaEnumSource))
+            .count();
+    assertEquals(resolvedTypeCount, context.typeResolver.getFilledCount());
+  }
+
+  private static String generate(GenerationContext context, String name, Components components) {
+    return TypeGenerator.getOrGenerateType(
+        context, name, components.getSchemas().get(name), components);
+  }
+
+  private static String fieldType(GenerationContext context, String className, String field) {
+    return field(context, className, field).getType().getName();
+  }
+
+  private static FieldSource<JavaClassSource> field(
+      GenerationContext context, String className, String field) {
+    JavaClassSource javaClass = (JavaClassSource) context.getJavaSource(className);
+    assertNotNull(javaClass.getField(field));
+    return javaClass.getField(field);
+  }
+
+  private static Schema<?> ref(String name) {
+    return new Schema<>().$ref(Components.COMPONENTS_SCHEMAS_REF + name);
+  }
+}
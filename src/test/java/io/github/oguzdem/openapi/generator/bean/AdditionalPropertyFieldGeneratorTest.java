@@ -1,8 +1,13 @@
 package io.github.oguzdem.openapi.generator.bean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
+import io.github.oguzdem.openapi.generator.model.MethodModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.IntegerSchema;
@@ -10,9 +15,6 @@ import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import java.util.Map;
 import java.util.stream.Stream;
-import org.jboss.forge.roaster.Roaster;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -26,24 +28,26 @@ class AdditionalPropertyFieldGeneratorTest {
     return Stream.of(
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema().additionalProperties(true),
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableMap.class,
             "Object"),
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema().additionalProperties(new ObjectSchema()),
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableMap.class,
             "Object"),
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema()
                     .additionalProperties(
                         new ObjectSchema()
@@ -52,41 +56,46 @@ class AdditionalPropertyFieldGeneratorTest {
                     .schemas(
                         Map.of(
                             "ReferencedObject",
-                            new ObjectSchema().properties(Map.of("prop", new StringSchema()))))),
+                            new ObjectSchema().properties(Map.of("prop", new StringSchema())))),
+                new GenerationContext()),
             ImmutableMap.class,
             "ReferencedObject"),
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema().additionalProperties(new StringSchema()),
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableMap.class,
             "String"),
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema().additionalProperties(new IntegerSchema()),
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableMap.class,
             "Integer"),
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema().additionalProperties(new ArraySchema()),
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableMap.class,
             "ImmutableList<Object>"),
         Arguments.of(
             new AdditionalPropertyFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 new ObjectSchema()
                     .additionalProperties(
                         new ObjectSchema().properties(Map.of("custom Prop", new StringSchema()))),
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableMap.class,
             "JavaClassAdditionalProperties"));
   }
@@ -97,13 +106,17 @@ class AdditionalPropertyFieldGeneratorTest {
       AdditionalPropertyFieldGenerator generator,
       Class<?> expectedFieldType,
       String expectedTypeArg) {
-    PropertySource<JavaClassSource> actualField = generator.generateField();
+    FieldModel actualField = generator.generateField();
     assertEquals(
-        AdditionalPropertyFieldGenerator.ADDITIONAL_PROPERTIES_FIELD_NAME, actualField.getName());
+        AdditionalPropertyFieldGenerator.ADDITIONAL_PROPERTIES_FIELD_NAME, actualField.name());
+    String getterName = AdditionalPropertyFieldGenerator.ADDITIONAL_PROPERTIES_GETTER_NAME;
+    assertTrue(
+        generator.classModel.getMembers().stream()
+            .filter(MethodModel.class::isInstance)
+            .map(MethodModel.class::cast)
+            .anyMatch(method -> method.getName().equals(getterName)));
     assertEquals(
-        AdditionalPropertyFieldGenerator.ADDITIONAL_PROPERTIES_GETTER_NAME,
-        actualField.getAccessor().getName());
-    assertEquals(expectedFieldType.getSimpleName(), actualField.getType().getName());
-    assertEquals(expectedTypeArg, actualField.getType().getTypeArguments().get(1).toString());
+        "%s<String, %s>".formatted(expectedFieldType.getSimpleName(), expectedTypeArg),
+        actualField.type());
   }
 }
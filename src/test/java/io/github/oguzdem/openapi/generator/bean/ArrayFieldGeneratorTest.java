@@ -3,6 +3,9 @@ package io.github.oguzdem.openapi.generator.bean;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.ImmutableList;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.IntegerSchema;
@@ -11,9 +14,6 @@ import io.swagger.v3.oas.models.media.StringSchema;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
-import org.jboss.forge.roaster.Roaster;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -27,28 +27,30 @@ class ArrayFieldGeneratorTest {
     return Stream.of(
         Arguments.of(
             new ArrayFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "arrayField",
                 new ArraySchema().items(new StringSchema()),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableList.class,
             "String"),
         Arguments.of(
             new ArrayFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "arrayField",
                 new ArraySchema().items(new IntegerSchema()),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableList.class,
             "Integer"),
         Arguments.of(
             new ArrayFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "arrayField",
                 new ArraySchema()
                     .items(
@@ -59,23 +61,25 @@ class ArrayFieldGeneratorTest {
                     .schemas(
                         Map.of(
                             "ReferencedObject",
-                            new ObjectSchema().properties(Map.of("prop", new StringSchema()))))),
+                            new ObjectSchema().properties(Map.of("prop", new StringSchema())))),
+                new GenerationContext()),
             ImmutableList.class,
             "ReferencedObject"),
         Arguments.of(
             new ArrayFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "arrayField",
                 new ArraySchema().items(new ArraySchema().items(new IntegerSchema())),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableList.class,
             "ImmutableList<Integer>"),
         Arguments.of(
             new ArrayFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "arrayField",
                 new ArraySchema()
                     .items(
@@ -89,13 +93,14 @@ class ArrayFieldGeneratorTest {
                                         .properties(Map.of("prop2", new IntegerSchema()))
                                         .title("Object2")))),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableList.class,
             "ArrayField"),
         Arguments.of(
             new ArrayFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "arrayField",
                 new ArraySchema()
                     .items(
@@ -110,18 +115,19 @@ class ArrayFieldGeneratorTest {
                                                 .properties(
                                                     Map.of("prop2", new IntegerSchema())))))),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             ImmutableList.class,
-            "ImmutableList<ArrayField3>"));
+            "ImmutableList<ArrayField>"));
   }
 
   @ParameterizedTest
   @MethodSource("generateFieldTestArgsProvider")
   void generateFieldTest(
       ArrayFieldGenerator generator, Class<?> expectedFieldType, String expectedTypeArg) {
-    PropertySource<JavaClassSource> actualField = generator.generateField();
-    assertEquals("arrayField", actualField.getName());
-    assertEquals(expectedFieldType.getSimpleName(), actualField.getType().getName());
-    assertEquals(expectedTypeArg, actualField.getType().getTypeArguments().get(0).toString());
+    FieldModel actualField = generator.generateField();
+    assertEquals("arrayField", actualField.name());
+    assertEquals(
+        "%s<%s>".formatted(expectedFieldType.getSimpleName(), expectedTypeArg), actualField.type());
   }
 }
@@ -2,13 +2,13 @@ package io.github.oguzdem.openapi.generator.bean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.DateTimeSchema;
 import java.time.OffsetDateTime;
 import java.util.stream.Stream;
-import org.jboss.forge.roaster.Roaster;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -22,19 +22,20 @@ class DateTimeFieldGeneratorTest {
     return Stream.of(
         Arguments.of(
             new DateTimeFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "dateTimeField",
                 new DateTimeSchema(),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             OffsetDateTime.class));
   }
 
   @ParameterizedTest
   @MethodSource("generateFieldTestArgsProvider")
   void generateFieldTest(DateTimeFieldGenerator generator, Class<?> expectedFieldType) {
-    PropertySource<JavaClassSource> actualField = generator.generateField();
-    assertEquals(expectedFieldType.getSimpleName(), actualField.getType().getSimpleName());
+    FieldModel actualField = generator.generateField();
+    assertEquals(expectedFieldType.getSimpleName(), actualField.type());
   }
 }
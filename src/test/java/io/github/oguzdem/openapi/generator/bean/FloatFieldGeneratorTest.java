@@ -2,12 +2,12 @@ package io.github.oguzdem.openapi.generator.bean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
+import io.github.oguzdem.openapi.generator.model.FieldModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.NumberSchema;
 import java.util.stream.Stream;
-import org.jboss.forge.roaster.Roaster;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.PropertySource;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -21,28 +21,30 @@ class FloatFieldGeneratorTest {
     return Stream.of(
         Arguments.of(
             new FloatFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "floatField",
                 new NumberSchema(),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             Float.class),
         Arguments.of(
             new FloatFieldGenerator(
-                Roaster.create(JavaClassSource.class),
-                Roaster.create(JavaClassSource.class),
+                new ClassModel("JavaClass"),
+                new ClassModel("JavaClass"),
                 "floatField",
                 new NumberSchema().nullable(false),
                 false,
-                new Components()),
+                new Components(),
+                new GenerationContext()),
             float.class));
   }
 
   @ParameterizedTest
   @MethodSource("generateFieldTestArgsProvider")
   void generateFieldTest(FloatFieldGenerator generator, Class<?> expectedFieldType) {
-    PropertySource<JavaClassSource> actualField = generator.generateField();
-    assertEquals(expectedFieldType.getSimpleName(), actualField.getType().getSimpleName());
+    FieldModel actualField = generator.generateField();
+    assertEquals(expectedFieldType.getSimpleName(), actualField.type());
   }
 }
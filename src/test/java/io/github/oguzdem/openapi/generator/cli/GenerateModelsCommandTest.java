@@ -0,0 +1,63 @@
+package io.github.oguzdem.openapi.generator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.oguzdem.openapi.generator.Config;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class GenerateModelsCommandTest {
+
+  @TempDir Path workDirectory;
+
+  @Test
+  void generateTest() {
+    int exitCode =
+        new CommandLine(new GenerateModelsCommand())
+            .execute(
+                "src/test/resources/specs/petstore-expanded.yaml",
+                "--package-name",
+                "io.github.oguzdem.openapi.cli",
+                "--output-path",
+                workDirectory.toString());
+
+    assertEquals(CommandLine.ExitCode.OK, exitCode);
+    assertTrue(
+        Files.isRegularFile(workDirectory.resolve("io/github/oguzdem/openapi/cli/Pet.java")));
+  }
+
+  @Test
+  void optionsOverrideConfigFileTest() throws IOException {
+    Path configFile =
+        Files.writeString(
+            workDirectory.resolve("generator.properties"),
+            "packageName=io.github.oguzdem.openapi.file\nenableParallelGeneration=true\n");
+    GenerateModelsCommand command = new GenerateModelsCommand();
+    new CommandLine(command)
+        .parseArgs(
+            "spec.yaml",
+            "--config",
+            configFile.toString(),
+            "--package-name",
+            "io.github.oguzdem.openapi.cli",
+            "--no-bean-validation");
+
+    Properties properties = command.toProperties();
+    Config config = Config.load(properties);
+
+    assertEquals("io.github.oguzdem.openapi.cli", config.getPackageName());
+    assertTrue(config.isParallelGenerationEnabled());
+    assertFalse(config.isBeanValidationEnabled());
+    assertFalse(properties.containsKey(Config.ENABLE_INCREMENTAL_GENERATION));
+  }
+}
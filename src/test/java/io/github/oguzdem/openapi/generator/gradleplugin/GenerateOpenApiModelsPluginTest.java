@@ -0,0 +1,71 @@
+package io.github.oguzdem.openapi.generator.gradleplugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaPluginExtension;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class GenerateOpenApiModelsPluginTest {
+
+  @TempDir Path projectDirectory;
+
+  @Test
+  void defaultOutputDirectoryTest() {
+    Project project = createProject();
+
+    File outputDirectory = getOutputDirectory(project);
+
+    assertEquals(
+        project.getLayout().getBuildDirectory().dir("generated/sources/openapi").get().getAsFile(),
+        outputDirectory);
+    assertTrue(
+        project
+            .getExtensions()
+            .getByType(JavaPluginExtension.class)
+            .getSourceSets()
+            .getByName(SourceSet.MAIN_SOURCE_SET_NAME)
+            .getJava()
+            .getSrcDirs()
+            .contains(outputDirectory));
+  }
+
+  @Test
+  void configuredOutputDirectoryTest() {
+    Project project = createProject();
+    project
+        .getExtensions()
+        .getByType(GenerateOpenApiModelsExtension.class)
+        .getOutputPath()
+        .set("src/generated/java");
+
+    assertEquals(
+        projectDirectory.resolve("src/generated/java").toFile(), getOutputDirectory(project));
+  }
+
+  private Project createProject() {
+    Project project = ProjectBuilder.builder().withProjectDir(projectDirectory.toFile()).build();
+    project.getPluginManager().apply("java");
+    project.getPluginManager().apply(GenerateOpenApiModelsPlugin.class);
+    return project;
+  }
+
+  private static File getOutputDirectory(Project project) {
+    return project
+        .getTasks()
+        .named("generateModels", GenerateOpenApiModelsTask.class)
+        .get()
+        .getOutputDirectory()
+        .get()
+        .getAsFile();
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.oguzdem.openapi.generator.gradleplugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class SpecFileCollectorTest {
+
+  @TempDir Path specDirectory;
+
+  @Test
+  void collectTest() throws IOException {
+    Path spec =
+        Files.writeString(
+            specDirectory.resolve("api.yaml"),
+            """
+            openapi: 3.0.0
+            components:
+              schemas:
+                Pet:
+                  $ref: 'schemas/pet.yaml#/Pet'
+                Error:
+                  $ref: 'https://example.com/error.yaml#/Error'
+                Owner:
+                  $ref: '#/components/schemas/Pet'
+            """);
+    Files.createDirectories(specDirectory.resolve("schemas"));
+    Path pet =
+        Files.writeString(
+            specDirectory.resolve("schemas/pet.yaml"),
+            """
+            Pet:
+              type: object
+              properties:
+                tag:
+                  $ref: '../common/tag.json'
+            """);
+    Files.createDirectories(specDirectory.resolve("common"));
+    Path tag =
+        Files.writeString(specDirectory.resolve("common/tag.json"), "{\"type\": \"string\"}");
+
+    assertEquals(List.of(spec, pet, tag), List.copyOf(SpecFileCollector.collect(spec)));
+  }
+}
@@ -0,0 +1,44 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class ClassModelTest {
+
+  @Test
+  void constructorTest() {
+    ClassModel classModel = new ClassModel("Pet");
+    assertTrue(classModel.getConstructor().isEmpty());
+
+    MethodModel constructor = classModel.addConstructor();
+    constructor.appendBody("this.name = name;").appendBody("this.age = age;");
+    assertSame(constructor, classModel.getConstructor().orElseThrow());
+    assertEquals("this.name = name;this.age = age;", constructor.getBody());
+
+    classModel.removeMethod(constructor);
+    assertTrue(classModel.getConstructor().isEmpty());
+    assertTrue(classModel.getMembers().isEmpty());
+  }
+
+  @Test
+  void replaceFieldTest() {
+    ClassModel classModel = new ClassModel("Pet");
+    classModel.addField("String", "name");
+    classModel.addField("Object", "tags");
+    classModel.addField("Integer", "age");
+
+    FieldModel tags = classModel.replaceField(FieldModel.of("List<String>", "tags"));
+
+    assertSame(tags, classModel.getField("tags").orElseThrow());
+    assertEquals(
+        List.of("String", "List<String>", "Integer"),
+        classModel.getFields().stream().map(FieldModel::type).toList());
+  }
+}
@@ -0,0 +1,61 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Date;
+import java.util.List;
+import javax.lang.model.element.Modifier;
+import lombok.Builder;
+import lombok.Value;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class RoasterRendererTest {
+
+  @Test
+  void renderTest() {
+    ClassModel classModel = new ClassModel("Pet");
+    classModel.addAnnotation(Value.class);
+    FieldModel birthDate = classModel.addField(Date.class, "birthDate");
+    classModel.addImport(JsonProperty.class);
+    birthDate.addAnnotation(JsonProperty.class).setStringValue("birthDate");
+    MethodModel constructor = classModel.addConstructor().addModifier(Modifier.PUBLIC);
+    classModel.addImport(Builder.class);
+    constructor.addAnnotation(Builder.class);
+    constructor.addParameter("Date", "birthDate").setBody("this.birthDate = birthDate;");
+    classModel.addNestedType(new ClassModel("Owner").setStatic(true));
+
+    JavaClassSource javaClass = Roaster.create(JavaClassSource.class).setName("Pet");
+    RoasterRenderer.render(classModel, javaClass);
+
+    assertEquals(
+        List.of(
+            "lombok.Value",
+            "java.util.Date",
+            "com.fasterxml.jackson.annotation.JsonProperty",
+            "lombok.Builder"),
+        javaClass.getImports().stream().map(Import::getQualifiedName).toList());
+    assertTrue(javaClass.hasAnnotation(Value.class));
+    FieldSource<JavaClassSource> field = javaClass.getField("birthDate");
+    assertTrue(field.isPackagePrivate());
+    assertEquals("Date", field.getType().getName());
+    assertEquals("\"birthDate\"", field.getAnnotation(JsonProperty.class).getLiteralValue());
+    MethodSource<JavaClassSource> method = javaClass.getMethods().get(0);
+    assertTrue(method.isConstructor());
+    assertTrue(method.isPublic());
+    assertTrue(method.hasAnnotation(Builder.class));
+    assertEquals(1, method.getParameters().size());
+    JavaClassSource nestedClass = (JavaClassSource) javaClass.getNestedTypes().get(0);
+    assertEquals("Owner", nestedClass.getName());
+    assertTrue(nestedClass.isStatic());
+  }
+}
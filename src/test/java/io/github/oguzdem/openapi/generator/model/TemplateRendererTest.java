@@ -0,0 +1,113 @@
+package io.github.oguzdem.openapi.generator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Pattern;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+import lombok.Builder;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class TemplateRendererTest {
+
+  @Test
+  void renderTest() {
+    ClassModel classModel = new ClassModel("Pet").setJavadoc("Description: A pet.");
+    classModel.addAnnotation(Value.class);
+    FieldModel birthDate = classModel.addField(Date.class, "birthDate");
+    classModel.addImport(JsonProperty.class);
+    birthDate.addAnnotation(JsonProperty.class).setStringValue("birthDate");
+    FieldModel name = classModel.addField(String.class, "name");
+    classModel.addImport(Pattern.class);
+    name.addAnnotation(Pattern.class).setStringValue("regexp", "^\\w+;$");
+    MethodModel constructor = classModel.addConstructor().addModifier(Modifier.PUBLIC);
+    classModel.addImport(Builder.class);
+    constructor.addAnnotation(Builder.class);
+    constructor
+        .addParameter("Date", "birthDate")
+        .addParameter("String", "name")
+        .setBody("this.birthDate = birthDate;this.name = \"a;b\".equals(name) ? null : name;");
+    classModel.addNestedType(new ClassModel("Owner").setStatic(true));
+
+    assertEquals(
+        """
+        package io.github.oguzdem.openapi.generated;
+
+        import lombok.Value;
+        import java.util.Date;
+        import com.fasterxml.jackson.annotation.JsonProperty;
+        import jakarta.validation.constraints.Pattern;
+        import lombok.Builder;
+
+        /**
+         * Description: A pet.
+         */
+        @Value
+        public class Pet implements Animal {
+
+        \t@JsonProperty("birthDate")
+        \tDate birthDate;
+        \t@Pattern(regexp = "^\\\\w+;$")
+        \tString name;
+
+        \t@Builder
+        \tpublic Pet(Date birthDate, String name) {
+        \t\tthis.birthDate = birthDate;
+        \t\tthis.name = "a;b".equals(name) ? null : name;
+        \t}
+
+        \tpublic static class Owner {
+        \t}
+        }""",
+        TemplateRenderer.render(
+            classModel, "io.github.oguzdem.openapi.generated", List.of("Animal")));
+  }
+
+  @Test
+  void renderRecordTest() {
+    ClassModel classModel = new ClassModel("Pet").setRecord(true);
+    FieldModel name = classModel.addField(String.class, "name");
+    classModel.addImport(JsonProperty.class);
+    name.addAnnotation(JsonProperty.class).setStringValue("name");
+    classModel.addField(Integer.class, "age");
+    classModel.addField(
+        new FieldModel(
+            "String",
+            "KIND",
+            Set.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL),
+            "\"pet\"",
+            new ArrayList<>()));
+    classModel
+        .addConstructor()
+        .addModifier(Modifier.PUBLIC)
+        .setBody("name = Objects.isNull(name) ? KIND : name;");
+    ClassModel owner = new ClassModel("Owner").setRecord(true);
+    owner.addField(String.class, "name");
+    classModel.addNestedType(owner);
+
+    assertEquals(
+        """
+        import com.fasterxml.jackson.annotation.JsonProperty;
+
+        public record Pet(@JsonProperty("name") String name, Integer age) implements Animal {
+
+        \tprivate static final String KIND = "pet";
+
+        \tpublic Pet {
+        \t\tname = Objects.isNull(name) ? KIND : name;
+        \t}
+
+        \tpublic record Owner(String name) {
+        \t}
+        }""",
+        TemplateRenderer.render(classModel, null, List.of("Animal")));
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.oguzdem.openapi.generator.spec;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.oguzdem.openapi.generator.Config;
+import io.github.oguzdem.openapi.generator.ModelGenerator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Oguz Demirbasci
+ */
+@Tag("perf")
+class GenerationScalingTest {
+
+  private static final int BASE_SCHEMA_COUNT = 200;
+  private static final int SCALE_FACTOR = 4;
+  private static final int RUNS = 3;
+  // Linear growth is SCALE_FACTOR, quadratic growth would be SCALE_FACTOR squared.
+  private static final double MAX_GROWTH = SCALE_FACTOR * 2.5;
+
+  @TempDir Path workDirectory;
+
+  @Test
+  void generationTimeGrowsLinearlyTest() throws IOException {
+    generate(BASE_SCHEMA_COUNT, "warmup");
+
+    long baseNanos = fastestGeneration(BASE_SCHEMA_COUNT);
+    long scaledNanos = fastestGeneration(BASE_SCHEMA_COUNT * SCALE_FACTOR);
+
+    double growth = (double) scaledNanos / baseNanos;
+    assertTrue(
+        growth < MAX_GROWTH,
+        "Generation time grows %.1f times for %d times more schemas"
+            .formatted(growth, SCALE_FACTOR));
+  }
+
+  private long fastestGeneration(int schemaCount) throws IOException {
+    long fastest = Long.MAX_VALUE;
+    for (int run = 0; run < RUNS; run++) {
+      long start = System.nanoTime();
+      generate(schemaCount, "run-%d-%d".formatted(schemaCount, run));
+      fastest = Math.min(fastest, System.nanoTime() - start);
+    }
+    return fastest;
+  }
+
+  private void generate(int schemaCount, String name) throws IOException {
+    Path specFile =
+        SyntheticSpecGenerator.builder()
+            .schemaCount(schemaCount)
+            .build()
+            .write(workDirectory.resolve(name + ".yaml"));
+    Properties properties = new Properties();
+    properties.setProperty(Config.PACKAGE_NAME, "io.github.oguzdem.openapi.scaling");
+    properties.setProperty(Config.OUTPUT_PATH, workDirectory.resolve(name).toString());
+    Config config = Config.load(properties);
+
+    ModelGenerator.generate(specFile.toString(), config);
+
+    try (Stream<Path> sources = Files.list(Path.of(config.getFullOutputPath()))) {
+      assertTrue(sources.count() >= schemaCount);
+    }
+  }
+}
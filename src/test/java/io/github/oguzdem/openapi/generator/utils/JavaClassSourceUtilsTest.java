@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
+import io.github.oguzdem.openapi.generator.GenerationContext;
+import io.github.oguzdem.openapi.generator.model.ClassModel;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BinarySchema;
@@ -271,14 +273,14 @@ class JavaClassSourceUtilsTest {
 
     return Stream.of(
         Arguments.of(
-            Roaster.create(JavaClassSource.class),
-            Roaster.create(JavaClassSource.class),
+            new ClassModel("JavaClass"),
+            new ClassModel("JavaClass"),
             schema,
             new Components(),
             expected),
         Arguments.of(
-            Roaster.create(JavaClassSource.class),
-            Roaster.create(JavaClassSource.class),
+            new ClassModel("JavaClass"),
+            new ClassModel("JavaClass"),
             schema1,
             new Components(),
             expected1));
@@ -377,14 +379,14 @@ class JavaClassSourceUtilsTest {
   @ParameterizedTest
   @MethodSource("fillJavaClassSourceBySchemaTestArgProvider")
   void fillJavaClassSourceBySchemaTest(
-      JavaClassSource rootClassSource,
-      JavaClassSource classSource,
+      ClassModel rootClassModel,
+      ClassModel classModel,
       Schema<?> schema,
       Components components,
       JavaClassSource expected) {
     JavaClassSourceUtils.fillJavaClassSourceBySchema(
-        rootClassSource, classSource, schema, components);
-    assertEquals(expected.getFields().size(), classSource.getFields().size());
+        new GenerationContext(), rootClassModel, classModel, schema, components);
+    assertEquals(expected.getFields().size(), classModel.getFields().size());
   }
 
   @ParameterizedTest
@@ -0,0 +1,17 @@
+package io.github.oguzdem.openapi.generator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class JavaLiteralUtilsTest {
+
+  @Test
+  void toStringLiteralTest() {
+    assertEquals("\"a\\\\.b\\\"c\\n\"", JavaLiteralUtils.toStringLiteral("a\\.b\"c\n"));
+    assertEquals("\"\\1\\t\"", JavaLiteralUtils.toStringLiteral("\u0001\t"));
+  }
+}
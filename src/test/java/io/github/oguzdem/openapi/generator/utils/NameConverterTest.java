@@ -0,0 +1,84 @@
+package io.github.oguzdem.openapi.generator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Oguz Demirbasci
+ */
+class NameConverterTest {
+
+  private static final long SEED = 20_240_614L;
+  private static final int NAME_COUNT = 20_000;
+  private static final int MAX_NAME_LENGTH = 12;
+
+  private static final String SEPARATORS = " -_.$[]/";
+  // Non-ASCII letters, including ones that change their length when upper cased, and a surrogate
+  // pair
+  private static final String NON_ASCII =
+      "\u00e9\u00c4\u00df\u0131\u0130\u4e2d\u01c5\ud83d\ude00"; // e, A, ss, i, I, CJK, Dz, emoji
+  private static final List<String> ALPHABETS =
+      List.of("abcxyz", "ABCXYZ", "0189", SEPARATORS, NON_ASCII);
+
+  private static final List<String> NAMES = createNames();
+
+  @Test
+  void toEnumValueMatchesRegularExpressionsTest() {
+    assertMatches(LegacyNameUtils::toEnumValueFormat, NameConverter::toEnumValue);
+  }
+
+  @Test
+  void toJavaFieldNameMatchesRegularExpressionsTest() {
+    // The regular expressions fail on names without letters, digits and $, which the converter
+    // turns into a single underscore
+    assertMatches(
+        input -> orElse(LegacyNameUtils::toJavaFieldNameFormat, input, "_"),
+        NameConverter::toJavaFieldName);
+  }
+
+  @Test
+  void toJavaTypeNameMatchesRegularExpressionsTest() {
+    assertMatches(
+        input -> orElse(LegacyNameUtils::toJavaTypeNameFormat, input, ""),
+        input -> NameConverter.toJavaTypeName(NameConverter.toJavaFieldName(input)));
+  }
+
+  private static void assertMatches(
+      Function<String, String> expected, Function<String, String> actual) {
+    for (String name : NAMES) {
+      assertEquals(expected.apply(name), actual.apply(name), () -> "name: \"" + name + "\"");
+    }
+  }
+
+  private static String orElse(Function<String, String> conversion, String input, String other) {
+    try {
+      return conversion.apply(input);
+    } catch (StringIndexOutOfBoundsException e) {
+      return other;
+    }
+  }
+
+  private static List<String> createNames() {
+    Random random = new Random(SEED);
+    List<String> names = new ArrayList<>(NAME_COUNT);
+    for (int i = 0; i < NAME_COUNT; i++) {
+      int length = random.nextInt(MAX_NAME_LENGTH + 1);
+      // Every fifth name consists of separators only
+      boolean separatorsOnly = i % 5 == 0;
+      StringBuilder name = new StringBuilder(length * 2);
+      for (int j = 0; j < length; j++) {
+        String alphabet =
+            separatorsOnly ? SEPARATORS : ALPHABETS.get(random.nextInt(ALPHABETS.size()));
+        int[] codePoints = alphabet.codePoints().toArray();
+        name.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+      }
+      names.add(name.toString());
+    }
+    return names;
+  }
+}
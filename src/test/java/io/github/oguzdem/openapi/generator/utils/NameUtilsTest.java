@@ -29,7 +29,10 @@ class NameUtilsTest {
         Arguments.of("TEST_Value", "TEST_VALUE"),
         Arguments.of("123_test", "$123_TEST"),
         Arguments.of("123_test____value", "$123_TEST_VALUE"),
-        Arguments.of("_TEST_VALUE", "_TEST_VALUE"));
+        Arguments.of("_TEST_VALUE", "_TEST_VALUE"),
+        Arguments.of("XMLHttpRequest", "XML_HTTP_REQUEST"),
+        Arguments.of("userID", "USER_ID"),
+        Arguments.of("na\u00efveValue", "NA_VE_VALUE")); // i with diaeresis
   }
 
   public static Stream<Arguments> toJavaFieldNameFormatTestArgProvider() {
@@ -50,7 +53,10 @@ class NameUtilsTest {
         Arguments.of("123_test____value", "$123TestValue"),
         Arguments.of("_TEST_VALUE", "_TestValue"),
         Arguments.of("_TestValue", "_TestValue"),
-        Arguments.of("_____testValue", "_TestValue"));
+        Arguments.of("_____testValue", "_TestValue"),
+        Arguments.of("XMLHttpRequest", "xmlHttpRequest"),
+        Arguments.of("userID", "userId"),
+        Arguments.of("na\u00efveValue", "naVeValue")); // i with diaeresis
   }
 
   public static Stream<Arguments> toJavaTypeNameFormatTestArgProvider() {
@@ -71,7 +77,10 @@ class NameUtilsTest {
         Arguments.of("123_test____value", "$123TestValue"),
         Arguments.of("_TEST_VALUE", "TestValue"),
         Arguments.of("_TestValue", "TestValue"),
-        Arguments.of("_____testValue", "TestValue"));
+        Arguments.of("_____testValue", "TestValue"),
+        Arguments.of("XMLHttpRequest", "XmlHttpRequest"),
+        Arguments.of("userID", "UserId"),
+        Arguments.of("na\u00efveValue", "NaVeValue")); // i with diaeresis
   }
 
   public static Stream<Arguments> toJsonSubTypesListTestArgProvider() {
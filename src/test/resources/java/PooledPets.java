@@ -0,0 +1,113 @@
+package io.github.oguzdem.openapi.generated;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.ArrayList;
+import com.fasterxml.jackson.annotation.JsonMerge;
+import lombok.Setter;
+import lombok.AccessLevel;
+import java.util.Objects;
+import java.util.Map;
+import java.util.LinkedHashMap;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.ArrayDeque;
+import lombok.Generated;
+
+@Data
+@Generated
+public class PooledPets {
+
+	@JsonProperty("name")
+	String name;
+	@JsonProperty("count")
+	Integer count;
+	@JsonProperty("tags")
+	@JsonMerge
+	@Setter(AccessLevel.NONE)
+	List<String> tags = new ArrayList<>();
+	@JsonProperty("collar")
+	@JsonMerge
+	Collar collar;
+	@JsonProperty("additionalProperties")
+	@Setter(AccessLevel.NONE)
+	@JsonAnyGetter
+	@JsonAnySetter
+	Map<String, Object> additionalProperties = new LinkedHashMap<>();
+
+	public PooledPets() {
+		reset();
+	}
+
+	@Data
+	public static class Collar {
+
+		@JsonProperty("color")
+		String color;
+
+		public Collar() {
+			reset();
+		}
+
+		/**
+		 * Resets the instance to its state after construction. The fields are set to their defaults, or
+		 * to null without one, and the collections are cleared.
+		 * <p>A nested object that has been read is kept and reset in place instead of being set to null,
+		 * so a following read without it leaves it empty. An empty nested object does not tell whether
+		 * the JSON that has been read has it.
+		 */
+		public void reset() {
+			this.color = null;
+		}
+	}
+
+	@JsonIgnore
+	Map<String, Object> getAdditionalProperties() {
+		return this.additionalProperties;
+	}
+
+	/**
+	 * Resets the instance to its state after construction. The fields are set to their defaults, or
+	 * to null without one, and the collections are cleared.
+	 * <p>A nested object that has been read is kept and reset in place instead of being set to null,
+	 * so a following read without it leaves it empty. An empty nested object does not tell whether
+	 * the JSON that has been read has it.
+	 */
+	public void reset() {
+		this.name = null;
+		this.count = 5;
+		this.tags.clear();
+		if (Objects.nonNull(this.collar)) {
+			this.collar.reset();
+		}
+		this.additionalProperties.clear();
+	}
+
+	/**
+	 * Pool of reset instances, not thread safe.
+	 */
+	public static class PooledPetsPool {
+
+		private final ArrayDeque<PooledPets> instances;
+		private final int capacity;
+
+		public PooledPetsPool(int capacity) {
+			this.instances = new ArrayDeque<>(capacity);
+			this.capacity = capacity;
+		}
+
+		public PooledPets acquire() {
+			PooledPets instance = instances.pollLast();
+			return Objects.isNull(instance) ? new PooledPets() : instance;
+		}
+
+		public void release(PooledPets instance) {
+			if (instances.size() < capacity) {
+				instance.reset();
+				instances.addLast(instance);
+			}
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package io.github.oguzdem.openapi.generated;
+
+import lombok.Value;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+import java.util.Objects;
+import lombok.Generated;
+
+@Value
+@Generated
+public class PrimitiveNumericArrays {
+
+	@JsonProperty("intArray")
+	int[] intArray;
+	@JsonProperty("longArray")
+	long[] longArray;
+	@JsonProperty("floatArray")
+	float[] floatArray;
+	@JsonProperty("doubleArray")
+	double[] doubleArray;
+
+	@Builder
+	@Jacksonized
+	public PrimitiveNumericArrays(int[] intArray, long[] longArray, float[] floatArray,
+			double[] doubleArray) {
+		this.intArray = Objects.isNull(intArray) ? null : intArray.clone();
+		this.longArray = Objects.isNull(longArray) ? null : longArray.clone();
+		this.floatArray = Objects.isNull(floatArray) ? null : floatArray.clone();
+		this.doubleArray = Objects.isNull(doubleArray) ? null : doubleArray.clone();
+	}
+
+	public int[] getIntArray() {
+		return Objects.isNull(this.intArray) ? null : this.intArray.clone();
+	}
+
+	public long[] getLongArray() {
+		return Objects.isNull(this.longArray) ? null : this.longArray.clone();
+	}
+
+	public float[] getFloatArray() {
+		return Objects.isNull(this.floatArray) ? null : this.floatArray.clone();
+	}
+
+	public double[] getDoubleArray() {
+		return Objects.isNull(this.doubleArray) ? null : this.doubleArray.clone();
+	}
+}
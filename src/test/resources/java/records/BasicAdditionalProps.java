@@ -0,0 +1,16 @@
+package io.github.oguzdem.openapi.generated;
+
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import java.util.Objects;
+import java.util.Collections;
+import lombok.Generated;
+
+@Generated
+public record BasicAdditionalProps(@JsonAnyGetter @JsonAnySetter Map<String, Object> additionalProperties) {
+
+	public BasicAdditionalProps {
+		additionalProperties = Objects.isNull(additionalProperties) ? Map.of() : Collections.unmodifiableMap(additionalProperties);
+	}
+}
@@ -0,0 +1,19 @@
+package io.github.oguzdem.openapi.generated;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.NonNull;
+import java.util.Objects;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.constraints.Pattern;
+import lombok.Generated;
+
+@Generated
+public record DefaultStrings(@JsonProperty("simpleString") @NonNull String simpleString,
+		@JsonProperty("stringWithDefaultValue") String stringWithDefaultValue,
+		@JsonProperty("lengthLimitedString") @Size(min = 2, max = 4) String lengthLimitedString,
+		@JsonProperty("regexEmailString") @Pattern(regexp = "^((?!\\\\.)[\\\\w-_.]*[^.])(@\\\\w+)(\\\\.\\\\w+(\\\\.\\\\w+)?[^.\\\\W])$") String regexEmailString) {
+
+	public DefaultStrings {
+		stringWithDefaultValue = Objects.isNull(stringWithDefaultValue) ? "Default Str" : stringWithDefaultValue;
+	}
+}
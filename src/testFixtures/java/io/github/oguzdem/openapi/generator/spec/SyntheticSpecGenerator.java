@@ -0,0 +1,311 @@
+package io.github.oguzdem.openapi.generator.spec;
+
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Generates OpenAPI 3.0 specifications of configurable size and shape for scaling tests and
+ * benchmarks. The schemas are named <b>Resource[index]</b> and only refer to schemas with a lower
+ * index, so every specification can be generated. The same settings always produce the same
+ * specification.
+ *
+ * <p>Every schema has the configured number of scalar properties, an enum property, a nested inline
+ * object property and, unless it starts a new chain, <b>$ref</b> properties to the previous schema.
+ * The configured ratios of the schemas are <b>allOf</b> compositions of an earlier schema and an
+ * inline object, or <b>oneOf</b> interfaces of two earlier schemas. Every tenth schema is returned
+ * by a path.
+ *
+ * @author Oguz Demirbasci
+ */
+public final class SyntheticSpecGenerator {
+
+  private static final String SCHEMA_NAME_PREFIX = "Resource";
+  private static final int PATH_INTERVAL = 10;
+  private static final String[] PROPERTY_KINDS = {
+    "name", "count", "amount", "enabled", "createdAt", "uuid", "tags"
+  };
+
+  private final int schemaCount;
+  private final int propertyFanOut;
+  private final int refDepth;
+  private final double allOfRatio;
+  private final double oneOfRatio;
+  private final int enumSize;
+  private final int inlineNestingDepth;
+  private final long seed;
+
+  private SyntheticSpecGenerator(Builder builder) {
+    this.schemaCount = builder.schemaCount;
+    this.propertyFanOut = builder.propertyFanOut;
+    this.refDepth = builder.refDepth;
+    this.allOfRatio = builder.allOfRatio;
+    this.oneOfRatio = builder.oneOfRatio;
+    this.enumSize = builder.enumSize;
+    this.inlineNestingDepth = builder.inlineNestingDepth;
+    this.seed = builder.seed;
+  }
+
+  /**
+   * Factory method to create a new instance of the {@link Builder}.
+   *
+   * @return a new instance of the {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Generates the specification.
+   *
+   * @return the specification
+   */
+  public OpenAPI generate() {
+    Random random = new Random(seed);
+    Components components = new Components();
+    OpenAPI openApi =
+        new OpenAPI()
+            .info(new Info().title("Synthetic specification").version("1.0.0"))
+            .components(components)
+            .paths(new Paths());
+    List<Integer> objectIndexes = new ArrayList<>();
+    for (int i = 0; i < schemaCount; i++) {
+      String name = schemaName(i);
+      double kind = random.nextDouble();
+      if (objectIndexes.size() >= 2 && kind < oneOfRatio) {
+        components.addSchemas(name, createOneOfSchema(random, objectIndexes));
+      } else if (!objectIndexes.isEmpty() && kind < oneOfRatio + allOfRatio) {
+        components.addSchemas(name, createAllOfSchema(random, i, objectIndexes));
+      } else {
+        components.addSchemas(name, createObjectSchema(random, i));
+        objectIndexes.add(i);
+      }
+      if (i % PATH_INTERVAL == 0) {
+        openApi.path("/resources-%d/{id}".formatted(i), createPathItem(name));
+      }
+    }
+    return openApi;
+  }
+
+  /**
+   * Generates the specification and writes it as YAML to the given file.
+   *
+   * @param specFile the file to write the specification into
+   * @return the given file
+   */
+  public Path write(Path specFile) {
+    try {
+      Files.writeString(specFile, Yaml.pretty(generate()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Specification cannot be written: " + specFile, e);
+    }
+    return specFile;
+  }
+
+  private ObjectSchema createObjectSchema(Random random, int index) {
+    ObjectSchema schema = new ObjectSchema();
+    schema.setDescription("Synthetic resource " + index);
+    List<String> required = new ArrayList<>();
+    for (int p = 0; p < propertyFanOut; p++) {
+      String propertyName =
+          "property_%d_%s".formatted(p, PROPERTY_KINDS[p % PROPERTY_KINDS.length]);
+      schema.addProperty(propertyName, createScalarSchema(p));
+      if (random.nextBoolean()) {
+        required.add(propertyName);
+      }
+    }
+    if (enumSize > 0) {
+      schema.addProperty("status", createEnumSchema(enumSize));
+    }
+    if (inlineNestingDepth > 0) {
+      schema.addProperty("details", createInlineSchema(inlineNestingDepth));
+    }
+    if (refDepth > 0 && index % (refDepth + 1) != 0) {
+      schema
+          .addProperty("parent", ref(index - 1))
+          .addProperty("siblings", new ArraySchema().items(ref(index - 1)));
+    }
+    if (!required.isEmpty()) {
+      schema.setRequired(required);
+    }
+    return schema;
+  }
+
+  private Schema<?> createAllOfSchema(Random random, int index, List<Integer> objectIndexes) {
+    int base = objectIndexes.get(random.nextInt(objectIndexes.size()));
+    ObjectSchema extension = new ObjectSchema();
+    extension
+        .addProperty("extension_id", new UUIDSchema())
+        .addProperty("extension_note", new StringSchema().maxLength(255));
+    Schema<?> schema = new Schema<>().allOf(List.of(ref(base), extension));
+    schema.setDescription("Synthetic composition " + index);
+    return schema;
+  }
+
+  private Schema<?> createOneOfSchema(Random random, List<Integer> objectIndexes) {
+    int first = objectIndexes.get(random.nextInt(objectIndexes.size()));
+    int second = objectIndexes.get(random.nextInt(objectIndexes.size()));
+    if (first == second) {
+      second = objectIndexes.get((objectIndexes.indexOf(first) + 1) % objectIndexes.size());
+    }
+    return new Schema<>().oneOf(List.of(ref(first), ref(second)));
+  }
+
+  private static Schema<?> createScalarSchema(int propertyIndex) {
+    return switch (propertyIndex % PROPERTY_KINDS.length) {
+      case 0 -> new StringSchema().minLength(1).maxLength(128);
+      case 1 -> new IntegerSchema().minimum(BigDecimal.ZERO);
+      case 2 -> new NumberSchema().format("double");
+      case 3 -> new BooleanSchema();
+      case 4 -> new DateTimeSchema();
+      case 5 -> new UUIDSchema();
+      default -> new ArraySchema().items(new StringSchema());
+    };
+  }
+
+  private static Schema<?> createEnumSchema(int size) {
+    return new StringSchema()
+        ._enum(IntStream.range(0, size).mapToObj("VALUE_%d"::formatted).toList());
+  }
+
+  private static Schema<?> createInlineSchema(int depth) {
+    ObjectSchema schema = new ObjectSchema();
+    schema.addProperty("note", new StringSchema()).addProperty("priority", new IntegerSchema());
+    if (depth > 1) {
+      schema.addProperty("nested", createInlineSchema(depth - 1));
+    }
+    return schema;
+  }
+
+  private static PathItem createPathItem(String schemaName) {
+    ApiResponse response =
+        new ApiResponse()
+            .description("OK")
+            .content(
+                new Content()
+                    .addMediaType(
+                        "application/json",
+                        new MediaType()
+                            .schema(
+                                new Schema<>()
+                                    .$ref(Components.COMPONENTS_SCHEMAS_REF + schemaName))));
+    return new PathItem()
+        .get(
+            new Operation()
+                .operationId("get" + schemaName)
+                .responses(new ApiResponses().addApiResponse("200", response)));
+  }
+
+  private static Schema<?> ref(int index) {
+    return new Schema<>().$ref(Components.COMPONENTS_SCHEMAS_REF + schemaName(index));
+  }
+
+  private static String schemaName(int index) {
+    return SCHEMA_NAME_PREFIX + index;
+  }
+
+  /** Builder class to create a new instance of the {@link SyntheticSpecGenerator}. */
+  public static final class Builder {
+    private int schemaCount = 100;
+    private int propertyFanOut = 8;
+    private int refDepth = 3;
+    private double allOfRatio = 0.1;
+    private double oneOfRatio = 0.05;
+    private int enumSize = 5;
+    private int inlineNestingDepth = 1;
+    private long seed = 42;
+
+    private Builder() {}
+
+    /** Number of component schemas. */
+    public Builder schemaCount(int schemaCount) {
+      this.schemaCount = schemaCount;
+      return this;
+    }
+
+    /** Number of scalar properties of every object schema. */
+    public Builder propertyFanOut(int propertyFanOut) {
+      this.propertyFanOut = propertyFanOut;
+      return this;
+    }
+
+    /** Length of the <b>$ref</b> chains between the schemas, 0 for no references. */
+    public Builder refDepth(int refDepth) {
+      this.refDepth = refDepth;
+      return this;
+    }
+
+    /** Ratio of the schemas that are <b>allOf</b> compositions. */
+    public Builder allOfRatio(double allOfRatio) {
+      this.allOfRatio = allOfRatio;
+      return this;
+    }
+
+    /** Ratio of the schemas that are <b>oneOf</b> interfaces. */
+    public Builder oneOfRatio(double oneOfRatio) {
+      this.oneOfRatio = oneOfRatio;
+      return this;
+    }
+
+    /** Number of values of the enum property, 0 for no enum property. */
+    public Builder enumSize(int enumSize) {
+      this.enumSize = enumSize;
+      return this;
+    }
+
+    /** Nesting depth of the inline object property, 0 for no inline object. */
+    public Builder inlineNestingDepth(int inlineNestingDepth) {
+      this.inlineNestingDepth = inlineNestingDepth;
+      return this;
+    }
+
+    /** Seed of the random choices. */
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Build a new instance of the {@link SyntheticSpecGenerator}.
+     *
+     * @return a new instance of the {@link SyntheticSpecGenerator}
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public SyntheticSpecGenerator build() {
+      if (Math.min(Math.min(schemaCount, propertyFanOut), Math.min(refDepth, enumSize)) < 0
+          || inlineNestingDepth < 0) {
+        throw new IllegalArgumentException("Sizes of a synthetic specification cannot be negative");
+      }
+      if (allOfRatio < 0 || oneOfRatio < 0 || allOfRatio + oneOfRatio > 1) {
+        throw new IllegalArgumentException("Composition ratios must be between 0 and 1 in total");
+      }
+      return new SyntheticSpecGenerator(this);
+    }
+  }
+}
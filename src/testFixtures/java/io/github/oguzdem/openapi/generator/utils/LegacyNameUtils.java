@@ -0,0 +1,53 @@
+package io.github.oguzdem.openapi.generator.utils;
+
+import com.google.common.base.CaseFormat;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Regular expression based name conversion that {@link NameUtils} used before the single pass
+ * converter. It is kept as the baseline of {@code NameUtilsBenchmark} and as the reference of
+ * {@code NameConverterTest}.
+ *
+ * @author Oguz Demirbasci
+ */
+final class LegacyNameUtils {
+
+  private LegacyNameUtils() {}
+
+  static String toEnumValueFormat(String input) {
+    String camelCaseHandled =
+        input.replaceAll("([a-z])([A-Z])", "$1_$2").replaceAll("([A-Z])([A-Z][a-z])", "$1_$2");
+    String withUnderscores = camelCaseHandled.toUpperCase().replaceAll("[^A-Z0-9$_]", "_");
+    if (withUnderscores.matches("^[0-9].*+")) {
+      withUnderscores = "$" + withUnderscores;
+    }
+    return withUnderscores.replaceAll("_+", "_");
+  }
+
+  static String toJavaFieldNameFormat(String input) {
+    String camelCaseHandled =
+        input.replaceAll("([a-z])([A-Z])", "$1_$2").replaceAll("([A-Z])([A-Z][a-z])", "$1_$2");
+    String sanitized = camelCaseHandled.replaceAll("[^a-zA-Z0-9_$]", "_");
+    sanitized = sanitized.replaceAll("^(?:_+(\\d+)|(\\d+))", "\\$$1$2");
+    String preservedFirstChar = !sanitized.isEmpty() && sanitized.charAt(0) == '_' ? "_" : "";
+    String leadingUnderscoreRemoved = sanitized.replaceFirst("^_+", "");
+    String camelCased =
+        CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, leadingUnderscoreRemoved);
+    return StringUtils.isNotBlank(preservedFirstChar)
+        ? preservedFirstChar + camelCased.substring(0, 1).toUpperCase() + camelCased.substring(1)
+        : camelCased;
+  }
+
+  static String toJavaTypeNameFormat(String input) {
+    String fieldNameFormatted = toJavaFieldNameFormat(input);
+    if (StringUtils.isBlank(fieldNameFormatted)) {
+      return fieldNameFormatted;
+    }
+    if (fieldNameFormatted.startsWith("_")) {
+      fieldNameFormatted = fieldNameFormatted.substring(1);
+    }
+    return StringUtils.isNotBlank(fieldNameFormatted)
+        ? fieldNameFormatted.substring(0, 1).toUpperCase() + fieldNameFormatted.substring(1)
+        : fieldNameFormatted;
+  }
+}